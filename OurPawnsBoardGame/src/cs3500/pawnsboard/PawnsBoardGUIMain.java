@@ -5,16 +5,23 @@ import cs3500.pawnsboard.model.PawnsBoardVariantModel;
 import cs3500.pawnsboard.view.ModelAdapter;
 
 import cs3500.pawnsboard.controller.PawnsBoardGUIController;
+import cs3500.pawnsboard.controller.TurnScheduler;
 import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.CardRegistry;
 import cs3500.pawnsboard.model.DeckFileParser;
 import cs3500.pawnsboard.model.HumanPlayer;
 import cs3500.pawnsboard.model.MachinePlayer;
 import cs3500.pawnsboard.model.Player;
 import cs3500.pawnsboard.model.PlayerActions;
+import cs3500.pawnsboard.model.PlayerColor;
 import cs3500.pawnsboard.strategy.ControlBoardStrategy;
+import cs3500.pawnsboard.strategy.DeterminizedStrategy;
 import cs3500.pawnsboard.strategy.FillFirstStrategy;
+import cs3500.pawnsboard.strategy.IterativeDeepeningStrategy;
 import cs3500.pawnsboard.strategy.MaximizeRowScoreStrategy;
 import cs3500.pawnsboard.strategy.MiniMaxStrategy;
+import cs3500.pawnsboard.strategy.MonteCarloStrategy;
+import cs3500.pawnsboard.strategy.TranspositionTable;
 import cs3500.pawnsboard.view.PawnsBoardGUIView;
 import cs3500.pawnsboard.view.PawnsBoardGUIViewI;
 import cs3500.pawnsboard.view.ProviderViewAdapter;
@@ -24,20 +31,33 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.swing.SwingUtilities;
 
 /**
  * Main class for the game.
  * Command-line arguments:
  *   args[0] - path to Red's deck configuration file.
  *   args[1] - path to Blue's deck configuration file.
- *   args[2] - Red player type (human, controlboard, fillfirst, maximizerowscore, minimax).
+ *   args[2] - Red player type (human, controlboard, fillfirst, maximizerowscore, minimax,
+ *             mcts, sampled).
  *   args[3] - Blue player type (same valid types as above).
- *   args[4] (optional) - "provider" to use the provider view.
- *   args[5] (optional) - "variant" to use the variant model.
- *                      — you can pass both in any order.
+ *   args[4..] (optional, in any order):
+ *     "provider"  - use the provider view.
+ *     "variant"   - use the variant model.
+ *     "rows=N"    - number of board rows (default 5).
+ *     "cols=N"    - number of board columns, odd (default 5).
+ *     "hand=N"    - number of cards in each starting hand (default 4).
+ *     "time=N"    - milliseconds a minimax or mcts player may think per move (default 150).
  */
 public class PawnsBoardGUIMain {
 
+  private static final int DEFAULT_ROWS = 5;
+  private static final int DEFAULT_COLUMNS = 5;
+  private static final int DEFAULT_HAND_SIZE = 4;
+  private static final int DEFAULT_THINK_MILLIS = 150;
+
   /**
    * Main method to start the game.
    * @param args command-line arguments
@@ -49,9 +69,14 @@ public class PawnsBoardGUIMain {
     // parse optional flags
     boolean useProvider = false;
     boolean useVariant = false;
+    int rows = -1;
+    int columns = -1;
+    int handSize = -1;
+    int thinkMillis = -1;
     for (int i = 4; i < args.length; i++) {
       String flag = args[i].toLowerCase();
-      switch (flag) {
+      String name = flag.contains("=") ? flag.substring(0, flag.indexOf('=')) : flag;
+      switch (name) {
         case "provider":
           if (useProvider) {
             throw new IllegalArgumentException("Duplicate option: provider");
@@ -64,6 +89,30 @@ public class PawnsBoardGUIMain {
           }
           useVariant = true;
           break;
+        case "rows":
+          if (rows != -1) {
+            throw new IllegalArgumentException("Duplicate option: rows");
+          }
+          rows = parseOptionValue(args[i]);
+          break;
+        case "cols":
+          if (columns != -1) {
+            throw new IllegalArgumentException("Duplicate option: cols");
+          }
+          columns = parseOptionValue(args[i]);
+          break;
+        case "hand":
+          if (handSize != -1) {
+            throw new IllegalArgumentException("Duplicate option: hand");
+          }
+          handSize = parseOptionValue(args[i]);
+          break;
+        case "time":
+          if (thinkMillis != -1) {
+            throw new IllegalArgumentException("Duplicate option: time");
+          }
+          thinkMillis = parseOptionValue(args[i]);
+          break;
         default:
           // this should never happen because formatCheck already filtered invalid flags
           throw new IllegalArgumentException("Unknown option: " + args[i]);
@@ -71,29 +120,39 @@ public class PawnsBoardGUIMain {
     }
 
     // Load decks
-    List<Card> redDeck = parseDeck(args[0], /*mirror=*/false);
-    List<Card> blueDeck = parseDeck(args[1], /*mirror=*/true);
+    // both decks intern their cards in one registry, so identical cards are shared
+    CardRegistry registry = new CardRegistry();
+    List<Card> redDeck = parseDeck(args[0], /*mirror=*/false, registry);
+    List<Card> blueDeck = parseDeck(args[1], /*mirror=*/true, registry);
     if (isVariantDeck(redDeck) || isVariantDeck(blueDeck)) {
       useVariant = true;
     }
 
     int totalDeckSize = redDeck.size() + blueDeck.size();
+    rows = (rows == -1) ? DEFAULT_ROWS : rows;
+    columns = (columns == -1) ? DEFAULT_COLUMNS : columns;
+    handSize = (handSize == -1) ? DEFAULT_HAND_SIZE : handSize;
+    thinkMillis = (thinkMillis == -1) ? DEFAULT_THINK_MILLIS : thinkMillis;
+    if (handSize > Player.MAX_HAND_SIZE) {
+      throw new IllegalArgumentException("Hand size must be at most "
+              + Player.MAX_HAND_SIZE + ": " + handSize);
+    }
 
     // Instantiate either the base model or the variant model
     PawnsBoardModel model;
     if (useVariant) {
-      model = new PawnsBoardVariantModel(5, 5, totalDeckSize, 4);
+      model = new PawnsBoardVariantModel(rows, columns, totalDeckSize, handSize);
     } else {
-      model = new PawnsBoardModel(5, 5, totalDeckSize, 4);
+      model = new PawnsBoardModel(rows, columns, totalDeckSize, handSize);
     }
 
     // Wrap players around the model
-    Player redPlayer = new Player("red", redDeck, model);
-    Player bluePlayer = new Player("blue", blueDeck, model);
+    Player redPlayer = new Player(PlayerColor.RED, redDeck, model);
+    Player bluePlayer = new Player(PlayerColor.BLUE, blueDeck, model);
 
     // Create the corresponding PlayerActions
-    PlayerActions redActions = createPlayerActions(args[2], redPlayer);
-    PlayerActions blueActions = createPlayerActions(args[3], bluePlayer);
+    PlayerActions redActions = createPlayerActions(args[2], redPlayer, thinkMillis);
+    PlayerActions blueActions = createPlayerActions(args[3], bluePlayer, thinkMillis);
 
     // Create both GUI views
     PawnsBoardGUIViewI viewRed = new PawnsBoardGUIView(model, redPlayer);
@@ -113,14 +172,22 @@ public class PawnsBoardGUIMain {
       }
     }
 
-    // start both controllers
+    // start both controllers, sharing one scheduler so turns follow each other without nesting
+    TurnScheduler turns = new TurnScheduler();
     PawnsBoardGUIController redCtrl =
-            new PawnsBoardGUIController(model, viewRed, redPlayer, redActions);
+            new PawnsBoardGUIController(model, viewRed, redPlayer, redActions, turns);
     PawnsBoardGUIController blueCtrl =
-            new PawnsBoardGUIController(model, viewBlue, bluePlayer, blueActions);
+            new PawnsBoardGUIController(model, viewBlue, bluePlayer, blueActions, turns);
+
+    // a machine playing a human thinks ahead while the human does
+    redCtrl.setPondering(args[3].equalsIgnoreCase("human"));
+    blueCtrl.setPondering(args[2].equalsIgnoreCase("human"));
 
-    redCtrl.runGame();
-    blueCtrl.runGame();
+    // the event thread owns the model from here on; machine moves are chosen off it
+    SwingUtilities.invokeLater(() -> {
+      redCtrl.runGame();
+      blueCtrl.runGame();
+    });
   }
 
 
@@ -131,11 +198,11 @@ public class PawnsBoardGUIMain {
                       "  redDeckPath, blueDeckPath, redPlayerType, bluePlayerType"
       );
     }
-    if (args.length > 6) {
+    if (args.length > 10) {
       throw new IllegalArgumentException(
-              "Expected at most 6 arguments:\n" +
+              "Expected at most 10 arguments:\n" +
                       "  redDeckPath, blueDeckPath, redPlayerType, bluePlayerType, [provider], " +
-                      "[variant]"
+                      "[variant], [rows=N], [cols=N], [hand=N], [time=N]"
       );
     }
 
@@ -149,7 +216,8 @@ public class PawnsBoardGUIMain {
 
     // Validate player types
     List<String> validTypes = List.of(
-            "human", "controlboard", "fillfirst", "maximizerowscore", "minimax"
+            "human", "controlboard", "fillfirst", "maximizerowscore", "minimax", "mcts",
+            "sampled"
     );
     if (!validTypes.contains(args[2].toLowerCase())) {
       throw new IllegalArgumentException(
@@ -167,20 +235,45 @@ public class PawnsBoardGUIMain {
     // Validate any optional flags
     for (int i = 4; i < args.length; i++) {
       String opt = args[i].toLowerCase();
-      if (!opt.equals("provider") && !opt.equals("variant")) {
+      if (opt.startsWith("rows=") || opt.startsWith("cols=") || opt.startsWith("hand=")
+              || opt.startsWith("time=")) {
+        parseOptionValue(args[i]);
+      }
+      else if (!opt.equals("provider") && !opt.equals("variant")) {
         throw new IllegalArgumentException(
                 "Unknown option: " + args[i] +
-                        ". Valid options are 'provider' and 'variant'."
+                        ". Valid options are 'provider', 'variant', 'rows=N', 'cols=N', " +
+                        "'hand=N' and 'time=N'."
         );
       }
     }
   }
 
+  /**
+   * Reads the positive number after the '=' of a "name=N" option.
+   * @param option the option as given on the command line.
+   * @return the option's value.
+   * @throws IllegalArgumentException if the value is not a positive integer.
+   */
+  private static int parseOptionValue(String option) {
+    String value = option.substring(option.indexOf('=') + 1);
+    try {
+      int parsed = Integer.parseInt(value);
+      if (parsed > 0) {
+        return parsed;
+      }
+    } catch (NumberFormatException e) {
+      // fall through to the error below
+    }
+    throw new IllegalArgumentException("Option " + option + " needs a positive integer value.");
+  }
+
 
-  private static List<Card> parseDeck(String deckFilePath, boolean mirror) {
+  private static List<Card> parseDeck(String deckFilePath, boolean mirror,
+                                      CardRegistry registry) {
     try {
       String content = Files.readString(Paths.get(deckFilePath));
-      DeckFileParser parser = new DeckFileParser();
+      DeckFileParser parser = new DeckFileParser(registry);
       List<Card> deck = parser.toDeck(content, mirror);
       Collections.shuffle(deck);
       return deck;
@@ -190,7 +283,8 @@ public class PawnsBoardGUIMain {
   }
 
 
-  private static PlayerActions createPlayerActions(String playerType, Player player) {
+  private static PlayerActions createPlayerActions(String playerType, Player player,
+                                                   int thinkMillis) {
     switch (playerType.toLowerCase()) {
       case "human":
         return new HumanPlayer(player);
@@ -201,7 +295,23 @@ public class PawnsBoardGUIMain {
       case "maximizerowscore":
         return new MachinePlayer(player, new MaximizeRowScoreStrategy());
       case "minimax":
-        return new MachinePlayer(player, new MiniMaxStrategy());
+        // deepen the search for as long as the time budget allows, sharing the moves at the
+        // root out among the cores
+        MiniMaxStrategy search = new MiniMaxStrategy(MiniMaxStrategy.DEFAULT_DEPTH,
+                new TranspositionTable(MiniMaxStrategy.DEFAULT_TABLE_SIZE),
+                ForkJoinPool.commonPool());
+        return new MachinePlayer(player, new IterativeDeepeningStrategy(search, thinkMillis));
+      case "mcts":
+        // play out as many games as the time budget allows, one tree per core
+        return new MachinePlayer(player, new MonteCarloStrategy(Integer.MAX_VALUE, thinkMillis,
+                MonteCarloStrategy.Playout.RANDOM, ForkJoinPool.commonPool(),
+                System.nanoTime()));
+      case "sampled":
+        // vote over games dealt from the cards this player cannot see, instead of peeking
+        return new MachinePlayer(player, new DeterminizedStrategy(
+                () -> new MiniMaxStrategy(MiniMaxStrategy.DEFAULT_DEPTH),
+                DeterminizedStrategy.DEFAULT_SAMPLES, ForkJoinPool.commonPool(),
+                System.nanoTime()));
       default:
         // formatCheck should have caught this already
         throw new IllegalArgumentException("Invalid player type: " + playerType);
@@ -211,11 +321,10 @@ public class PawnsBoardGUIMain {
   private static boolean isVariantDeck(List<Card> deck) {
     boolean variantDeck = false;
     for (Card card : deck) {
-      char[][] grid = card.getInfluenceGrid();
-      // Iterate through the 2D array to check for 'U' or 'D'
-      for (int i = 0; i < grid.length; i++) {
-        for (int j = 0; j < grid[i].length; j++) {
-          if (grid[i][j] == 'U' || grid[i][j] == 'D') {
+      // Iterate through the card's influence entries to check for 'U' or 'D'
+      for (int i = 0; i < 5; i++) {
+        for (int j = 0; j < 5; j++) {
+          if (card.getInfluenceAt(i, j) == 'U' || card.getInfluenceAt(i, j) == 'D') {
             variantDeck = true;
             break;
           }
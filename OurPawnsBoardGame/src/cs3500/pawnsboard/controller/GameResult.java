@@ -0,0 +1,107 @@
+package cs3500.pawnsboard.controller;
+
+import java.util.Objects;
+
+import cs3500.pawnsboard.model.PlayerColor;
+
+/**
+ * The outcome of a game played by a {@link GameRunner}: the winner, both final scores, and how
+ * long the game took in turns. Results are immutable and compare by value.
+ */
+public final class GameResult {
+
+  private final PlayerColor winner;
+  private final int redScore;
+  private final int blueScore;
+  private final int turns;
+  private final int cardsPlayed;
+
+  /**
+   * Creates a result.
+   * @param redScore Red's final score.
+   * @param blueScore Blue's final score.
+   * @param turns the number of turns played, passes included.
+   * @param cardsPlayed the number of cards placed.
+   * @throws IllegalArgumentException if a count is negative or more cards were played than
+   *     turns.
+   */
+  public GameResult(int redScore, int blueScore, int turns, int cardsPlayed) {
+    if (redScore < 0 || blueScore < 0 || cardsPlayed < 0 || turns < cardsPlayed) {
+      throw new IllegalArgumentException("Invalid game result.");
+    }
+    this.redScore = redScore;
+    this.blueScore = blueScore;
+    this.turns = turns;
+    this.cardsPlayed = cardsPlayed;
+    if (redScore > blueScore) {
+      this.winner = PlayerColor.RED;
+    }
+    else if (blueScore > redScore) {
+      this.winner = PlayerColor.BLUE;
+    }
+    else {
+      this.winner = PlayerColor.NONE;
+    }
+  }
+
+  /**
+   * Returns the winner.
+   * @return RED or BLUE, or NONE for a tie.
+   */
+  public PlayerColor getWinner() {
+    return winner;
+  }
+
+  /**
+   * Returns a player's final score.
+   * @param color the player's color (RED or BLUE).
+   * @return that player's score, or 0 for any other color.
+   */
+  public int getScore(PlayerColor color) {
+    if (color == PlayerColor.RED) {
+      return redScore;
+    }
+    return (color == PlayerColor.BLUE) ? blueScore : 0;
+  }
+
+  /**
+   * Returns the number of turns played, passes included.
+   * @return the number of turns.
+   */
+  public int getTurns() {
+    return turns;
+  }
+
+  /**
+   * Returns the number of cards placed over the game.
+   * @return the number of cards played.
+   */
+  public int getCardsPlayed() {
+    return cardsPlayed;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof GameResult)) {
+      return false;
+    }
+    GameResult that = (GameResult) other;
+    return redScore == that.redScore && blueScore == that.blueScore && turns == that.turns
+            && cardsPlayed == that.cardsPlayed;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(redScore, blueScore, turns, cardsPlayed);
+  }
+
+  @Override
+  public String toString() {
+    String outcome = (winner == PlayerColor.NONE) ? "tie" : winner + " wins";
+    return outcome + " " + redScore + "-" + blueScore + " in " + turns + " turns ("
+            + cardsPlayed + " cards)";
+  }
+}
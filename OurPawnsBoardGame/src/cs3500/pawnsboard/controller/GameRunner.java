@@ -0,0 +1,90 @@
+package cs3500.pawnsboard.controller;
+
+import cs3500.pawnsboard.model.MoveList;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.PlayerActions;
+import cs3500.pawnsboard.model.PlayerColor;
+import cs3500.pawnsboard.model.PlayerI;
+
+/**
+ * Plays whole games between two machine players with no view, for batch simulations and
+ * benchmarks. A runner uses nothing from AWT or Swing, so a program that only runs games never
+ * loads them.
+ *
+ * <p>Turns follow the same rules as the GUI controller: the player to move draws a card, passes
+ * if it has no legal move, and otherwise plays the move its {@link PlayerActions} chooses. Moves
+ * are played with {@link PawnsBoardModel#makeMove} and {@link PawnsBoardModel#makePass}, which
+ * neither print nor notify listeners, and {@link PawnsBoardModel#commit() committed} at once, in
+ * a plain loop, so a game costs little more than its players' thinking and keeps no undo
+ * history. A runner can play any number of games, one after another; it is not
+ * thread-safe, so games played in parallel need a runner each.
+ */
+public final class GameRunner {
+
+  private final PlayerActions red;
+  private final PlayerActions blue;
+  private final MoveList legalMoves;
+
+  /**
+   * Creates a runner for two machine players.
+   * @param red the Red player's actions.
+   * @param blue the Blue player's actions.
+   * @throws IllegalArgumentException if either player is null, has the wrong color, or is not a
+   *     machine player.
+   */
+  public GameRunner(PlayerActions red, PlayerActions blue) {
+    if (red == null || blue == null) {
+      throw new IllegalArgumentException("Players cannot be null.");
+    }
+    if (red.getColor() != PlayerColor.RED || blue.getColor() != PlayerColor.BLUE) {
+      throw new IllegalArgumentException("Players must be Red and Blue, in that order.");
+    }
+    if (!red.humanOrMachine().equals("machine") || !blue.humanOrMachine().equals("machine")) {
+      throw new IllegalArgumentException("Headless games need machine players.");
+    }
+    this.red = red;
+    this.blue = blue;
+    this.legalMoves = new MoveList();
+  }
+
+  /**
+   * Plays a game from the model's current position to the end.
+   * @param model the game, with both players registered; it is played on in place, and its
+   *     moves cannot be undone afterwards.
+   * @return the outcome of the game.
+   * @throws IllegalArgumentException if the model is null or a player is not registered with it.
+   * @throws IllegalStateException if a player chooses a move that is not allowed.
+   */
+  public GameResult play(PawnsBoardModel model) {
+    if (model == null) {
+      throw new IllegalArgumentException("Model cannot be null.");
+    }
+    if (model.getPlayer(PlayerColor.RED) == null || model.getPlayer(PlayerColor.BLUE) == null) {
+      throw new IllegalArgumentException("Both players must be registered with the model.");
+    }
+    int turns = 0;
+    int cardsPlayed = 0;
+    while (!model.isGameOver()) {
+      PlayerColor color = model.getCurrentPlayerColor();
+      PlayerI player = model.getPlayer(color);
+      player.drawCard();
+      player.getLegalMoves(legalMoves);
+      int move = MoveList.NO_MOVE;
+      if (!legalMoves.isEmpty()) {
+        move = ((color == PlayerColor.RED) ? red : blue).getNextMove(model);
+      }
+      if (move == MoveList.NO_MOVE) {
+        model.makePass();
+      }
+      else {
+        model.makeMove(player, MoveList.row(move), MoveList.col(move), MoveList.cardIndex(move));
+        cardsPlayed++;
+      }
+      // the turn is final, so its undo record is dropped rather than kept for the whole game
+      model.commit();
+      turns++;
+    }
+    int[] scores = model.computeScores();
+    return new GameResult(scores[0], scores[1], turns, cardsPlayed);
+  }
+}
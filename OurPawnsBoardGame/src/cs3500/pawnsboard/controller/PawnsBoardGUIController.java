@@ -2,13 +2,21 @@ package cs3500.pawnsboard.controller;
 
 
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
 
 import cs3500.pawnsboard.model.ModelStatusListener;
 import cs3500.pawnsboard.model.Move;
+import cs3500.pawnsboard.model.MoveList;
 import cs3500.pawnsboard.model.PawnsBoardModel;
 import cs3500.pawnsboard.model.Player;
 import cs3500.pawnsboard.model.PlayerActions;
+import cs3500.pawnsboard.model.PlayerColor;
 import cs3500.pawnsboard.view.PawnsBoardGUIViewI;
 import cs3500.pawnsboard.view.ViewFeatures;
 
@@ -20,6 +28,22 @@ import cs3500.pawnsboard.view.ViewFeatures;
  * This controller implements both {@link PawnsBoardGUIControllerI} and {@link ViewFeatures} to
  * ensure proper
  * communication with the model and view.
+ * <p>
+ * A machine player's move is chosen on a search executor, on a copy of the game, so the views
+ * keep repainting (and show that the player is thinking) in the meantime. The chosen move is then
+ * handed back to the model thread, the Swing event thread by default, and played there unless
+ * the move was cancelled or the game moved on in the meantime.
+ * </p>
+ * <p>
+ * Turn changes are handled through a {@link TurnScheduler}, so a turn that ends inside the
+ * handling of another (as when a machine move or an automatic pass follows the previous move)
+ * is handled after it instead of inside it, and the stack does not grow with the game.
+ * </p>
+ * <p>
+ * With pondering on (see {@link #setPondering}), a machine player also uses the opponent's turn
+ * to choose its answers to the opponent's likeliest replies, and plays a pondered answer as soon
+ * as its turn starts in one of those positions.
+ * </p>
  */
 public class PawnsBoardGUIController implements PawnsBoardGUIControllerI, ViewFeatures,
         ModelStatusListener {
@@ -27,19 +51,73 @@ public class PawnsBoardGUIController implements PawnsBoardGUIControllerI, ViewFe
   private final PawnsBoardGUIViewI view;
   private final Player player;
   private final PlayerActions playerActions;
+  private final ExecutorService searchExecutor;
+  private final Executor modelThread;
+  private final TurnScheduler turns;
+  // the search in progress, and a count of requested moves so that stale results can be ignored
+  private Future<?> pendingMove;
+  private long moveRequests;
+  // the same for pondering during the opponent's turn; ponderer is null when not pondering
+  private Ponderer ponderer;
+  private Future<?> pendingPonder;
+  private long ponderRequests;
 
   /**
-   * Constructs the GUI controller and registers it with the view.
+   * Constructs the GUI controller and registers it with the view. Machine moves are chosen on a
+   * thread of this controller's own and played on the Swing event thread, and turn changes are
+   * scheduled by a scheduler of this controller's own.
    *
    * @param model the game model
    * @param view  the GUI view
    */
   public PawnsBoardGUIController(PawnsBoardModel model, PawnsBoardGUIViewI view, Player player,
                                  PlayerActions playerActions) {
+    this(model, view, player, playerActions, new TurnScheduler());
+  }
+
+  /**
+   * Constructs the GUI controller and registers it with the view. Machine moves are chosen on a
+   * thread of this controller's own and played on the Swing event thread.
+   *
+   * @param model the game model
+   * @param view  the GUI view
+   * @param player the player this controller moves for
+   * @param playerActions how the player chooses its moves
+   * @param turns the scheduler of turn changes, shared by the controllers of the game
+   * @throws IllegalArgumentException if the scheduler is null
+   */
+  public PawnsBoardGUIController(PawnsBoardModel model, PawnsBoardGUIViewI view, Player player,
+                                 PlayerActions playerActions, TurnScheduler turns) {
+    this(model, view, player, playerActions, newSearchExecutor(player.getColor()),
+            SwingUtilities::invokeLater, turns);
+  }
+
+  /**
+   * Constructs the GUI controller and registers it with the view.
+   *
+   * @param model the game model
+   * @param view  the GUI view
+   * @param player the player this controller moves for
+   * @param playerActions how the player chooses its moves
+   * @param searchExecutor the executor machine moves are chosen on
+   * @param modelThread the executor chosen moves are played on; it must run tasks on the thread
+   *     that owns the model and the view
+   * @param turns the scheduler of turn changes, shared by the controllers of the game
+   * @throws IllegalArgumentException if either executor or the scheduler is null
+   */
+  public PawnsBoardGUIController(PawnsBoardModel model, PawnsBoardGUIViewI view, Player player,
+                                 PlayerActions playerActions, ExecutorService searchExecutor,
+                                 Executor modelThread, TurnScheduler turns) {
+    if (searchExecutor == null || modelThread == null || turns == null) {
+      throw new IllegalArgumentException("Executors and scheduler cannot be null.");
+    }
     this.model = model;
     this.view = view;
     this.player = player;
     this.playerActions = playerActions;
+    this.searchExecutor = searchExecutor;
+    this.modelThread = modelThread;
+    this.turns = turns;
     this.view.addFeatureListener(this);
     // Register as a listener for model-status events:
     this.model.addModelStatusListener(this);
@@ -47,17 +125,171 @@ public class PawnsBoardGUIController implements PawnsBoardGUIControllerI, ViewFe
 
   public void runGame() {
     this.view.display(true);
-    updateGameState();
+    turns.execute(this::updateGameState);
   }
 
+  /**
+   * Starts choosing a machine player's move on the search executor. The strategy searches its
+   * own copy of the game, so the views can keep reading the live one.
+   */
   private void makeAIMove() {
+    if (!playerActions.humanOrMachine().equals("machine")) {
+      // human players move through the view
+      return;
+    }
+    cancelAIMove();
+    stopPondering();
+    long position = model.getStateHash();
+    if (ponderer != null) {
+      int answer = ponderer.answerFor(position);
+      if (answer != Ponderer.NO_ANSWER) {
+        // the opponent played a pondered reply: answer once this event is over, without searching
+        long request = ++moveRequests;
+        modelThread.execute(() -> playAIMove(request, position, answer));
+        return;
+      }
+    }
+    PawnsBoardModel snapshot = model.copy();
+    long request = ++moveRequests;
+    view.setThinking(true);
+    pendingMove = searchExecutor.submit(() -> {
+      try {
+        int move = playerActions.getNextMove(snapshot);
+        modelThread.execute(() -> playAIMove(request, position, move));
+      } catch (RuntimeException e) {
+        modelThread.execute(() -> failAIMove(request, e));
+      }
+    });
+  }
+
+  /**
+   * Plays a chosen machine move on the model thread, unless it was cancelled or the game is no
+   * longer in the position it was chosen for.
+   */
+  private void playAIMove(long request, long position, int move) {
+    if (request != moveRequests) {
+      return;
+    }
+    if (pendingMove != null) {
+      pendingMove = null;
+      view.setThinking(false);
+    }
+    if (model.isGameOver() || model.getCurrentPlayerColor() != player.getColor()
+            || model.getStateHash() != position) {
+      return;
+    }
     // can add delays and highlighting view to make it seem like really playing
-    Move aiMove = playerActions.getNextMove(model);
+    // strategies work with packed moves; this is where one becomes a Move object
+    Move aiMove = MoveList.toMove(move);
     if (aiMove != null) {
       player.placeCard(aiMove.getRow(), aiMove.getCol(), aiMove.getCardIndex());
-    } else if (playerActions.humanOrMachine().equals("machine")) {
+    } else {
       passTurn();
     }
+    view.clearSelectedCard();
+    view.clearSelectedCell();
+    view.refresh();
+  }
+
+  /**
+   * Reports a strategy that failed on the model thread, as if it had failed there.
+   */
+  private void failAIMove(long request, RuntimeException e) {
+    if (request != moveRequests) {
+      return;
+    }
+    pendingMove = null;
+    view.setThinking(false);
+    throw e;
+  }
+
+  /**
+   * Cancels the machine move being chosen, if any: the search is interrupted and its result, if
+   * it still arrives, is ignored. Must be called on the model thread.
+   */
+  public void cancelAIMove() {
+    moveRequests++;
+    if (pendingMove != null) {
+      pendingMove.cancel(true);
+      pendingMove = null;
+      view.setThinking(false);
+    }
+  }
+
+  /**
+   * Returns whether a machine move is being chosen.
+   * @return true while a search is in progress.
+   */
+  public boolean isThinking() {
+    return pendingMove != null;
+  }
+
+  /**
+   * Turns pondering on or off. With pondering on, a machine player chooses its answers to the
+   * opponent's likeliest replies while the opponent thinks (see {@link Ponderer}), so that it can
+   * answer those replies at once. Pondering shares the player's search executor, which must run
+   * one task at a time, as the default executor does; a ponder search is interrupted as soon as
+   * the opponent moves, so the player's own search starts without waiting for it. Human players
+   * never ponder.
+   * @param pondering true to ponder during the opponent's turns.
+   */
+  public void setPondering(boolean pondering) {
+    stopPondering();
+    boolean machine = playerActions.humanOrMachine().equals("machine");
+    this.ponderer = (pondering && machine) ? new Ponderer(playerActions) : null;
+  }
+
+  /**
+   * Returns whether the player is pondering the opponent's replies.
+   * @return true while pondering is in progress.
+   */
+  public boolean isPondering() {
+    return pendingPonder != null;
+  }
+
+  /**
+   * Starts pondering the opponent's replies on the search executor. This runs after the turn
+   * change has reached every listener, so the opponent has already drawn its card.
+   */
+  private void startPondering() {
+    if (ponderer == null || pendingPonder != null || model.isGameOver()
+            || model.getCurrentPlayerColor() == player.getColor()) {
+      return;
+    }
+    PawnsBoardModel snapshot = model.copy();
+    long request = ++ponderRequests;
+    Ponderer current = ponderer;
+    pendingPonder = searchExecutor.submit(() -> {
+      current.ponder(snapshot);
+      modelThread.execute(() -> {
+        if (request == ponderRequests) {
+          pendingPonder = null;
+        }
+      });
+    });
+  }
+
+  /**
+   * Interrupts pondering, keeping the answers found so far.
+   */
+  private void stopPondering() {
+    ponderRequests++;
+    if (pendingPonder != null) {
+      pendingPonder.cancel(true);
+      pendingPonder = null;
+    }
+  }
+
+  /**
+   * Creates a single daemon thread to choose one player's moves on, so an unfinished search
+   * never keeps the program running.
+   */
+  private static ExecutorService newSearchExecutor(PlayerColor color) {
+    return Executors.newSingleThreadExecutor(task -> {
+      Thread thread = new Thread(task, "pawnsboard-ai-" + color);
+      thread.setDaemon(true);
+      return thread;
+    });
   }
 
   private void updateGameState() {
@@ -65,7 +297,7 @@ public class PawnsBoardGUIController implements PawnsBoardGUIControllerI, ViewFe
       view.refresh();
       return;
     }
-    if (model.getCurrentPlayerColor().equals(player.getColor())) {
+    if (model.getCurrentPlayerColor() == player.getColor()) {
       player.drawCard();
       this.view.display(true);
       // checkAutoPass checks as well as triggers the pass if necessary
@@ -78,6 +310,9 @@ public class PawnsBoardGUIController implements PawnsBoardGUIControllerI, ViewFe
       view.refresh();
     } else {
       this.view.display(false);
+      if (ponderer != null) {
+        modelThread.execute(this::startPondering);
+      }
     }
   }
 
@@ -121,12 +356,15 @@ public class PawnsBoardGUIController implements PawnsBoardGUIControllerI, ViewFe
 
   @Override
   public void turnChanged() {
-    updateGameState();
+    // handled after the event that changed the turn, if one is running
+    turns.execute(this::updateGameState);
   }
 
   @Override
   public void gameOver(String result) {
-    if (model.getCurrentPlayerColor().equals(player.getColor())) {
+    cancelAIMove();
+    stopPondering();
+    if (model.getCurrentPlayerColor() == player.getColor()) {
       System.out.println("Game over: " + result);
       view.refresh();
     }
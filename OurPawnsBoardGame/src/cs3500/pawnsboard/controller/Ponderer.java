@@ -0,0 +1,175 @@
+package cs3500.pawnsboard.controller;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cs3500.pawnsboard.model.Board;
+import cs3500.pawnsboard.model.MoveList;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.PlayerActions;
+import cs3500.pawnsboard.model.PlayerColor;
+import cs3500.pawnsboard.model.PlayerI;
+
+/**
+ * Lets a machine player think during its opponent's turn. Given the position the opponent is to
+ * move in, a ponderer guesses the opponent's likeliest replies, plays each one out on a copy of
+ * the game up to the start of the machine's next turn (including the card it will draw), and
+ * chooses the machine's move there in advance. The answers are kept by the
+ * {@link PawnsBoardModel#getStateHash() state hash} of the position they were chosen for, so
+ * when the opponent plays one of the guessed replies, the machine can answer at once.
+ *
+ * <p>Replies are guessed by how many cells the opponent would own more than the machine right
+ * after the reply, and then by the opponent's score in the reply's row; passing is guessed last.
+ * Pondering runs on the machine player's search thread and stops between replies once that
+ * thread is interrupted. Answers can be read from any thread.
+ */
+public final class Ponderer {
+
+  /**
+   * The number of replies pondered per turn when no other number is given.
+   */
+  public static final int DEFAULT_REPLIES = 8;
+
+  /**
+   * The value returned by {@link #answerFor} for a position that was not pondered.
+   */
+  public static final int NO_ANSWER = Integer.MIN_VALUE;
+
+  private static final int LEAD_LIMIT = 1 << 24;
+
+  private final PlayerActions machine;
+  private final int maxReplies;
+  private final Map<Long, Integer> answers;
+  private final MoveList replies;
+  private long[] keys;
+
+  /**
+   * Creates a ponderer that considers up to {@link #DEFAULT_REPLIES} replies per turn.
+   * @param machine the machine player to choose answers for.
+   * @throws IllegalArgumentException if the player is null.
+   */
+  public Ponderer(PlayerActions machine) {
+    this(machine, DEFAULT_REPLIES);
+  }
+
+  /**
+   * Creates a ponderer.
+   * @param machine the machine player to choose answers for.
+   * @param maxReplies the largest number of opponent replies to ponder per turn.
+   * @throws IllegalArgumentException if the player is null or the number of replies is not
+   *     positive.
+   */
+  public Ponderer(PlayerActions machine, int maxReplies) {
+    if (machine == null) {
+      throw new IllegalArgumentException("Machine player cannot be null.");
+    }
+    if (maxReplies < 1) {
+      throw new IllegalArgumentException("Number of replies must be positive.");
+    }
+    this.machine = machine;
+    this.maxReplies = maxReplies;
+    this.answers = new ConcurrentHashMap<>();
+    this.replies = new MoveList();
+    this.keys = new long[64];
+  }
+
+  /**
+   * Forgets the answers of the last turn and ponders the opponent's replies in a new position,
+   * until enough replies are answered or the calling thread is interrupted. The answer of a
+   * search that was interrupted is not kept, since it may have been cut short.
+   * @param game a copy of the game in which the machine's opponent is to move; it is not changed.
+   */
+  public void ponder(PawnsBoardModel game) {
+    answers.clear();
+    PlayerColor color = machine.getColor();
+    PlayerI opponent = game.getPlayer(color.opponent());
+    if (game.isGameOver() || game.getCurrentPlayerColor() != color.opponent()
+            || opponent == null) {
+      return;
+    }
+    guessReplies(game, opponent);
+
+    // the likeliest replies first, then passing
+    int pondered = 0;
+    for (int i = 0; i <= replies.size() && pondered < maxReplies; i++) {
+      if (Thread.currentThread().isInterrupted()) {
+        return;
+      }
+      PawnsBoardModel position = game.copy();
+      if (i < replies.size()) {
+        int reply = replies.get(i);
+        position.makeMove(position.getPlayer(color.opponent()), MoveList.row(reply),
+                MoveList.col(reply), MoveList.cardIndex(reply));
+      }
+      else {
+        position.makePass();
+      }
+      pondered++;
+      if (position.isGameOver()) {
+        continue;
+      }
+      PlayerI self = position.getPlayer(color);
+      if (self != null) {
+        // the machine draws before it chooses, exactly as its own turn will start
+        self.drawCard();
+      }
+      long key = position.getStateHash();
+      int answer = machine.getNextMove(position);
+      if (!Thread.currentThread().isInterrupted()) {
+        answers.put(key, answer);
+      }
+    }
+  }
+
+  /**
+   * Returns the pondered move for a position, if the position was pondered.
+   * @param stateHash the state hash of the position, with the machine to move.
+   * @return the pondered packed move (or {@link MoveList#NO_MOVE} to pass), or
+   *     {@link #NO_ANSWER} if the position was not pondered.
+   */
+  public int answerFor(long stateHash) {
+    Integer answer = answers.get(stateHash);
+    return (answer == null) ? NO_ANSWER : answer;
+  }
+
+  /**
+   * Returns the number of positions answered so far this turn.
+   * @return the number of pondered answers.
+   */
+  public int getAnswerCount() {
+    return answers.size();
+  }
+
+  /**
+   * Lists the opponent's legal moves into {@code replies}, the likeliest first. Each reply is
+   * tried on the game with make/undo, and moves that rank the same keep their legal order.
+   */
+  private void guessReplies(PawnsBoardModel game, PlayerI opponent) {
+    opponent.getLegalMoves(replies);
+    int size = replies.size();
+    if (keys.length < size) {
+      keys = new long[Math.max(size, keys.length * 2)];
+    }
+    PlayerColor color = opponent.getColor();
+    Board board = game.getBoard();
+    int[] original = new int[size];
+    for (int i = 0; i < size; i++) {
+      int reply = replies.get(i);
+      original[i] = reply;
+      int row = MoveList.row(reply);
+      game.makeMove(opponent, row, MoveList.col(reply), MoveList.cardIndex(reply));
+      // the lead in owned cells, clamped so that the row score fits below it
+      int lead = board.countOwned(color) - board.countOwned(color.opponent());
+      lead = Math.max(-LEAD_LIMIT, Math.min(LEAD_LIMIT, lead));
+      int rank = lead * 64 + Math.min(board.getRowScore(row, color), 63);
+      game.undo();
+      // sorting ascending puts the highest rank first, and the legal order breaks ties
+      keys[i] = ((long) -rank << 32) | i;
+    }
+    Arrays.sort(keys, 0, size);
+    for (int i = 0; i < size; i++) {
+      replies.set(i, original[(int) keys[i]]);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package cs3500.pawnsboard.controller;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs turn events one after another in a flat loop instead of inside each other. Without it,
+ * playing a move notifies the listeners of the turn change, whose handlers can play the next move
+ * and notify again, so a whole machine-vs-machine game becomes one call chain that grows with
+ * every move.
+ *
+ * <p>An event scheduled while no event is running runs at once, on the calling thread. An event
+ * scheduled from inside a running event (such as the turn change caused by the move it plays) is
+ * queued, and runs once the running event has returned, so the stack never grows with the number
+ * of turns. The controllers of one game must share a scheduler for their events to be flattened
+ * together.
+ *
+ * <p>Given a batch size and a continuation executor, the scheduler runs at most that many events
+ * in a row, then hands the rest of the queue to the continuation (for instance
+ * {@code SwingUtilities::invokeLater}), so that other work such as painting the views can run
+ * between batches of machine turns.
+ *
+ * <p>A scheduler belongs to the thread that owns the model and is not thread-safe.
+ */
+public final class TurnScheduler implements Executor {
+
+  private final Deque<Runnable> queue;
+  private final int batchSize;
+  private final Executor continuation;
+  private boolean running;
+  private boolean resumeScheduled;
+  private long eventCount;
+
+  /**
+   * Creates a scheduler that runs every queued event in one loop.
+   */
+  public TurnScheduler() {
+    this.queue = new ArrayDeque<>();
+    this.batchSize = Integer.MAX_VALUE;
+    this.continuation = null;
+  }
+
+  /**
+   * Creates a scheduler that runs queued events in batches.
+   * @param batchSize the largest number of events to run in a row.
+   * @param continuation runs the rest of the queue after a batch, typically later on the same
+   *     thread.
+   * @throws IllegalArgumentException if the batch size is not positive or the continuation is
+   *     null.
+   */
+  public TurnScheduler(int batchSize, Executor continuation) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Batch size must be positive.");
+    }
+    if (continuation == null) {
+      throw new IllegalArgumentException("Continuation cannot be null.");
+    }
+    this.queue = new ArrayDeque<>();
+    this.batchSize = batchSize;
+    this.continuation = continuation;
+  }
+
+  /**
+   * Schedules a turn event: runs it now if no event is running, and otherwise after the events
+   * already queued.
+   * @param event the event to run.
+   * @throws IllegalArgumentException if the event is null.
+   */
+  @Override
+  public void execute(Runnable event) {
+    if (event == null) {
+      throw new IllegalArgumentException("Event cannot be null.");
+    }
+    queue.addLast(event);
+    if (!running && !resumeScheduled) {
+      runQueued();
+    }
+  }
+
+  /**
+   * Returns the number of events waiting to run.
+   * @return the length of the queue.
+   */
+  public int getPendingCount() {
+    return queue.size();
+  }
+
+  /**
+   * Returns the number of events run so far.
+   * @return the number of events run.
+   */
+  public long getEventCount() {
+    return eventCount;
+  }
+
+  /**
+   * Runs queued events until the queue is empty or a batch is complete. If an event throws, the
+   * events after it stay queued and run with the next scheduled event.
+   */
+  private void runQueued() {
+    running = true;
+    try {
+      int ran = 0;
+      while (!queue.isEmpty()) {
+        if (ran == batchSize) {
+          running = false;
+          resumeScheduled = true;
+          continuation.execute(this::resume);
+          return;
+        }
+        Runnable event = queue.pollFirst();
+        eventCount++;
+        ran++;
+        event.run();
+      }
+    } finally {
+      running = false;
+    }
+  }
+
+  private void resume() {
+    resumeScheduled = false;
+    if (!running) {
+      runQueued();
+    }
+  }
+}
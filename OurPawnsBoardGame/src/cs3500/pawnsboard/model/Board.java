@@ -1,5 +1,7 @@
 package cs3500.pawnsboard.model;
 
+import java.util.BitSet;
+
 /**
  * The Board class represents the game board as a 2D array of Cells.
  *
@@ -28,6 +30,35 @@ public class Board implements BoardI {
   private final int columns;
   private Cell[][] cells;
 
+  /**
+   * Per-row sums of the values of the cards each player owns, kept up to date by the cells as
+   * they change, so scoring a row never has to scan it. When the board's rules score with
+   * modifiers (the variant rules), a card counts for its value plus the cell's influence modifier,
+   * floored at 0.
+   */
+  private final int[] redRowScores;
+  private final int[] blueRowScores;
+  private InfluenceRules rules = InfluenceRules.STANDARD;
+
+  /**
+   * The XOR of the Zobrist keys of all cells (see {@link Zobrist#cellKey}), also kept up to date by
+   * the cells. Empty cells have key 0, so a new board hashes to 0.
+   */
+  private long hash;
+
+  /**
+   * The cells a card could be placed in (owned pawns, no card), by owner and pawn count: the set
+   * at playableIndex(color, n) holds the flat indices (row * columns + col) of the cells where
+   * that player has exactly n pawns. Also kept up to date by the cells.
+   */
+  private final BitSet[] playableCells;
+
+  /**
+   * The number of cells each player owns, indexed by PlayerColor ordinal (the NONE slot is
+   * unused), kept up to date by the cells so that counting control of the board is constant time.
+   */
+  private final int[] ownedCells;
+
   /**
    * Constructs a new Board with the specified dimensions.
    * @param rows Number of rows (must be > 0).
@@ -41,10 +72,18 @@ public class Board implements BoardI {
     this.rows = rows;
     this.columns = columns;
     cells = new Cell[rows][columns];
+    this.redRowScores = new int[rows];
+    this.blueRowScores = new int[rows];
+    this.playableCells = new BitSet[6];
+    for (int i = 0; i < playableCells.length; i++) {
+      playableCells[i] = new BitSet(rows * columns);
+    }
+    this.ownedCells = new int[PlayerColor.values().length];
     // initialize each cell in the 2D array
     for (int i = 0; i < rows; i++) {
       for (int j = 0; j < columns; j++) {
         cells[i][j] = new Cell();
+        cells[i][j].attach(this, i, j);
       }
     }
   }
@@ -58,10 +97,21 @@ public class Board implements BoardI {
     this.columns = other.columns;
     this.cells = new Cell[rows][columns];
 
+    this.redRowScores = other.redRowScores.clone();
+    this.blueRowScores = other.blueRowScores.clone();
+    this.rules = other.rules;
+    this.hash = other.hash;
+    this.playableCells = new BitSet[6];
+    for (int i = 0; i < playableCells.length; i++) {
+      playableCells[i] = (BitSet) other.playableCells[i].clone();
+    }
+    this.ownedCells = other.ownedCells.clone();
+
     // Deep copy each cell
     for (int i = 0; i < rows; i++) {
       for (int j = 0; j < columns; j++) {
         this.cells[i][j] = new Cell(other.cells[i][j]); // Uses Cell's copy constructor
+        this.cells[i][j].attach(this, i, j);
       }
     }
   }
@@ -105,7 +155,7 @@ public class Board implements BoardI {
    * @param pawnCount the number of pawns to set.
    * @param owner     the owner of the cell.
    */
-  public void setCellPawns(int row, int col, int pawnCount, String owner) {
+  public void setCellPawns(int row, int col, int pawnCount, PlayerColor owner) {
     Cell cell = getCell(row, col);
     cell.setPawnCount(pawnCount);
     cell.setOwner(owner);
@@ -126,4 +176,170 @@ public class Board implements BoardI {
   public int getRows() {
     return rows;
   }
-}
\ No newline at end of file
+
+  /**
+   * Returns the sum of the values of the cards the given player owns in a row.
+   * @param row the row index.
+   * @param color the player's color (RED or BLUE).
+   * @return the player's row score, or 0 for any other color.
+   * @throws IndexOutOfBoundsException if the row is invalid.
+   */
+  public int getRowScore(int row, PlayerColor color) {
+    if (row < 0 || row >= rows) {
+      throw new IndexOutOfBoundsException("Invalid row: " + row);
+    }
+    if (color == PlayerColor.RED) {
+      return redRowScores[row];
+    }
+    else if (color == PlayerColor.BLUE) {
+      return blueRowScores[row];
+    }
+    return 0;
+  }
+
+  /**
+   * Returns the influence rules of the game this board belongs to, so that a copy of the board
+   * can be played on with the same rules.
+   * @return the board's rules.
+   */
+  public InfluenceRules getRules() {
+    return rules;
+  }
+
+  /**
+   * Returns the Zobrist hash of the board: the owner, pawn count, card and influence modifier of
+   * every cell. Two boards with the same cells have the same hash.
+   * @return the 64-bit hash of the board.
+   */
+  public long getHash() {
+    return hash;
+  }
+
+  /**
+   * Finds the next cell, in row-major order, where the given player could place a card costing
+   * up to minPawns: a cell without a card holding at least minPawns of the player's pawns.
+   * @param color the player's color (RED or BLUE).
+   * @param minPawns the minimum number of pawns (1 to 3).
+   * @param fromIndex the flat index (row * columns + col) to start searching from, inclusive.
+   * @return the flat index of the next such cell, or -1 if there is none.
+   */
+  public int nextPlayableCell(PlayerColor color, int minPawns, int fromIndex) {
+    if (color != PlayerColor.RED && color != PlayerColor.BLUE) {
+      return -1;
+    }
+    int next = -1;
+    for (int pawns = Math.max(1, minPawns); pawns <= 3; pawns++) {
+      int index = playableCells[playableIndex(color, pawns)].nextSetBit(fromIndex);
+      if (index >= 0 && (next < 0 || index < next)) {
+        next = index;
+      }
+    }
+    return next;
+  }
+
+  /**
+   * Counts the cells where the given player has exactly the given number of pawns and no card.
+   * @param color the player's color (RED or BLUE).
+   * @param pawnCount the number of pawns (1 to 3).
+   * @return the number of such cells.
+   */
+  public int countPlayableCells(PlayerColor color, int pawnCount) {
+    if (color != PlayerColor.RED && color != PlayerColor.BLUE || pawnCount < 1 || pawnCount > 3) {
+      return 0;
+    }
+    return playableCells[playableIndex(color, pawnCount)].cardinality();
+  }
+
+  /**
+   * Returns the number of cells owned by the given player.
+   * @param color the player's color (RED or BLUE).
+   * @return the number of owned cells, or 0 for any other color.
+   */
+  public int countOwned(PlayerColor color) {
+    if (color != PlayerColor.RED && color != PlayerColor.BLUE) {
+      return 0;
+    }
+    return ownedCells[color.ordinal()];
+  }
+
+  // ============= Incremental row scores, hash and playable cells =============
+
+  /**
+   * Sets the influence rules of the game this board belongs to, and recomputes every row score
+   * in case the new rules score cards differently.
+   * @param rules the rules.
+   * @throws IllegalArgumentException if the rules are null.
+   */
+  void setRules(InfluenceRules rules) {
+    if (rules == null) {
+      throw new IllegalArgumentException("Rules cannot be null.");
+    }
+    this.rules = rules;
+    for (int i = 0; i < rows; i++) {
+      redRowScores[i] = 0;
+      blueRowScores[i] = 0;
+      for (int j = 0; j < columns; j++) {
+        addToRowScore(cells[i][j], 1);
+      }
+    }
+  }
+
+  /**
+   * Called by a cell right before it changes: takes its current state out of the row score, the
+   * hash, the owned counts and the playable cells.
+   * @param cell the cell about to change.
+   */
+  void cellChanging(Cell cell) {
+    int index = cell.getRow() * columns + cell.getCol();
+    addToRowScore(cell, -1);
+    hash ^= Zobrist.cellKey(index, cell);
+    if (cell.getOwner() != PlayerColor.NONE) {
+      ownedCells[cell.getOwner().ordinal()]--;
+    }
+    if (isPlayable(cell)) {
+      playableCells[playableIndex(cell.getOwner(), cell.getPawnCount())].clear(index);
+    }
+  }
+
+  /**
+   * Called by a cell right after it changed: adds its new state back.
+   * @param cell the cell that changed.
+   */
+  void cellChanged(Cell cell) {
+    int index = cell.getRow() * columns + cell.getCol();
+    addToRowScore(cell, 1);
+    hash ^= Zobrist.cellKey(index, cell);
+    if (cell.getOwner() != PlayerColor.NONE) {
+      ownedCells[cell.getOwner().ordinal()]++;
+    }
+    if (isPlayable(cell)) {
+      playableCells[playableIndex(cell.getOwner(), cell.getPawnCount())].set(index);
+    }
+  }
+
+  private static boolean isPlayable(Cell cell) {
+    return cell.getPawnCount() > 0 && cell.getCard() == null
+            && (cell.getOwner() == PlayerColor.RED || cell.getOwner() == PlayerColor.BLUE);
+  }
+
+  private static int playableIndex(PlayerColor color, int pawnCount) {
+    return (color == PlayerColor.RED ? 0 : 3) + pawnCount - 1;
+  }
+
+  private void addToRowScore(Cell cell, int sign) {
+    Card card = cell.getCard();
+    if (card == null) {
+      return;
+    }
+    int value = card.getValue();
+    if (rules.scoresWithModifiers()) {
+      value = Math.max(0, value + cell.getInfluenceModifier());
+    }
+    if (cell.getOwner() == PlayerColor.RED) {
+      redRowScores[cell.getRow()] += sign * value;
+    }
+    else if (cell.getOwner() == PlayerColor.BLUE) {
+      blueRowScores[cell.getRow()] += sign * value;
+    }
+  }
+}
@@ -38,7 +38,7 @@ public interface BoardI {
    * @param pawnCount the number of pawns to set.
    * @param owner     the owner of the cell.
    */
-  void setCellPawns(int row, int col, int pawnCount, String owner);
+  void setCellPawns(int row, int col, int pawnCount, PlayerColor owner);
 
   /**
    * Returns the number of columns in the board.
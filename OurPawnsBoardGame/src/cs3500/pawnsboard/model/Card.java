@@ -1,9 +1,14 @@
 package cs3500.pawnsboard.model;
 
+import java.util.Arrays;
+
 /**
- * Represents a card in the game.
+ * Represents a card in the game. Cards are immutable: the influence grid is copied when the card
+ * is created and whenever it is handed out, so a single Card instance can safely be shared by
+ * decks, hands and board cells (see {@link CardRegistry}). Two cards are equal when their name,
+ * cost, value and influence grid are equal.
  */
-public class Card implements CardI {
+public final class Card implements CardI {
   private final String name;
   private final int cost;
   private final int value;
@@ -12,6 +17,16 @@ public class Card implements CardI {
    * influence, and 'C' represents the center cell, just like the config file.
    */
   private final char[][] influenceGrid;
+  /**
+   * The influence grid compiled into parallel arrays holding only its 'I', 'U' and 'D' entries,
+   * as offsets from the center, so applying the card only visits the cells it influences.
+   */
+  private final int[] influenceRowOffsets;
+  private final int[] influenceColOffsets;
+  private final char[] influenceKinds;
+  // a 64-bit key derived from the card's contents, used when hashing game states; copies of a
+  // card (and identical cards read from a deck file) get the same key
+  private final long hashKey;
 
   /**
    * Constructs a new Card.
@@ -61,18 +76,47 @@ public class Card implements CardI {
     this.name = name;
     this.cost = cost;
     this.value = value;
-    this.influenceGrid = influenceGrid;
+    this.influenceGrid = deepCopyGrid(influenceGrid);
+    int count = 0;
+    for (char[] row : influenceGrid) {
+      for (char ch : row) {
+        if (ch == 'I' || ch == 'U' || ch == 'D') {
+          count++;
+        }
+      }
+    }
+    this.influenceRowOffsets = new int[count];
+    this.influenceColOffsets = new int[count];
+    this.influenceKinds = new char[count];
+    int entry = 0;
+    for (int i = 0; i < 5; i++) {
+      for (int j = 0; j < 5; j++) {
+        char ch = influenceGrid[i][j];
+        if (ch == 'I' || ch == 'U' || ch == 'D') {
+          influenceRowOffsets[entry] = i - 2;
+          influenceColOffsets[entry] = j - 2;
+          influenceKinds[entry] = ch;
+          entry++;
+        }
+      }
+    }
+    this.hashKey = computeHashKey();
   }
 
   /**
-   * Copy constructor for deep copying a Card object.
+   * Copy constructor. Since cards are immutable, the copy shares the other card's grid and
+   * compiled entries; prefer sharing the Card itself where possible.
    * @param other The Card to copy.
    */
   public Card(Card other) {
     this.name = other.name;
     this.cost = other.cost;
     this.value = other.value;
-    this.influenceGrid = deepCopyGrid(other.influenceGrid);
+    this.influenceGrid = other.influenceGrid;
+    this.influenceRowOffsets = other.influenceRowOffsets;
+    this.influenceColOffsets = other.influenceColOffsets;
+    this.influenceKinds = other.influenceKinds;
+    this.hashKey = other.hashKey;
   }
 
 
@@ -88,8 +132,69 @@ public class Card implements CardI {
     return value;
   }
 
+  /**
+   * Returns a copy of the card's influence grid; changing it does not change the card.
+   * @return a new 5x5 array holding the influence grid.
+   */
   public char[][] getInfluenceGrid() {
-    return influenceGrid;
+    return deepCopyGrid(influenceGrid);
+  }
+
+  public char getInfluenceAt(int row, int col) {
+    return influenceGrid[row][col];
+  }
+
+  public int getInfluenceCount() {
+    return influenceKinds.length;
+  }
+
+  public int getInfluenceRowOffset(int index) {
+    return influenceRowOffsets[index];
+  }
+
+  public int getInfluenceColOffset(int index) {
+    return influenceColOffsets[index];
+  }
+
+  public char getInfluenceKind(int index) {
+    return influenceKinds[index];
+  }
+
+  /**
+   * Returns the key of this card used for hashing game states.
+   * @return a 64-bit key that only depends on the card's name, cost, value and influence grid.
+   */
+  long getHashKey() {
+    return hashKey;
+  }
+
+  private long computeHashKey() {
+    long key = Zobrist.mix(name.hashCode());
+    key = Zobrist.mix(key ^ (cost * 31L + value));
+    for (char[] row : influenceGrid) {
+      for (char ch : row) {
+        key = Zobrist.mix(key ^ ch);
+      }
+    }
+    return key;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof Card)) {
+      return false;
+    }
+    Card that = (Card) other;
+    return hashKey == that.hashKey && cost == that.cost && value == that.value
+            && name.equals(that.name) && Arrays.deepEquals(influenceGrid, that.influenceGrid);
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(hashKey);
   }
 
   @Override
@@ -29,6 +29,42 @@ public interface CardI {
    */
   char[][] getInfluenceGrid();
 
+  /**
+   * Gets one entry of the influence grid without copying the grid.
+   * @param row the grid row (0 to 4).
+   * @param col the grid column (0 to 4).
+   * @return 'X', 'I', 'U', 'D', or 'C' for the center.
+   */
+  char getInfluenceAt(int row, int col);
+
+  /**
+   * Gets the number of cells the card influences, i.e. the number of 'I', 'U' and 'D' entries in
+   * its influence grid.
+   * @return the number of influence entries.
+   */
+  int getInfluenceCount();
+
+  /**
+   * Gets the row offset, relative to the card's own cell, of an influence entry.
+   * @param index the index of the entry (0 to getInfluenceCount() - 1).
+   * @return the row offset (-2 to 2).
+   */
+  int getInfluenceRowOffset(int index);
+
+  /**
+   * Gets the column offset, relative to the card's own cell, of an influence entry.
+   * @param index the index of the entry (0 to getInfluenceCount() - 1).
+   * @return the column offset (-2 to 2).
+   */
+  int getInfluenceColOffset(int index);
+
+  /**
+   * Gets the kind of an influence entry.
+   * @param index the index of the entry (0 to getInfluenceCount() - 1).
+   * @return 'I', 'U' or 'D'.
+   */
+  char getInfluenceKind(int index);
+
   /**
    * Returns a string representation of the card.
    * @return a string describing the card.
@@ -0,0 +1,47 @@
+package cs3500.pawnsboard.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A CardRegistry interns card definitions: every distinct definition (name, cost, value and
+ * influence grid) is stored once, and asking for an equal card again returns that same shared
+ * instance. Cards are immutable, so decks, hands and board cells can all hold the shared
+ * references, and copying a cell or a board copies a reference instead of a card. Interning is
+ * thread-safe, and cards are never removed.
+ */
+public final class CardRegistry {
+
+  // each registered card, keyed by itself so an equal card finds the shared instance
+  private final Map<Card, Card> cards;
+
+  /**
+   * Creates an empty registry.
+   */
+  public CardRegistry() {
+    this.cards = new HashMap<>();
+  }
+
+  /**
+   * Returns the shared instance equal to the given card, registering the card if no equal card
+   * was registered before.
+   * @param card the card to intern.
+   * @return the registered card equal to the given one.
+   * @throws IllegalArgumentException if the card is null.
+   */
+  public synchronized Card intern(Card card) {
+    if (card == null) {
+      throw new IllegalArgumentException("Card cannot be null.");
+    }
+    Card shared = cards.putIfAbsent(card, card);
+    return (shared == null) ? card : shared;
+  }
+
+  /**
+   * Returns the number of distinct cards registered so far.
+   * @return the number of cards.
+   */
+  public synchronized int size() {
+    return cards.size();
+  }
+}
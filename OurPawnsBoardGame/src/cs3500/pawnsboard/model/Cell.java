@@ -6,30 +6,76 @@ package cs3500.pawnsboard.model;
  */
 public class Cell implements CellI {
   private int pawnCount;
-  private String owner; // "red" or "blue" - empty string if no owner
+  private PlayerColor owner; // RED or BLUE - NONE if no owner
   private Card card;    // a card placed in the cell, if any (null if no card)
   // new feild: net influence modifier
   private int influenceModifier;
+  // the board this cell belongs to (null for a standalone cell) and its position on that board, so
+  // the board can keep its row scores and hash up to date whenever the cell changes
+  private Board board;
+  private int row;
+  private int col;
 
   /**
    * Initializes a Cell with 0 pawns, no owner, and no card placed.
    */
   public Cell() {
     this.pawnCount = 0;
-    this.owner = "";
+    this.owner = PlayerColor.NONE;
     this.card = null;
     this.influenceModifier = 0;
   }
 
   /**
-   * Deep copies a Cell object.
+   * Copies a Cell object. The placed card, if any, is shared rather than copied.
    * @param other the Cell to copy.
    */
   public Cell(Cell other) {
     this.pawnCount = other.pawnCount;
     this.owner = other.owner;
-    this.card = (other.card != null) ? new Card(other.card) : null; // Uses Card copy constructor
+    this.card = other.card; // cards are immutable, so the copy shares the same card
     this.influenceModifier = other.influenceModifier;
+    this.board = null;
+  }
+
+  /**
+   * Attaches this cell to a board, which is then told about every change to the cell.
+   * @param board the board the cell belongs to.
+   * @param row the row of the cell on that board.
+   * @param col the column of the cell on that board.
+   */
+  void attach(Board board, int row, int col) {
+    this.board = board;
+    this.row = row;
+    this.col = col;
+  }
+
+  /**
+   * Returns the row of the cell on the board it is attached to.
+   * @return the row index.
+   */
+  int getRow() {
+    return row;
+  }
+
+  /**
+   * Returns the column of the cell on the board it is attached to.
+   * @return the column index.
+   */
+  int getCol() {
+    return col;
+  }
+
+  private void beforeChange() {
+    if (board != null) {
+      board.cellChanging(this);
+    }
+  }
+
+  private void afterChange() {
+    if (board != null) {
+      board.cellChanged(this);
+    }
   }
 
   /**
@@ -56,26 +102,30 @@ public class Cell implements CellI {
     if (count < 0 || count > 3) {
       throw new IllegalArgumentException("Pawn count must be between 0 and 3.");
     }
+    beforeChange();
     this.pawnCount = count;
+    afterChange();
   }
 
   /**
    * Gets the owner of the cell.
-   * @return the owner ("red", "blue", or an empty string if no owner).
+   * @return the owner (RED, BLUE, or NONE if no owner).
    */
-  public String getOwner() {
+  public PlayerColor getOwner() {
     return owner;
   }
 
   /**
    * Sets the owner of the cell.
-   * @param owner the owner ("red", "blue", or an empty string).
+   * @param owner the owner (RED, BLUE, or NONE).
    */
-  public void setOwner(String owner) {
-    if (!owner.equals("red") && !owner.equals("blue") && !owner.isEmpty()) {
-      throw new IllegalArgumentException("Owner must be 'Red', 'Blue', or an empty string.");
+  public void setOwner(PlayerColor owner) {
+    if (owner == null) {
+      throw new IllegalArgumentException("Owner must be RED, BLUE, or NONE.");
     }
+    beforeChange();
     this.owner = owner;
+    afterChange();
   }
 
   /**
@@ -92,10 +142,12 @@ public class Cell implements CellI {
    * @param card the card to place.
    * @param owner the owner of the card.
    */
-  public void placeCard(Card card, String owner) {
+  public void placeCard(Card card, PlayerColor owner) {
+    beforeChange();
     this.card = card;
     this.owner = owner;
     this.pawnCount = 0;
+    afterChange();
   }
 
   public boolean isEmpty() {
@@ -111,7 +163,9 @@ public class Cell implements CellI {
    */
   public void incrementPawnCount() {
     if (pawnCount < 3) {
+      beforeChange();
       pawnCount++;
+      afterChange();
     }
   }
 
@@ -121,21 +175,45 @@ public class Cell implements CellI {
   }
 
   public void addInfluence(int delta) {
+    beforeChange();
     this.influenceModifier += delta;
+    afterChange();
   }
 
   public void setCorrectInfluence() {
     if (this.card != null) {
       if (this.influenceModifier + this.card.getValue() <= 0) {
+        // every field changes inside one before/after pair, so the board's hash only ever sees
+        // the cell as it was and as it ends up
+        beforeChange();
         this.influenceModifier += this.card.getValue();
-        setPawnCount(card.getCost());
+        this.pawnCount = this.card.getCost();
         this.card = null;
+        afterChange();
       }
     }
   }
 
 
   public void resetInfluence() {
+    beforeChange();
     this.influenceModifier = 0;
+    afterChange();
+  }
+
+  /**
+   * Restores every field of the cell at once, e.g. when a journaled move is undone.
+   * @param pawnCount the pawn count to restore.
+   * @param owner the owner to restore.
+   * @param card the placed card to restore (or null).
+   * @param influenceModifier the influence modifier to restore.
+   */
+  void restore(int pawnCount, PlayerColor owner, Card card, int influenceModifier) {
+    beforeChange();
+    this.pawnCount = pawnCount;
+    this.owner = owner;
+    this.card = card;
+    this.influenceModifier = influenceModifier;
+    afterChange();
   }
 }
\ No newline at end of file
@@ -25,15 +25,15 @@ public interface CellI {
 
   /**
    * Gets the owner of the cell.
-   * @return the owner ("red", "blue", or an empty string if no owner).
+   * @return the owner (RED, BLUE, or NONE if no owner).
    */
-  String getOwner();
+  PlayerColor getOwner();
 
   /**
    * Sets the owner of the cell.
-   * @param owner the owner ("red", "blue", or an empty string).
+   * @param owner the owner (RED, BLUE, or NONE).
    */
-  void setOwner(String owner);
+  void setOwner(PlayerColor owner);
 
   /**
    * Gets the card placed in the cell, if any.
@@ -47,7 +47,7 @@ public interface CellI {
    * @param card the card to place.
    * @param owner the owner of the card.
    */
-  void placeCard(Card card, String owner);
+  void placeCard(Card card, PlayerColor owner);
 
   /**
    * Checks if the cell is empty (no pawns and no card).
@@ -5,10 +5,33 @@ import java.util.List;
 import java.util.Scanner;
 
 /**
- * Class that has methods that parse the deck file.
+ * Class that has methods that parse the deck file. Every parsed card is interned in a
+ * {@link CardRegistry}, so a card listed several times in a deck (or in several decks parsed with
+ * the same registry) is a single shared Card instance.
  */
 public class DeckFileParser implements DeckFileParserI {
 
+  private final CardRegistry registry;
+
+  /**
+   * Creates a parser with its own card registry.
+   */
+  public DeckFileParser() {
+    this(new CardRegistry());
+  }
+
+  /**
+   * Creates a parser that interns cards in the given registry.
+   *
+   * @param registry the registry to intern parsed cards in.
+   */
+  public DeckFileParser(CardRegistry registry) {
+    if (registry == null) {
+      throw new IllegalArgumentException("Registry cannot be null");
+    }
+    this.registry = registry;
+  }
+
   /**
    * Converts a block of text into a card.
    *
@@ -45,7 +68,7 @@ public class DeckFileParser implements DeckFileParserI {
       grid[i] = row.toCharArray();
     }
 
-    return new Card(name, cost, value, grid);
+    return registry.intern(new Card(name, cost, value, grid));
   }
 
   /**
@@ -80,20 +103,17 @@ public class DeckFileParser implements DeckFileParserI {
         }
         Card card = toCard(cardBlockBuilder.toString());
 
-        // Mirror the card's influence grid
-        char[][] originalGrid = card.getInfluenceGrid();
-        char[][] mirroredGrid = new char[5][5];
-
         // Create a horizontally mirrored version of the grid
+        char[][] mirroredGrid = new char[5][5];
         for (int row = 0; row < 5; row++) {
           for (int col = 0; col < 5; col++) {
-            mirroredGrid[row][col] = originalGrid[row][4 - col];
+            mirroredGrid[row][col] = card.getInfluenceAt(row, 4 - col);
           }
         }
 
         // Create a new card with the mirrored grid
         Card mirroredCard = new Card(card.getName(), card.getCost(), card.getValue(), mirroredGrid);
-        deck.add(mirroredCard);
+        deck.add(registry.intern(mirroredCard));
       }
     } else {
       // Original code for non-mirrored cards
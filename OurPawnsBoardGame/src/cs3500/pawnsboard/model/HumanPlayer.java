@@ -13,7 +13,7 @@ public class HumanPlayer implements PlayerActions {
   }
 
   @Override
-  public String getColor() {
+  public PlayerColor getColor() {
     return player.getColor();
   }
 
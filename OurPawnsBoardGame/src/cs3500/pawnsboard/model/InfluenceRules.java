@@ -0,0 +1,117 @@
+package cs3500.pawnsboard.model;
+
+/**
+ * The rules for applying a placed card's influence to the board. This is the one place the
+ * influence rules live: the models apply them after every move, and the strategies apply them to
+ * copies of the board, so a simulated move always changes the board exactly as the real move
+ * would.
+ *
+ * <p>A board carries the rules of the game it belongs to (see {@link Board#getRules()}), so code
+ * that only has the board can still apply the right rules. Influence offsets are read from the
+ * card as given; blue cards are already mirrored when their deck is read.
+ */
+public enum InfluenceRules {
+
+  /**
+   * The standard rules: only 'I' (influence) entries count, and a card scores its value.
+   */
+  STANDARD {
+    @Override
+    public void apply(Board board, int cardRow, int cardCol, Card card, PlayerColor color) {
+      for (int k = 0; k < card.getInfluenceCount(); k++) {
+        if (card.getInfluenceKind(k) == 'I') {
+          Cell target = targetCell(board, cardRow, cardCol, card, k);
+          if (target != null) {
+            influence(target, color);
+          }
+        }
+      }
+    }
+  },
+
+  /**
+   * The variant rules: 'U' (upgrading) and 'D' (devaluing) entries also change a cell's influence
+   * modifier, a card whose value plus modifier drops to 0 or below is removed, and a card scores
+   * its value plus its cell's modifier, floored at 0.
+   */
+  VARIANT {
+    @Override
+    public void apply(Board board, int cardRow, int cardCol, Card card, PlayerColor color) {
+      for (int k = 0; k < card.getInfluenceCount(); k++) {
+        Cell target = targetCell(board, cardRow, cardCol, card, k);
+        if (target == null) {
+          continue;
+        }
+        switch (card.getInfluenceKind(k)) {
+          case 'I':
+            influence(target, color);
+            break;
+          case 'U':
+            target.addInfluence(+1);
+            break;
+          case 'D':
+            target.addInfluence(-1);
+            target.setCorrectInfluence();
+            break;
+          default:
+            break;
+        }
+      }
+      // the placed card itself may sit on a devalued cell
+      board.getCell(cardRow, cardCol).setCorrectInfluence();
+    }
+
+    @Override
+    public boolean scoresWithModifiers() {
+      return true;
+    }
+  };
+
+  /**
+   * Applies the influence of a card just placed at the given cell. The board is changed in place.
+   * @param board the board the card was placed on.
+   * @param cardRow the row of the card.
+   * @param cardCol the column of the card.
+   * @param card the card.
+   * @param color the color of the player who placed it.
+   */
+  public abstract void apply(Board board, int cardRow, int cardCol, Card card, PlayerColor color);
+
+  /**
+   * Returns whether a card's score includes its cell's influence modifier under these rules.
+   * @return true if modifiers count towards scores.
+   */
+  public boolean scoresWithModifiers() {
+    return false;
+  }
+
+  /**
+   * Returns the cell targeted by a card's k-th influence entry, or null if it is off the board.
+   */
+  private static Cell targetCell(Board board, int cardRow, int cardCol, Card card, int k) {
+    int targetRow = cardRow + card.getInfluenceRowOffset(k);
+    int targetCol = cardCol + card.getInfluenceColOffset(k);
+    return board.isValidPosition(targetRow, targetCol) ? board.getCell(targetRow, targetCol) : null;
+  }
+
+  /**
+   * Applies one 'I' entry: a cell with a card is left alone, an empty cell gains a pawn of the
+   * player's color, the player's own cell gains a pawn (up to 3), and an opponent's cell changes
+   * owner.
+   */
+  private static void influence(Cell target, PlayerColor color) {
+    if (target.getCard() != null) {
+      return;
+    }
+    if (!target.hasPawns()) {
+      target.setPawnCount(1);
+      target.setOwner(color);
+    }
+    else if (target.getOwner() == color) {
+      target.setPawnCount(Math.min(target.getPawnCount() + 1, 3));
+    }
+    else {
+      target.setOwner(color);
+    }
+  }
+}
@@ -15,14 +15,18 @@ public class MachinePlayer implements PlayerActions {
   }
 
   @Override
-  public String getColor() {
+  public PlayerColor getColor() {
     return player.getColor();
   }
 
   @Override
-  public Move getNextMove(ReadOnlyPawnsBoardModelI model) {
-    // Delegate move computation to the strategy.
-    return strategy.chooseMove((PawnsBoardModel) model, player);
+  public int getNextMove(ReadOnlyPawnsBoardModelI model) {
+    // Delegate move computation to the strategy. On a copy of the game (as when the move is
+    // chosen off the event thread), play as the copy's player rather than the live one.
+    PawnsBoardModel game = (PawnsBoardModel) model;
+    PlayerI registered = game.getPlayer(player.getColor());
+    Player self = (registered instanceof Player) ? (Player) registered : player;
+    return strategy.chooseMove(game, self);
   }
 
   @Override
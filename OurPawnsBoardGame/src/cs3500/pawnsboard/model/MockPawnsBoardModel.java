@@ -49,7 +49,7 @@ public class MockPawnsBoardModel extends PawnsBoardModel {
    * @return the current player
    */
   public Player getCurrentPlayer() {
-    String color = getCurrentPlayerColor();
+    PlayerColor color = getCurrentPlayerColor();
     Player p = new Player(color, new ArrayList<>());
     if (recordTranscript) {
       StringBuilder sb = new StringBuilder();
@@ -89,7 +89,7 @@ public class MockPawnsBoardModel extends PawnsBoardModel {
         }
         // Only consider cells that have pawns, are owned by the current player, and do not hold a
         // card.
-        if (!cell.hasPawns() || !cell.getOwner().equals(current.getColor()) ||
+        if (!cell.hasPawns() || cell.getOwner() != current.getColor() ||
                 cell.getCard() != null) {
           continue;
         }
@@ -116,7 +116,7 @@ public class MockPawnsBoardModel extends PawnsBoardModel {
   }
 
   @Override
-  public void applyInfluence(int cardRow, int cardCol, Card card, String playerColor) {
+  public void applyInfluence(int cardRow, int cardCol, Card card, PlayerColor playerColor) {
     if (recordTranscript) {
       transcript.add("applyInfluence called with cardRow=" + cardRow + ", cardCol=" + cardCol
               + ", card=" + card.getName() + ", playerColor=" + playerColor);
@@ -186,7 +186,7 @@ public class MockPawnsBoardModel extends PawnsBoardModel {
    * Represents a player in the game.
    */
   public static class Player {
-    private final String color;
+    private final PlayerColor color;
     private final List<Card> hand;
 
     /**
@@ -195,12 +195,12 @@ public class MockPawnsBoardModel extends PawnsBoardModel {
      * @param color the player's color
      * @param hand the player's hand
      */
-    public Player(String color, List<Card> hand) {
+    public Player(PlayerColor color, List<Card> hand) {
       this.color = color;
       this.hand = hand;
     }
 
-    public String getColor() {
+    public PlayerColor getColor() {
       return color;
     }
 
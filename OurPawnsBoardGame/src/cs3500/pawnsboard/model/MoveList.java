@@ -0,0 +1,208 @@
+package cs3500.pawnsboard.model;
+
+import java.util.Arrays;
+
+/**
+ * A MoveList is a reusable, growable list of moves packed into {@code int}s, used by move
+ * generation and the strategies so that searching does not allocate a {@link Move} object per
+ * legal move. A packed move holds, from the most significant bit down:
+ * <ul>
+ *   <li>the row in 12 bits (0 to {@link #MAX_ROWS} - 1),</li>
+ *   <li>the column in 13 bits (0 to {@link #MAX_COLUMNS} - 1),</li>
+ *   <li>the card index in 6 bits (0 to {@link #MAX_CARD_INDEX}).</li>
+ * </ul>
+ * Packed moves are never negative, so {@link #NO_MOVE} (-1) can stand for "pass", and comparing
+ * two packed moves as ints orders them by row, then column, then card index.
+ *
+ * <p>{@link Move} objects are only created at the edges, with {@link #toMove(int)}.
+ */
+public final class MoveList {
+
+  /**
+   * The packed value meaning "no move" (a pass).
+   */
+  public static final int NO_MOVE = -1;
+
+  /**
+   * The largest number of rows a packed move can address.
+   */
+  public static final int MAX_ROWS = 1 << 12;
+
+  /**
+   * The largest number of columns a packed move can address.
+   */
+  public static final int MAX_COLUMNS = 1 << 13;
+
+  /**
+   * The largest card index a packed move can hold.
+   */
+  public static final int MAX_CARD_INDEX = (1 << 6) - 1;
+
+  private static final int ROW_SHIFT = 19;
+  private static final int COL_SHIFT = 6;
+  private static final int COL_MASK = MAX_COLUMNS - 1;
+  private static final int CARD_MASK = MAX_CARD_INDEX;
+
+  private int[] moves;
+  private int size;
+
+  /**
+   * Creates an empty move list.
+   */
+  public MoveList() {
+    this.moves = new int[32];
+    this.size = 0;
+  }
+
+  /**
+   * Packs a move into an int.
+   * @param row the row of the cell.
+   * @param col the column of the cell.
+   * @param cardIndex the index of the card in the player's hand.
+   * @return the packed move.
+   * @throws IllegalArgumentException if a value does not fit in its field.
+   */
+  public static int pack(int row, int col, int cardIndex) {
+    if (row < 0 || row >= MAX_ROWS || col < 0 || col >= MAX_COLUMNS
+            || cardIndex < 0 || cardIndex > MAX_CARD_INDEX) {
+      throw new IllegalArgumentException("Move out of range: (" + row + ", " + col + "), card "
+              + cardIndex);
+    }
+    return (row << ROW_SHIFT) | (col << COL_SHIFT) | cardIndex;
+  }
+
+  /**
+   * Returns the row of a packed move.
+   * @param move the packed move.
+   * @return its row.
+   */
+  public static int row(int move) {
+    return move >>> ROW_SHIFT;
+  }
+
+  /**
+   * Returns the column of a packed move.
+   * @param move the packed move.
+   * @return its column.
+   */
+  public static int col(int move) {
+    return (move >>> COL_SHIFT) & COL_MASK;
+  }
+
+  /**
+   * Returns the card index of a packed move.
+   * @param move the packed move.
+   * @return its card index.
+   */
+  public static int cardIndex(int move) {
+    return move & CARD_MASK;
+  }
+
+  /**
+   * Converts a packed move to a Move object.
+   * @param move the packed move, or {@link #NO_MOVE}.
+   * @return the matching Move, or null for {@link #NO_MOVE}.
+   */
+  public static Move toMove(int move) {
+    if (move == NO_MOVE) {
+      return null;
+    }
+    return new Move(row(move), col(move), cardIndex(move));
+  }
+
+  /**
+   * Adds a move to the end of the list.
+   * @param row the row of the cell.
+   * @param col the column of the cell.
+   * @param cardIndex the index of the card in the player's hand.
+   */
+  public void add(int row, int col, int cardIndex) {
+    add(pack(row, col, cardIndex));
+  }
+
+  /**
+   * Adds an already packed move to the end of the list.
+   * @param move the packed move.
+   */
+  public void add(int move) {
+    if (size == moves.length) {
+      moves = Arrays.copyOf(moves, size * 2);
+    }
+    moves[size++] = move;
+  }
+
+  /**
+   * Returns the packed move at the given position.
+   * @param index the position in the list.
+   * @return the packed move.
+   * @throws IndexOutOfBoundsException if the index is invalid.
+   */
+  public int get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Invalid move index: " + index);
+    }
+    return moves[index];
+  }
+
+  /**
+   * Replaces the packed move at the given position, so that a search can reorder the list.
+   * @param index the position in the list.
+   * @param move the packed move.
+   * @throws IndexOutOfBoundsException if the index is invalid.
+   */
+  public void set(int index, int move) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Invalid move index: " + index);
+    }
+    moves[index] = move;
+  }
+
+  /**
+   * Finds a packed move in the list.
+   * @param move the packed move.
+   * @return its first position in the list, or -1 if it is not in the list.
+   */
+  public int indexOf(int move) {
+    for (int i = 0; i < size; i++) {
+      if (moves[i] == move) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Moves the move at the given position to the front of the list, keeping the order of the
+   * others, so a search can try a promising move first.
+   * @param index the position of the move.
+   * @throws IndexOutOfBoundsException if the index is invalid.
+   */
+  public void moveToFront(int index) {
+    int move = get(index);
+    System.arraycopy(moves, 0, moves, 1, index);
+    moves[0] = move;
+  }
+
+  /**
+   * Returns the number of moves in the list.
+   * @return the size of the list.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns whether the list holds no moves.
+   * @return true if the list is empty.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Removes every move, keeping the allocated storage for reuse.
+   */
+  public void clear() {
+    size = 0;
+  }
+}
@@ -15,6 +15,12 @@ public class PawnsBoardModel implements PawnsBoardModelI {
   private int consecutivePasses;
   private final List<ModelStatusListener> statusListeners;
   private final int handSize;
+  // moves played with makeMove/makePass that can still be undone. Entries past journalSize are
+  // kept around and reused, so searching does not allocate once the journal is deep enough.
+  private final List<JournalEntry> journal;
+  private int journalSize;
+  // the players taking part, indexed by PlayerColor ordinal, so their hands can be hashed
+  private final PlayerI[] players;
 
 
 
@@ -23,13 +29,21 @@ public class PawnsBoardModel implements PawnsBoardModelI {
    * @param rows Number of rows on the board.
    * @param columns Number of columns on the board.
    * @param deckSize Size of the list of cards to use for both players.
+   * @param handSize Number of cards each player starts with.
+   * @throws IllegalArgumentException if the dimensions are invalid or larger than a move can
+   *     address ({@link MoveList#MAX_ROWS} by {@link MoveList#MAX_COLUMNS}), or if the deck
+   *     cannot fill the board.
    */
   public PawnsBoardModel(int rows, int columns, int deckSize, int handSize) {
     if (rows <= 0 || columns <= 1 || columns % 2 == 0) {
       throw new IllegalArgumentException("Invalid board dimensions: rows must be > 0, and " +
               "columns must be > 1 and odd.");
     }
-    if ((rows * columns) > deckSize) {
+    if (rows > MoveList.MAX_ROWS || columns > MoveList.MAX_COLUMNS) {
+      throw new IllegalArgumentException("Invalid board dimensions: at most " + MoveList.MAX_ROWS
+              + " rows and " + MoveList.MAX_COLUMNS + " columns are supported.");
+    }
+    if ((long) rows * columns > deckSize) {
       throw new IllegalArgumentException("Must have enough cards in deck to fill board.");
     }
     this.handSize = handSize;
@@ -38,8 +52,8 @@ public class PawnsBoardModel implements PawnsBoardModelI {
     // set initial board configuration:
     // first column cells get 1 red pawn, last column cells get 1 blue pawn.
     for (int row = 0; row < rows; row++) {
-      board.setCellPawns(row, 0, 1, "red");
-      board.setCellPawns(row, columns - 1, 1, "blue");
+      board.setCellPawns(row, 0, 1, PlayerColor.RED);
+      board.setCellPawns(row, columns - 1, 1, PlayerColor.BLUE);
     }
     // red always starts
     this.isRedTurn = true;
@@ -47,6 +61,60 @@ public class PawnsBoardModel implements PawnsBoardModelI {
 
     // set the status listerners (features) initialized
     this.statusListeners = new ArrayList<>();
+    this.journal = new ArrayList<>();
+    this.journalSize = 0;
+    this.players = new PlayerI[2];
+  }
+
+  /**
+   * Copy constructor: copies the board, turn, pass count and hand size of another model, for a
+   * search to play moves on without touching the original. Listeners, the undo journal and the
+   * registered players are not copied; see {@link #copy()}.
+   * @param other the model to copy.
+   */
+  protected PawnsBoardModel(PawnsBoardModel other) {
+    this.board = new Board(other.board);
+    this.isRedTurn = other.isRedTurn;
+    this.consecutivePasses = other.consecutivePasses;
+    this.handSize = other.handSize;
+    this.statusListeners = new ArrayList<>();
+    this.journal = new ArrayList<>();
+    this.journalSize = 0;
+    this.players = new PlayerI[2];
+  }
+
+  /**
+   * Creates an independent copy of the game, with copies of the registered players (their hands
+   * and decks) registered with the copy, so that moves can be played on it from another thread.
+   * Listeners and the undo journal are not copied.
+   * @return the copy.
+   */
+  public PawnsBoardModel copy() {
+    PawnsBoardModel copy = copyWithoutPlayers();
+    copyPlayersInto(copy);
+    return copy;
+  }
+
+  /**
+   * Creates an independent copy of the game with no players registered, so that a search can
+   * register players of its own, such as ones whose hidden cards were sampled with
+   * {@link PlayerI#sampleFor}. Subclasses override this to copy their own rules along.
+   * @return the copy.
+   */
+  public PawnsBoardModel copyWithoutPlayers() {
+    return new PawnsBoardModel(this);
+  }
+
+  /**
+   * Registers copies of this model's players with another model.
+   * @param copy the model to register the copies with.
+   */
+  protected void copyPlayersInto(PawnsBoardModel copy) {
+    for (PlayerI player : players) {
+      if (player != null) {
+        player.copyFor(copy);
+      }
+    }
   }
 
   // ================== NEW Listener Methods (need to add to interface) ===================
@@ -117,9 +185,9 @@ public class PawnsBoardModel implements PawnsBoardModelI {
    * Returns the owner of the cell at the specified row and column.
    * @param row the row of the cell.
    * @param col the column of the cell.
-   * @return "red" if red owns the cell, "blue" if blue owns it, or null if it's empty.
+   * @return RED if red owns the cell, BLUE if blue owns it, or NONE if it's empty.
    */
-  public String getCellOwner(int row, int col) {
+  public PlayerColor getCellOwner(int row, int col) {
     if (row < 0 || row >= board.getRows() || col < 0 || col >= board.getColumns()) {
       throw new IllegalArgumentException("Invalid cell position");
     }
@@ -129,10 +197,10 @@ public class PawnsBoardModel implements PawnsBoardModelI {
 
   /**
    * Returns the color of the current player.
-   * @return "red" if it's red player's turn, otherwise "blue"
+   * @return RED if it's red player's turn, otherwise BLUE
    */
-  public String getCurrentPlayerColor() {
-    return isRedTurn ? "red" : "blue";
+  public PlayerColor getCurrentPlayerColor() {
+    return isRedTurn ? PlayerColor.RED : PlayerColor.BLUE;
   }
 
   /**
@@ -175,13 +243,14 @@ public class PawnsBoardModel implements PawnsBoardModelI {
   public int[] computeScores() {
     int redTotal = 0;
     int blueTotal = 0;
-    int[][] rowScores = computeRowScores();
-    for (int[] rowScore : rowScores) {
-      if (rowScore[0] > rowScore[1]) {
-        redTotal += rowScore[0];
+    for (int row = 0; row < board.getRows(); row++) {
+      int redScore = board.getRowScore(row, PlayerColor.RED);
+      int blueScore = board.getRowScore(row, PlayerColor.BLUE);
+      if (redScore > blueScore) {
+        redTotal += redScore;
       }
-      else if (rowScore[1] > rowScore[0]) {
-        blueTotal += rowScore[1];
+      else if (blueScore > redScore) {
+        blueTotal += blueScore;
       }
     }
     return new int[] { redTotal, blueTotal };
@@ -189,34 +258,31 @@ public class PawnsBoardModel implements PawnsBoardModelI {
 
   /**
    * Computes the row-by-row scores.
-   * For each row, sums the value scores of cards owned by Red and Blue separately.
+   * For each row, sums the value scores of cards owned by Red and Blue separately. The sums are
+   * kept up to date by the board as cards are placed, so this only copies them out.
    * @return a 2D int array where for each row i,
    *         result[i][0] is Red's row score and result[i][1] is Blue's row score.
    */
   public int[][] computeRowScores() {
     int rows = board.getRows();
-    int cols = board.getColumns();
     int[][] rowScores = new int[rows][2];
     for (int row = 0; row < rows; row++) {
-      int redScore = 0;
-      int blueScore = 0;
-      for (int col = 0; col < cols; col++) {
-        Cell cell = board.getCell(row, col);
-        if (cell.getCard() != null) {
-          if (cell.getOwner().equals("red")) {
-            redScore += cell.getCard().getValue();
-          }
-          else if (cell.getOwner().equals("blue")) {
-            blueScore += cell.getCard().getValue();
-          }
-        }
-      }
-      rowScores[row][0] = redScore;
-      rowScores[row][1] = blueScore;
+      rowScores[row][0] = board.getRowScore(row, PlayerColor.RED);
+      rowScores[row][1] = board.getRowScore(row, PlayerColor.BLUE);
     }
     return rowScores;
   }
 
+  /**
+   * Returns one player's score for one row in constant time.
+   * @param row the row index.
+   * @param color the player's color (RED or BLUE).
+   * @return the sum of the values of the cards the player owns in that row.
+   */
+  public int getRowScore(int row, PlayerColor color) {
+    return board.getRowScore(row, color);
+  }
+
   /**
    * Determines the winner based on the computed scores.
    * @return "Red wins!", "Blue wins!", or "It's a tie!".
@@ -234,6 +300,31 @@ public class PawnsBoardModel implements PawnsBoardModelI {
     }
   }
 
+  /**
+   * Returns a 64-bit Zobrist hash of the whole game state: every cell's owner, pawn count, card
+   * and influence modifier, the side to move, the number of consecutive passes, and the hands of
+   * the registered players. The board part is kept up to date as cells change; the hands are
+   * hashed here, since they are only a few cards each.
+   * @return the hash of the current game state.
+   */
+  public long getStateHash() {
+    long hash = board.getHash() ^ Zobrist.passesKey(consecutivePasses);
+    if (!isRedTurn) {
+      hash ^= Zobrist.BLUE_TO_MOVE;
+    }
+    for (PlayerI player : players) {
+      if (player != null) {
+        long handHash = 0;
+        List<Card> hand = player.getHand();
+        for (int i = 0; i < hand.size(); i++) {
+          handHash += Zobrist.handCardKey(player.getColor(), hand.get(i));
+        }
+        hash ^= handHash;
+      }
+    }
+    return hash;
+  }
+
   @Override
   public int getCellInfluenceValue(Cell cell) {
     return 0;
@@ -249,6 +340,31 @@ public class PawnsBoardModel implements PawnsBoardModelI {
     switchTurn();
   }
 
+  /**
+   * Registers a player taking part in the game, replacing any earlier player of the same color.
+   * @param player the player.
+   * @throws IllegalArgumentException if the player is null or has no color.
+   */
+  public void registerPlayer(PlayerI player) {
+    if (player == null || player.getColor() == null || player.getColor() == PlayerColor.NONE) {
+      throw new IllegalArgumentException("Player must be RED or BLUE.");
+    }
+    players[player.getColor().ordinal()] = player;
+  }
+
+  /**
+   * Returns the registered player of the given color, so that a search can generate the moves
+   * of either side.
+   * @param color the player's color.
+   * @return the registered player, or null if none is registered for that color.
+   */
+  public PlayerI getPlayer(PlayerColor color) {
+    if (color == PlayerColor.RED || color == PlayerColor.BLUE) {
+      return players[color.ordinal()];
+    }
+    return null;
+  }
+
   public void setConsecutivePasses(int consecutivePasses) {
     this.consecutivePasses = consecutivePasses;
   }
@@ -270,63 +386,166 @@ public class PawnsBoardModel implements PawnsBoardModelI {
   }
 
   /**
-   * Applies the influence of a placed card to the board.
-   * The card's 5x5 influence grid is overlaid on the board, centered at (cardRow, cardCol).
-   * For each cell in the grid marked 'I':
-   *   - If the cell is empty, a single pawn of the current player's color is added.
-   *   - If the cell has pawns owned by the current player, the pawn count increases by one (upto3).
-   *   - If the cell has pawns owned by the opponent, the cell's owner is switched to the current
-   *   player's color.
-   * The influence grid is mirrored horizontally if the current player is Blue.
+   * Applies the influence of a placed card to the board, with the board's
+   * {@link InfluenceRules rules}.
+   * The card's 5x5 influence grid is overlaid on the board, centered at (cardRow, cardCol), and
+   * each entry changes its cell as described by {@link InfluenceRules#STANDARD} or, in the
+   * variant game, {@link InfluenceRules#VARIANT}.
+   * Blue cards' grids are already mirrored horizontally when their deck is read.
    *
    * @param cardRow    The row where the card was placed.
    * @param cardCol    The column where the card was placed.
    * @param card       The card that was placed.
-   * @param playerColor The color of the current player ("red" or "blue").
-   */
-  public void applyInfluence(int cardRow, int cardCol, Card card, String playerColor) {
-    char[][] grid = card.getInfluenceGrid();
-    // Iterate over the 5x5 grid.
-    for (int i = 0; i < 5; i++) {
-      for (int j = 0; j < 5; j++) {
-        // Skip cells that are not marked with influence.
-        if (grid[i][j] != 'I') {
-          continue;
-        }
-        int effectiveJ = j;
-        // Compute offset from the center (2,2).
-        int dr = i - 2;
-        int dc = effectiveJ - 2;
-        // Skip the center cell (the card's own cell).
-        if (dr == 0 && dc == 0) {
-          continue;
-        }
-        int targetRow = cardRow + dr;
-        int targetCol = cardCol + dc;
-        if (!board.isValidPosition(targetRow, targetCol)) {
-          continue;
-        }
-        Cell targetCell = board.getCell(targetRow, targetCol);
-        // If the cell has a card, no influence is applied.
-        if (targetCell.getCard() != null) {
-          continue;
-        }
-        // If the cell is empty, add one pawn.
-        if (!targetCell.hasPawns()) {
-          targetCell.setPawnCount(1);
-          targetCell.setOwner(playerColor);
-        } else {
-          // If the cell has pawns:
-          if (targetCell.getOwner().equals(playerColor)) {
-            // Increase pawn count by one (up to 3).
-            int newCount = Math.min(targetCell.getPawnCount() + 1, 3);
-            targetCell.setPawnCount(newCount);
-          } else {
-            // Otherwise, switch ownership to the current player.
-            targetCell.setOwner(playerColor);
-          }
-        }
+   * @param playerColor The color of the current player (RED or BLUE).
+   */
+  public void applyInfluence(int cardRow, int cardCol, Card card, PlayerColor playerColor) {
+    board.getRules().apply(board, cardRow, cardCol, card, playerColor);
+  }
+
+
+
+  // ======================== Journaled Moves (for searching) =========================
+
+  /**
+   * Plays a move in place without notifying any listeners. The cells in the card's footprint,
+   * the player's hand, the turn and the pass count are recorded first, so that {@link #undo()}
+   * can put them back exactly, whichever influence rules this model applies.
+   *
+   * @param player the player making the move
+   * @param row the row of the cell to place the card in
+   * @param col the column of the cell to place the card in
+   * @param cardIndex the index of the card in the player's hand
+   * @throws IllegalArgumentException if the position or card index is invalid
+   * @throws IllegalStateException if the move is not allowed by game rules
+   */
+  public void makeMove(PlayerI player, int row, int col, int cardIndex) {
+    if (!board.isValidPosition(row, col)) {
+      throw new IllegalArgumentException("Invalid cell position.");
+    }
+    List<Card> hand = player.getHand();
+    if (cardIndex < 0 || cardIndex >= hand.size()) {
+      throw new IllegalArgumentException("Invalid card index.");
+    }
+    Cell cell = board.getCell(row, col);
+    Card card = hand.get(cardIndex);
+    if (!cell.hasPawns() || cell.getOwner() != player.getColor() || cell.getCard() != null
+            || card.getCost() > cell.getPawnCount()) {
+      throw new IllegalStateException("Move is not allowed by game rules.");
+    }
+
+    JournalEntry entry = pushJournalEntry();
+    entry.player = player;
+    entry.cardIndex = cardIndex;
+    entry.card = card;
+    // only the card's own cell and the cells it influences can change
+    entry.record(cell);
+    for (int k = 0; k < card.getInfluenceCount(); k++) {
+      int r = row + card.getInfluenceRowOffset(k);
+      int c = col + card.getInfluenceColOffset(k);
+      if (board.isValidPosition(r, c)) {
+        entry.record(board.getCell(r, c));
+      }
+    }
+
+    cell.placeCard(card, player.getColor());
+    hand.remove(cardIndex);
+    applyInfluence(row, col, card, player.getColor());
+    consecutivePasses = 0;
+    isRedTurn = !isRedTurn;
+  }
+
+  /**
+   * Plays a pass in place without notifying any listeners, recording it so that
+   * {@link #undo()} can restore it.
+   */
+  public void makePass() {
+    pushJournalEntry();
+    consecutivePasses++;
+    isRedTurn = !isRedTurn;
+  }
+
+  /**
+   * Undoes the most recent journaled move or pass.
+   *
+   * @throws IllegalStateException if there is nothing to undo
+   */
+  public void undo() {
+    if (journalSize == 0) {
+      throw new IllegalStateException("No moves to undo.");
+    }
+    JournalEntry entry = journal.get(--journalSize);
+    for (int i = entry.cellCount - 1; i >= 0; i--) {
+      entry.cells[i].restore(entry.pawnCounts[i], entry.owners[i], entry.cards[i],
+              entry.influenceModifiers[i]);
+    }
+    if (entry.player != null) {
+      entry.player.getHand().add(entry.cardIndex, entry.card);
+    }
+    isRedTurn = entry.wasRedTurn;
+    consecutivePasses = entry.consecutivePasses;
+    entry.clear();
+  }
+
+  /**
+   * Keeps every journaled move and pass played so far for good: they stay on the board, but can
+   * no longer be undone. A caller that plays a real game with {@link #makeMove} and
+   * {@link #makePass} commits after each turn, so the journal does not grow with the game.
+   */
+  public void commit() {
+    for (int i = 0; i < journalSize; i++) {
+      journal.get(i).clear();
+    }
+    journalSize = 0;
+  }
+
+  /**
+   * Takes the next journal entry (reusing an old one if possible) and records the turn state.
+   */
+  private JournalEntry pushJournalEntry() {
+    if (journalSize == journal.size()) {
+      journal.add(new JournalEntry());
+    }
+    JournalEntry entry = journal.get(journalSize++);
+    entry.wasRedTurn = isRedTurn;
+    entry.consecutivePasses = consecutivePasses;
+    return entry;
+  }
+
+  /**
+   * Everything a journaled move or pass changed: the previous state of the cells in the card's
+   * footprint, the card taken from the player's hand, and the turn and pass count.
+   */
+  private static final class JournalEntry {
+    private static final int MAX_CELLS = 25;
+    private final Cell[] cells = new Cell[MAX_CELLS];
+    private final int[] pawnCounts = new int[MAX_CELLS];
+    private final PlayerColor[] owners = new PlayerColor[MAX_CELLS];
+    private final Card[] cards = new Card[MAX_CELLS];
+    private final int[] influenceModifiers = new int[MAX_CELLS];
+    private int cellCount;
+    private PlayerI player;
+    private int cardIndex;
+    private Card card;
+    private boolean wasRedTurn;
+    private int consecutivePasses;
+
+    private void record(Cell cell) {
+      cells[cellCount] = cell;
+      pawnCounts[cellCount] = cell.getPawnCount();
+      owners[cellCount] = cell.getOwner();
+      cards[cellCount] = cell.getCard();
+      influenceModifiers[cellCount] = cell.getInfluenceModifier();
+      cellCount++;
+    }
+
+    private void clear() {
+      for (int i = 0; i < cellCount; i++) {
+        cells[i] = null;
+        cards[i] = null;
       }
+      cellCount = 0;
+      player = null;
+      card = null;
     }
   }
 }
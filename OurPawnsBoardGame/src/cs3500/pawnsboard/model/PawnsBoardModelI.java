@@ -18,7 +18,7 @@ public interface PawnsBoardModelI extends ReadOnlyPawnsBoardModelVariantI {
    * @param chosenCard the card to use for applying influence
    * @param color the color representing the player applying the influence
    */
-  void applyInfluence(int row, int col, Card chosenCard, String color);
+  void applyInfluence(int row, int col, Card chosenCard, PlayerColor color);
 
   /**
    * Sets the count of consecutive passes.
@@ -32,5 +32,40 @@ public interface PawnsBoardModelI extends ReadOnlyPawnsBoardModelVariantI {
    */
   void switchTurn();
 
+  /**
+   * Registers a player taking part in the game, so that its hand is part of the game state.
+   *
+   * @param player the player to register
+   */
+  void registerPlayer(PlayerI player);
+
+  /**
+   * Plays a move in place without notifying any listeners, and records everything it changes so
+   * that {@link #undo()} can restore it. This is meant for searching: playing and undoing a move
+   * only touches the card's footprint instead of copying the whole board.
+   *
+   * @param player the player making the move
+   * @param row the row of the cell to place the card in
+   * @param col the column of the cell to place the card in
+   * @param cardIndex the index of the card in the player's hand
+   * @throws IllegalArgumentException if the position or card index is invalid
+   * @throws IllegalStateException if the move is not allowed by game rules
+   */
+  void makeMove(PlayerI player, int row, int col, int cardIndex);
+
+  /**
+   * Plays a pass in place without notifying any listeners, recording it so that
+   * {@link #undo()} can restore it.
+   */
+  void makePass();
+
+  /**
+   * Undoes the most recent {@link #makeMove} or {@link #makePass} that has not been undone yet,
+   * restoring the touched cells, the player's hand, the turn and the pass count.
+   *
+   * @throws IllegalStateException if there is nothing to undo
+   */
+  void undo();
+
 
 }
\ No newline at end of file
@@ -1,13 +1,23 @@
 package cs3500.pawnsboard.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Player class that tracks a player's color, deck, and hand.
  */
 public class Player implements PlayerI {
-  private final String color;
+
+  /**
+   * The most cards a hand can hold: a player who passes while the opponent plays keeps drawing,
+   * and stops drawing once the hand is full, so that every card in it can be named by a packed
+   * move.
+   */
+  public static final int MAX_HAND_SIZE = MoveList.MAX_CARD_INDEX + 1;
+
+  private final PlayerColor color;
   private List<Card> hand;
   private final List<Card> deck;
   private PawnsBoardModelI model;
@@ -18,9 +28,13 @@ public class Player implements PlayerI {
    * @param deck The list of cards to use (deck configuration).
    * @param model The model for the game.
    */
-  public Player(String color, List<Card> deck, PawnsBoardModelI model) {
+  public Player(PlayerColor color, List<Card> deck, PawnsBoardModelI model) {
     this.model = model;
     int initialHandSize = model.getHandSize();
+    if (initialHandSize > MAX_HAND_SIZE) {
+      throw new IllegalArgumentException("Hand size cannot be greater than " + MAX_HAND_SIZE
+              + ".");
+    }
     if (initialHandSize > (deck.size() / 3)) {
       throw new IllegalArgumentException("Hand size cannot be greater than a third " +
               "of the deck size.");
@@ -31,9 +45,44 @@ public class Player implements PlayerI {
     for (int i = 0; i < initialHandSize && !deck.isEmpty(); i++) {
       hand.add(deck.remove(0));
     }
+    model.registerPlayer(this);
+  }
+
+  /**
+   * Copy constructor: creates a player with copies of another player's hand and deck,
+   * registered with the given model.
+   * @param other the player to copy.
+   * @param model the model the copy plays in.
+   */
+  public Player(Player other, PawnsBoardModelI model) {
+    this.model = model;
+    this.color = other.color;
+    this.hand = new ArrayList<>(other.hand);
+    this.deck = new ArrayList<>(other.deck);
+    model.registerPlayer(this);
+  }
+
+  public Player copyFor(PawnsBoardModelI model) {
+    return new Player(this, model);
+  }
+
+  public Player sampleFor(PawnsBoardModelI model, Random random, boolean handVisible) {
+    Player sample = new Player(this, model);
+    if (handVisible) {
+      Collections.shuffle(sample.deck, random);
+    }
+    else {
+      // pool the unseen cards, shuffle them, and deal a hand of the same size back out
+      sample.deck.addAll(0, sample.hand);
+      Collections.shuffle(sample.deck, random);
+      for (int i = 0; i < hand.size(); i++) {
+        sample.hand.set(i, sample.deck.remove(sample.deck.size() - 1));
+      }
+    }
+    return sample;
   }
 
-  public String getColor() {
+  public PlayerColor getColor() {
     return color;
   }
 
@@ -47,10 +96,11 @@ public class Player implements PlayerI {
 
   /**
    * Draws a card from the deck and adds it to the player's hand.
-   * If the deck is empty, no action is taken.
+   * If the deck is empty or the hand already holds {@link #MAX_HAND_SIZE} cards, no action is
+   * taken.
    */
   public void drawCard() {
-    if (!deck.isEmpty()) {
+    if (!deck.isEmpty() && hand.size() < MAX_HAND_SIZE) {
       hand.add(deck.remove(0));
     }
   }
@@ -60,28 +110,62 @@ public class Player implements PlayerI {
    * @return a list of legal moves available.
    */
   public List<Move> getLegalMoves() {
-    List<Move> moves = new ArrayList<>();
-    for (int row = 0; row < model.getBoard().getRows(); row++) {
-      for (int col = 0; col < model.getBoard().getColumns(); col++) {
-        Cell cell = model.getBoard().getCell(row, col);
-        // Only consider cells that contain pawns owned by the current player and do not already
-        // hold a card.
-        if (!cell.hasPawns() || !cell.getOwner().equals(color) ||
-                cell.getCard() != null) {
-          continue;
-        }
-        // For each card in the player's hand, check if it can be legally played here.
-        for (int cardIndex = 0; cardIndex < hand.size(); cardIndex++) {
-          Card card = hand.get(cardIndex);
-          if (card.getCost() <= cell.getPawnCount()) {
-            moves.add(new Move(row, col, cardIndex));
-          }
+    MoveList packed = new MoveList();
+    getLegalMoves(packed);
+    List<Move> moves = new ArrayList<>(packed.size());
+    for (int i = 0; i < packed.size(); i++) {
+      moves.add(MoveList.toMove(packed.get(i)));
+    }
+    return moves;
+  }
+
+  /**
+   * Enumerates all legal moves for the current player into a reusable move list, without
+   * allocating. Moves are listed in row-major order of their cells, then by card index.
+   * @param moves the list to fill; it is cleared first.
+   */
+  public void getLegalMoves(MoveList moves) {
+    moves.clear();
+    if (hand.isEmpty()) {
+      return;
+    }
+    int minCost = minCostInHand();
+    // The board keeps an index of the cells holding the player's pawns and no card, so only
+    // those cells with enough pawns for the cheapest card are visited, in row-major order.
+    Board board = model.getBoard();
+    int columns = board.getColumns();
+    for (int index = board.nextPlayableCell(color, minCost, 0); index >= 0;
+         index = board.nextPlayableCell(color, minCost, index + 1)) {
+      int row = index / columns;
+      int col = index % columns;
+      int pawns = board.getCell(row, col).getPawnCount();
+      // For each card in the player's hand, check if it can be legally played here.
+      for (int cardIndex = 0; cardIndex < hand.size(); cardIndex++) {
+        if (hand.get(cardIndex).getCost() <= pawns) {
+          moves.add(row, col, cardIndex);
         }
       }
     }
-    return moves;
   }
 
+  /**
+   * Checks whether the player has at least one legal move, without listing them.
+   * @return true if some card in hand can be placed somewhere.
+   */
+  public boolean hasLegalMove() {
+    return !hand.isEmpty() && model.getBoard().nextPlayableCell(color, minCostInHand(), 0) >= 0;
+  }
+
+  private int minCostInHand() {
+    int minCost = 3;
+    // indexed rather than for-each, so move generation never allocates an iterator
+    for (int i = 0; i < hand.size(); i++) {
+      minCost = Math.min(minCost, hand.get(i).getCost());
+    }
+    return minCost;
+  }
+
+
   /**
    * Attempts to place a card from the current player's hand on the specified cell.
    * @param row       The row of the target cell.
@@ -103,7 +187,7 @@ public class Player implements PlayerI {
       throw new IllegalStateException("Cell has no pawns.");
     }
 
-    if (!cell.getOwner().equals(color)) {
+    if (cell.getOwner() != color) {
       throw new IllegalStateException("Cell is not owned by the current player.");
     }
 
@@ -144,7 +228,7 @@ public class Player implements PlayerI {
       model.pass();
       return true;
     }
-    if (getLegalMoves().isEmpty()) {
+    if (!hasLegalMove()) {
       System.out.println(color + " has no moves. Auto passsing.");
       model.pass();
       return true;
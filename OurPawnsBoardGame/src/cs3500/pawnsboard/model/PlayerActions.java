@@ -9,18 +9,19 @@ package cs3500.pawnsboard.model;
 public interface PlayerActions {
   /**
    * Returns the player's color.
-   * @return the color as a String.
+   * @return the player's color.
    */
-  String getColor();
+  PlayerColor getColor();
 
   /**
    * For machine players, computes the next move given the current game state.
    * For human players, this method is not used.
    * @param model the current read-only model.
-   * @return the computed Move, or null if not applicable.
+   * @return the computed move packed as described in {@link MoveList}, or
+   *         {@link MoveList#NO_MOVE} if not applicable.
    */
-  default Move getNextMove(ReadOnlyPawnsBoardModelI model) {
-    return null;
+  default int getNextMove(ReadOnlyPawnsBoardModelI model) {
+    return MoveList.NO_MOVE;
   }
 
   /**
@@ -0,0 +1,63 @@
+package cs3500.pawnsboard.model;
+
+/**
+ * The color of a player, which is also the owner of a cell on the board. {@link #NONE} is the
+ * owner of a cell that nobody has claimed yet.
+ *
+ * <p>Colors are compared by identity, so the model never has to compare owner strings. The
+ * lower-case names ("red", "blue", and the empty string) are only used at the edges, when a
+ * color is printed or converted for a view.
+ */
+public enum PlayerColor {
+  RED("red"),
+  BLUE("blue"),
+  NONE("");
+
+  private final String name;
+
+  PlayerColor(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Returns the other player's color. The opponent of {@link #NONE} is {@link #NONE}.
+   * @return BLUE for RED, RED for BLUE, NONE otherwise.
+   */
+  public PlayerColor opponent() {
+    switch (this) {
+      case RED:
+        return BLUE;
+      case BLUE:
+        return RED;
+      default:
+        return NONE;
+    }
+  }
+
+  /**
+   * Converts a color name ("red", "blue", or an empty string, ignoring case) to a PlayerColor.
+   * @param name the color name.
+   * @return the matching color.
+   * @throws IllegalArgumentException if the name is not a valid color.
+   */
+  public static PlayerColor fromString(String name) {
+    if (name == null) {
+      throw new IllegalArgumentException("Color cannot be null.");
+    }
+    for (PlayerColor color : values()) {
+      if (color.name.equalsIgnoreCase(name)) {
+        return color;
+      }
+    }
+    throw new IllegalArgumentException("Color must be 'Red', 'Blue', or an empty string.");
+  }
+
+  /**
+   * Returns the lower-case name of the color ("red", "blue", or an empty string for NONE).
+   * @return the color's name.
+   */
+  @Override
+  public String toString() {
+    return name;
+  }
+}
@@ -1,6 +1,7 @@
 package cs3500.pawnsboard.model;
 
 import java.util.List;
+import java.util.Random;
 
 /**
  * The interface for a player in the Pawns Board game.
@@ -12,7 +13,7 @@ public interface PlayerI {
    *
    * @return the player's color.
    */
-  String getColor();
+  PlayerColor getColor();
 
   /**
    * Returns the player's hand.
@@ -29,7 +30,8 @@ public interface PlayerI {
   void removeCardFromHand(Card card);
 
   /**
-   * This function draws a card from the deck to the hand.
+   * This function draws a card from the deck to the hand, unless the deck is empty or the hand
+   * is full.
    */
   void drawCard();
 
@@ -42,5 +44,29 @@ public interface PlayerI {
    */
   boolean placeCard(int row, int col, int cardIndex);
 
+  /**
+   * Enumerates all legal moves for this player into a reusable move list, without allocating.
+   * @param moves the list to fill; it is cleared first.
+   */
+  void getLegalMoves(MoveList moves);
 
+  /**
+   * Creates a copy of this player, with its own copies of the hand and deck, registered with the
+   * given model.
+   * @param model the model the copy plays in.
+   * @return the copy.
+   */
+  PlayerI copyFor(PawnsBoardModelI model);
+
+  /**
+   * Creates a copy of this player as another player might imagine it, registered with the given
+   * model: the cards that player cannot see are dealt again at random. The deck is always
+   * reshuffled; unless the hand is visible, the hand is redrawn from the hand and deck together,
+   * keeping its size.
+   * @param model the model the copy plays in.
+   * @param random the source of the shuffles.
+   * @param handVisible whether the hand is known and kept as it is.
+   * @return the sampled copy.
+   */
+  PlayerI sampleFor(PawnsBoardModelI model, Random random, boolean handVisible);
 }
\ No newline at end of file
@@ -28,15 +28,15 @@ public interface ReadOnlyPawnsBoardModelI {
    * Return the owner of the cell at the given row and column.
    * @param row the row
    * @param col the column
-   * @return either "red" or "blue" if the cell is owned by a player,
+   * @return either RED or BLUE if the cell is owned by a player, NONE otherwise.
    */
-  String getCellOwner(int row, int col);
+  PlayerColor getCellOwner(int row, int col);
 
   /**
    * Returns the color of the current player.
-   * @return A string representing the current player's color ("red" or "blue")
+   * @return the current player's color (RED or BLUE)
    */
-  String getCurrentPlayerColor();
+  PlayerColor getCurrentPlayerColor();
 
   /**
    * Returns the current board.
@@ -65,6 +65,21 @@ public interface ReadOnlyPawnsBoardModelI {
    */
   int[][] computeRowScores();
 
+  /**
+   * Returns one player's score for one row, without computing the other rows.
+   * @param row the row index.
+   * @param color the player's color (RED or BLUE).
+   * @return the player's row score.
+   */
+  int getRowScore(int row, PlayerColor color);
+
+  /**
+   * Returns a 64-bit hash of the whole game state (board, side to move, passes and hands), for
+   * use as a cheap key in caches and transposition tables. Equal states have equal hashes.
+   * @return the hash of the current game state.
+   */
+  long getStateHash();
+
   /**
    * Determines the winner of the game.
    * @return "Red wins!", "Blue wins!", or "It's a tie!".
@@ -0,0 +1,81 @@
+package cs3500.pawnsboard.model;
+
+/**
+ * The random keys used to hash a game state (Zobrist hashing). Instead of fixed tables, which
+ * would limit the board size, every key is derived by mixing a feature number through the
+ * SplitMix64 finalizer, so the same feature always gets the same well-spread 64-bit key.
+ *
+ * <p>An empty cell, red to move, and no passes all hash to 0, so an empty board hashes to 0 and a
+ * state's hash is the XOR of the keys of its non-empty features.
+ */
+final class Zobrist {
+
+  // separate salts so that different kinds of features never share a key
+  private static final long PAWNS_SALT = 0x1000000000000000L;
+  private static final long CARD_SALT = 0x2000000000000000L;
+  private static final long MODIFIER_SALT = 0x3000000000000000L;
+  private static final long PASSES_SALT = 0x4000000000000000L;
+  private static final long HAND_SALT = 0x5000000000000000L;
+
+  /**
+   * The key XORed in when it is Blue's turn.
+   */
+  static final long BLUE_TO_MOVE = mix(0x6000000000000000L);
+
+  private Zobrist() {
+  }
+
+  /**
+   * Mixes a number into a well-distributed 64-bit key (the SplitMix64 finalizer).
+   * @param z the number to mix.
+   * @return the mixed key.
+   */
+  static long mix(long z) {
+    z += 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * Returns the key of one cell's state.
+   * @param index the cell's index on the board (row * columns + col).
+   * @param cell the cell.
+   * @return the cell's key, 0 for an empty, unowned cell without modifiers.
+   */
+  static long cellKey(int index, Cell cell) {
+    long key = 0;
+    PlayerColor owner = cell.getOwner();
+    if (owner != PlayerColor.NONE || cell.getPawnCount() != 0) {
+      key ^= mix(PAWNS_SALT + ((long) index << 4) + (owner.ordinal() << 2) + cell.getPawnCount());
+    }
+    Card card = cell.getCard();
+    if (card != null) {
+      key ^= mix((CARD_SALT + ((long) index << 2) + owner.ordinal()) ^ card.getHashKey());
+    }
+    if (cell.getInfluenceModifier() != 0) {
+      key ^= mix(MODIFIER_SALT + ((long) index << 16) + (cell.getInfluenceModifier() & 0xFFFF));
+    }
+    return key;
+  }
+
+  /**
+   * Returns the key of the number of consecutive passes.
+   * @param passes the number of consecutive passes.
+   * @return the key, 0 for no passes.
+   */
+  static long passesKey(int passes) {
+    return (passes == 0) ? 0 : mix(PASSES_SALT + passes);
+  }
+
+  /**
+   * Returns the key of one card in a player's hand. Hand keys are added rather than XORed, so
+   * two copies of the same card do not cancel out and the order of the hand does not matter.
+   * @param color the color of the player holding the card.
+   * @param card the card.
+   * @return the key of the card in that player's hand.
+   */
+  static long handCardKey(PlayerColor color, Card card) {
+    return mix((HAND_SALT + color.ordinal()) ^ card.getHashKey());
+  }
+}
@@ -1,16 +1,21 @@
 package cs3500.pawnsboard.strategy;
 
 import java.util.List;
-import cs3500.pawnsboard.model.Board;
-import cs3500.pawnsboard.model.Card;
-import cs3500.pawnsboard.model.Move;
+import cs3500.pawnsboard.model.MoveList;
 import cs3500.pawnsboard.model.PawnsBoardModel;
 import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerColor;
 
 /**
  * A chained strategy that combines multiple strategies.
  * It calls each sub-strategy to get a candidate move and then uses a common evaluation
  * to choose the best move.
+ * <p>
+ * The chain and those of its strategies that simulate moves through
+ * {@link AbstractPawnsBoardStrategy} share one {@link SimulationCache} for the turn, so a move
+ * is only played on the model once however many strategies look at it, and evaluating the
+ * candidates costs no further simulations. The cache is emptied once the move is chosen.
+ * </p>
  */
 public class ChainedStrategy extends AbstractPawnsBoardStrategy {
   private List<PawnsBoardStrategy> strategies;
@@ -21,56 +26,55 @@ public class ChainedStrategy extends AbstractPawnsBoardStrategy {
    */
   public ChainedStrategy(List<PawnsBoardStrategy> strategies) {
     this.strategies = strategies;
+    SimulationCache simulations = new SimulationCache();
+    setSimulationCache(simulations);
+    for (PawnsBoardStrategy strategy : strategies) {
+      if (strategy instanceof AbstractPawnsBoardStrategy) {
+        ((AbstractPawnsBoardStrategy) strategy).setSimulationCache(simulations);
+      }
+    }
   }
 
   @Override
-  public Move chooseMove(PawnsBoardModel model, Player player) {
-    Move best = null;
+  public int chooseMove(PawnsBoardModel model, Player player) {
+    int best = MoveList.NO_MOVE;
     int bestEval = Integer.MIN_VALUE;
 
     // Iterate over each sub-strategy to obtain candidate moves.
     for (PawnsBoardStrategy strat : strategies) {
-      Move candidate = strat.chooseMove(model, player);
-      if (candidate != null) {
+      int candidate = strat.chooseMove(model, player);
+      if (candidate != MoveList.NO_MOVE) {
         int eval = evaluateMove(model, candidate, player);
-        if (best == null || eval > bestEval || (eval == bestEval && tieBreaker(candidate, best))) {
+        if (best == MoveList.NO_MOVE || eval > bestEval
+                || (eval == bestEval && tieBreaker(candidate, best))) {
           best = candidate;
           bestEval = eval;
         }
       }
     }
+    // the simulations belong to this turn only
+    getSimulationCache().clear();
     return best;
   }
 
   /**
-   * Simulates a candidate move on a cloned board and returns its evaluation.
+   * Evaluates the board after a candidate move, which a sub-strategy has usually simulated
+   * already.
    */
-  private int evaluateMove(PawnsBoardModel model, Move move, Player player) {
-    Board boardClone = model.cloneBoard();
-    Card card = player.getHand().get(move.getCardIndex());
-    boardClone.getCell(move.getRow(), move.getCol()).placeCard(card, player.getColor());
-    simulateInfluenceOnBoard(boardClone, move.getRow(), move.getCol(), card, player.getColor());
-    return evaluateBoard(boardClone, player);
+  private int evaluateMove(PawnsBoardModel model, int move, Player player) {
+    SimulationCache simulations = getSimulationCache();
+    int entry = simulations.simulate(model, move, player);
+    PlayerColor color = player.getColor();
+    return simulations.getOwned(entry, color) - simulations.getOwned(entry, color.opponent());
   }
 
   /**
    * Tie-breaker: returns true if the candidate move should replace the current move.
    * The tie-breaker prefers moves that are uppermost (lower row number), then leftmost
-   * (lower column number), and then using a lower card index.
+   * (lower column number), and then using a lower card index, which is exactly the order of the
+   * packed moves.
    */
-  private boolean tieBreaker(Move candidate, Move current) {
-    if (candidate.getRow() < current.getRow()) {
-      return true;
-    }
-    if (candidate.getRow() == current.getRow()) {
-      if (candidate.getCol() < current.getCol()) {
-        return true;
-      }
-      if (candidate.getCol() == current.getCol() &&
-              candidate.getCardIndex() < current.getCardIndex()) {
-        return true;
-      }
-    }
-    return false;
+  private boolean tieBreaker(int candidate, int current) {
+    return candidate < current;
   }
 }
\ No newline at end of file
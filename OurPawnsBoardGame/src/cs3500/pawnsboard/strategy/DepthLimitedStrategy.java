@@ -0,0 +1,42 @@
+package cs3500.pawnsboard.strategy;
+
+import cs3500.pawnsboard.model.MoveList;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.Player;
+
+/**
+ * A strategy whose search can be limited to a given depth and stopped at a deadline, so that it
+ * can be driven by {@link IterativeDeepeningStrategy}.
+ */
+public interface DepthLimitedStrategy extends PawnsBoardStrategy {
+
+  /**
+   * The value returned by {@link #chooseMove(PawnsBoardModel, Player, int, long)} when the
+   * deadline passed or the calling thread was interrupted before the search finished. It is
+   * neither a packed move nor {@link MoveList#NO_MOVE}.
+   */
+  int ABORTED = -2;
+
+  /**
+   * Searches the given number of plies and returns the chosen move, or {@link #ABORTED} if the
+   * deadline passed or the calling thread was interrupted first. An aborted search leaves the
+   * model exactly as it found it.
+   *
+   * @param model the current game model.
+   * @param player the player to choose a move for.
+   * @param depth the number of plies to search (at least 1).
+   * @param deadline the {@link System#nanoTime()} value at which to give up.
+   * @return the packed move, {@link MoveList#NO_MOVE} to pass, or {@link #ABORTED}.
+   * @throws IllegalArgumentException if the depth is less than 1.
+   */
+  int chooseMove(PawnsBoardModel model, Player player, int depth, long deadline);
+
+  /**
+   * Returns whether the last completed search reached the end of the game on every line it
+   * explored, so that searching deeper could not change its result.
+   * @return true if the last search was not cut short by its depth limit.
+   */
+  default boolean isLastSearchExhaustive() {
+    return false;
+  }
+}
@@ -0,0 +1,158 @@
+package cs3500.pawnsboard.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import cs3500.pawnsboard.model.MoveList;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerI;
+
+/**
+ * The {@code DeterminizedStrategy} class chooses a move without looking at the cards the player
+ * could not see in a real game: the opponent's hand and the order of both decks.
+ * <p>
+ * Instead, it samples many games that agree with what the player does know (the board, its own
+ * hand, and which cards are still unseen on each side), deals the unseen cards out at random in
+ * each sample, and runs another strategy on every sample. Each sample votes for the move the
+ * strategy chose there, and the move with the most votes is played; ties go to the first move in
+ * legal order, and passing comes last. No new sample is taken once the calling thread is
+ * interrupted, and the sample being searched then casts no vote.
+ * </p>
+ * <p>
+ * Given a {@link ForkJoinPool}, the samples are shared out among the pool's workers, each with its
+ * own instance of the searching strategy. Every sample is dealt from its own seed, so the votes,
+ * and the chosen move, do not depend on the number of threads as long as the searching strategy
+ * is itself repeatable.
+ * </p>
+ */
+public class DeterminizedStrategy implements PawnsBoardStrategy {
+
+  /**
+   * The default number of samples per move.
+   */
+  public static final int DEFAULT_SAMPLES = 64;
+
+  private final int samples;
+  private final ForkJoinPool pool;
+  private final long seed;
+  private final List<PawnsBoardStrategy> searches;
+  private final MoveList legalMoves;
+  private int moveNumber;
+  // set when the caller of a parallel search is interrupted, to stop the workers
+  private volatile boolean stopped;
+
+  /**
+   * Creates a sequential determinized strategy.
+   * @param searchFactory creates the strategy run on each sample.
+   * @param samples the number of samples per move.
+   * @throws IllegalArgumentException if the factory is null or the number of samples is not
+   *     positive.
+   */
+  public DeterminizedStrategy(Supplier<PawnsBoardStrategy> searchFactory, int samples) {
+    this(searchFactory, samples, null, 0);
+  }
+
+  /**
+   * Creates a determinized strategy.
+   * @param searchFactory creates the strategy run on each sample; it is called once per worker.
+   * @param samples the number of samples per move.
+   * @param pool the pool to search the samples in, or null to search them on the calling thread.
+   * @param seed the seed of the shuffles, so that the samples are repeatable.
+   * @throws IllegalArgumentException if the factory is null or the number of samples is not
+   *     positive.
+   */
+  public DeterminizedStrategy(Supplier<PawnsBoardStrategy> searchFactory, int samples,
+                              ForkJoinPool pool, long seed) {
+    if (searchFactory == null) {
+      throw new IllegalArgumentException("Search factory cannot be null.");
+    }
+    if (samples < 1) {
+      throw new IllegalArgumentException("Number of samples must be positive.");
+    }
+    this.samples = samples;
+    this.pool = pool;
+    this.seed = seed;
+    this.searches = new ArrayList<>();
+    int workers = (pool == null) ? 1 : Math.min(pool.getParallelism(), samples);
+    for (int i = 0; i < workers; i++) {
+      searches.add(searchFactory.get());
+    }
+    this.legalMoves = new MoveList();
+  }
+
+  @Override
+  public int chooseMove(PawnsBoardModel model, Player player) {
+    player.getLegalMoves(legalMoves);
+    if (legalMoves.isEmpty()) {
+      return MoveList.NO_MOVE;
+    }
+    moveNumber++;
+
+    // one vote count per legal move, then one for passing
+    int workers = searches.size();
+    int[][] votes = new int[workers][legalMoves.size() + 1];
+    AtomicInteger next = new AtomicInteger();
+    stopped = false;
+    if (pool == null || workers == 1) {
+      vote(model, player, searches.get(0), votes[0], next);
+    }
+    else {
+      List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+      for (int w = 0; w < workers; w++) {
+        PawnsBoardStrategy search = searches.get(w);
+        int[] counts = votes[w];
+        tasks.add(ForkJoinTask.adapt(() -> vote(model, player, search, counts, next)));
+      }
+      PoolSearch.invokeAll(pool, tasks, () -> stopped = true);
+    }
+
+    int best = 0;
+    int bestVotes = -1;
+    for (int i = 0; i < votes[0].length; i++) {
+      int total = 0;
+      for (int[] counts : votes) {
+        total += counts[i];
+      }
+      if (total > bestVotes) {
+        bestVotes = total;
+        best = i;
+      }
+    }
+    return (best == legalMoves.size()) ? MoveList.NO_MOVE : legalMoves.get(best);
+  }
+
+  /**
+   * Takes samples until none are left or the search is interrupted, searching each one and
+   * counting the chosen moves. The model is only read, so several workers can sample it at once.
+   */
+  private void vote(PawnsBoardModel model, Player player, PawnsBoardStrategy search,
+                    int[] counts, AtomicInteger next) {
+    PlayerI opponent = model.getPlayer(player.getColor().opponent());
+    for (int i = next.getAndIncrement();
+         i < samples && !stopped && !Thread.currentThread().isInterrupted();
+         i = next.getAndIncrement()) {
+      Random random = new Random(seed + 0x9E3779B97F4A7C15L * moveNumber + i);
+      PawnsBoardModel sample = model.copyWithoutPlayers();
+      Player self = player.sampleFor(sample, random, true);
+      if (opponent != null) {
+        opponent.sampleFor(sample, random, false);
+      }
+      int move = search.chooseMove(sample, self);
+      if (stopped || Thread.currentThread().isInterrupted()) {
+        // the search was cut short, and its answer (a pass, for an untimed minimax) is no vote
+        break;
+      }
+      // the player's own hand is kept in order, so its moves match the real legal moves
+      int index = (move == MoveList.NO_MOVE) ? legalMoves.size() : legalMoves.indexOf(move);
+      if (index >= 0) {
+        counts[index]++;
+      }
+    }
+  }
+}
@@ -1,8 +1,6 @@
 package cs3500.pawnsboard.strategy;
 
-import java.util.List;
-
-import cs3500.pawnsboard.model.Move;
+import cs3500.pawnsboard.model.MoveList;
 import cs3500.pawnsboard.model.PawnsBoardModel;
 import cs3500.pawnsboard.model.Player;
 
@@ -10,11 +8,13 @@ import cs3500.pawnsboard.model.Player;
  * A strategy that always chooses the first legal move and places it in the first available space.
  */
 public class FillFirstStrategy extends AbstractPawnsBoardStrategy {
+  private final MoveList legalMoves = new MoveList();
+
   @Override
-  public Move chooseMove(PawnsBoardModel model, Player player) {
-    List<Move> legalMoves = player.getLegalMoves();
+  public int chooseMove(PawnsBoardModel model, Player player) {
+    player.getLegalMoves(legalMoves);
     if (legalMoves.isEmpty()) {
-      return null; // indicates a pass
+      return MoveList.NO_MOVE; // indicates a pass
     }
     // Assuming legalMoves are already in the order of board traversal.
     return legalMoves.get(0);
@@ -0,0 +1,97 @@
+package cs3500.pawnsboard.strategy;
+
+import cs3500.pawnsboard.model.MoveList;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.Player;
+
+/**
+ * The {@code IterativeDeepeningStrategy} runs a {@link DepthLimitedStrategy} at depth 1, 2, 3 and
+ * so on until a per-move time budget runs out, and plays the move chosen by the deepest search
+ * that finished. The search in progress when time runs out is abandoned, so a move takes about
+ * the time budget however large the board or the hands are. Deepening also stops early once a
+ * search has played every line out to the end of the game, and the search in progress is
+ * abandoned as soon as the calling thread is interrupted, as when the move is cancelled.
+ * <p>
+ * If not even the depth-1 search finishes in time, the first legal move is played, so the
+ * strategy always answers within its budget (plus one clock-check interval of the search).
+ * </p>
+ */
+public class IterativeDeepeningStrategy implements PawnsBoardStrategy {
+
+  /**
+   * The deepest search tried when no maximum depth is given.
+   */
+  public static final int DEFAULT_MAX_DEPTH = 64;
+
+  private final DepthLimitedStrategy search;
+  private final long budgetNanos;
+  private final int maxDepth;
+  private final MoveList fallbackMoves = new MoveList();
+  private int lastDepth;
+
+  /**
+   * Creates an iterative-deepening driver searching up to {@link #DEFAULT_MAX_DEPTH} plies.
+   * @param search the depth-limited search to run.
+   * @param budgetMillis the time allowed per move, in milliseconds.
+   * @throws IllegalArgumentException if the search is null or the budget is not positive.
+   */
+  public IterativeDeepeningStrategy(DepthLimitedStrategy search, long budgetMillis) {
+    this(search, budgetMillis, DEFAULT_MAX_DEPTH);
+  }
+
+  /**
+   * Creates an iterative-deepening driver.
+   * @param search the depth-limited search to run.
+   * @param budgetMillis the time allowed per move, in milliseconds.
+   * @param maxDepth the deepest search to try, in plies.
+   * @throws IllegalArgumentException if the search is null, or the budget or depth is not
+   *     positive.
+   */
+  public IterativeDeepeningStrategy(DepthLimitedStrategy search, long budgetMillis,
+                                    int maxDepth) {
+    if (search == null) {
+      throw new IllegalArgumentException("Search cannot be null.");
+    }
+    if (budgetMillis <= 0 || maxDepth < 1) {
+      throw new IllegalArgumentException("Time budget and maximum depth must be positive.");
+    }
+    this.search = search;
+    this.budgetNanos = budgetMillis * 1_000_000L;
+    this.maxDepth = maxDepth;
+  }
+
+  @Override
+  public int chooseMove(PawnsBoardModel model, Player player) {
+    long deadline = System.nanoTime() + budgetNanos;
+    int best = DepthLimitedStrategy.ABORTED;
+    lastDepth = 0;
+    for (int depth = 1; depth <= maxDepth; depth++) {
+      int move = search.chooseMove(model, player, depth, deadline);
+      if (move == DepthLimitedStrategy.ABORTED) {
+        break;
+      }
+      best = move;
+      lastDepth = depth;
+      // an interrupt means the move is no longer wanted, so do not start a deeper search
+      if (search.isLastSearchExhaustive() || System.nanoTime() - deadline >= 0
+              || Thread.currentThread().isInterrupted()) {
+        break;
+      }
+    }
+    if (best == DepthLimitedStrategy.ABORTED) {
+      // not even one ply finished: any legal move beats running over the budget
+      player.getLegalMoves(fallbackMoves);
+      best = fallbackMoves.isEmpty() ? MoveList.NO_MOVE : fallbackMoves.get(0);
+    }
+    return best;
+  }
+
+  /**
+   * Returns the depth of the deepest search that finished during the last move, or 0 if none
+   * did.
+   * @return the depth reached by the last call to {@link #chooseMove}.
+   */
+  public int getLastDepth() {
+    return lastDepth;
+  }
+}
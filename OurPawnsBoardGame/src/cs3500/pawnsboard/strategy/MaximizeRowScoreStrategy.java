@@ -1,10 +1,9 @@
 package cs3500.pawnsboard.strategy;
 
-import java.util.List;
-
-import cs3500.pawnsboard.model.Move;
+import cs3500.pawnsboard.model.MoveList;
 import cs3500.pawnsboard.model.PawnsBoardModel;
 import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerColor;
 
 /**
  * The MaximizeRowScoreStrategy examines every legal move and selects the first one that, when
@@ -13,41 +12,43 @@ import cs3500.pawnsboard.model.Player;
  */
 public class MaximizeRowScoreStrategy extends AbstractPawnsBoardStrategy {
 
+  private final MoveList legalMoves = new MoveList();
+
   @Override
-  public Move chooseMove(PawnsBoardModel model, Player player) {
-    List<Move> legalMoves = player.getLegalMoves();
+  public int chooseMove(PawnsBoardModel model, Player player) {
+    player.getLegalMoves(legalMoves);
     if (legalMoves.isEmpty()) {
-      return null; // No valid moves available: the player should pass.
+      return MoveList.NO_MOVE; // No valid moves available: the player should pass.
     }
 
-    // Get the current row scores from the model.
-    int[][] currentRowScores = model.computeRowScores();
-    int boardRows = model.getBoard().cloneBoard().getRows();
-    // Determine indices: assume row score array uses index 0 for Red and 1 for Blue.
-    int playerIdx = player.getColor().equals("red") ? 0 : 1;
-    int opponentIdx = player.getColor().equals("red") ? 1 : 0;
+    PlayerColor opponent = player.getColor().opponent();
 
-    // Process rows from top to bottom.
-    for (int row = 0; row < boardRows; row++) {
-      // Only consider rows where the current player's score is less than or equal to the
-      // opponent's.
-      if (currentRowScores[row][playerIdx] <= currentRowScores[row][opponentIdx]) {
-        // For each legal move in this row, simulate its effect.
-        for (Move move : legalMoves) {
-          if (move.getRow() == row) {
-            int simulatedScore = simulateRowScoreAfterMove(model, move, player);
-            // If the simulated score wins the row (i.e. becomes strictly greater than the
-            // opponent's score), choose this move.
-            if (simulatedScore > currentRowScores[row][opponentIdx]) {
-              return move;
-            }
-          }
+    // Legal moves come in row-major order, so one pass over them processes rows from top to
+    // bottom, and each move costs a constant-time simulation however many rows the board has.
+    int row = -1;
+    int opponentScore = 0;
+    boolean rowOpen = false;
+    for (int i = 0; i < legalMoves.size(); i++) {
+      int move = legalMoves.get(i);
+      if (MoveList.row(move) != row) {
+        row = MoveList.row(move);
+        // Only consider rows where the current player's score is less than or equal to the
+        // opponent's. The model keeps row scores up to date, so reading them is constant time.
+        opponentScore = model.getRowScore(row, opponent);
+        rowOpen = model.getRowScore(row, player.getColor()) <= opponentScore;
+      }
+      if (rowOpen) {
+        int simulatedScore = simulateRowScoreAfterMove(model, move, player);
+        // If the simulated score wins the row (i.e. becomes strictly greater than the
+        // opponent's score), choose this move.
+        if (simulatedScore > opponentScore) {
+          return move;
         }
       }
     }
 
-    // If no move in any row produces a winning simulated row score, return null (indicating a
+    // If no move in any row produces a winning simulated row score, return NO_MOVE (indicating a
     // pass).
-    return null;
+    return MoveList.NO_MOVE;
   }
 }
\ No newline at end of file
@@ -1,67 +1,511 @@
 package cs3500.pawnsboard.strategy;
 
+import java.util.ArrayList;
 import java.util.List;
-import cs3500.pawnsboard.model.Board;
-import cs3500.pawnsboard.model.Card;
-import cs3500.pawnsboard.model.Cell;
-import cs3500.pawnsboard.model.Move;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import cs3500.pawnsboard.model.MoveList;
 import cs3500.pawnsboard.model.PawnsBoardModel;
 import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerColor;
+import cs3500.pawnsboard.model.PlayerI;
 
 /**
- * The {@code MiniMaxStrategy} class implements a simple minimax-based strategy for the Pawns Board
- * game.
+ * The {@code MiniMaxStrategy} class implements a depth-limited minimax search with alpha-beta
+ * pruning for the Pawns Board game.
+ * <p>
+ * The search alternates between the two players: at each node the player to move tries every
+ * legal move from their own hand (the opponent's hand is the one registered with the model) as
+ * well as passing, playing each on the model with {@link PawnsBoardModel#makeMove} or
+ * {@link PawnsBoardModel#makePass} and undoing it afterwards. A player with no legal move can only
+ * pass. Cards drawn after a move are not modelled, since the order of the decks is unknown.
+ * </p>
  * <p>
- * This strategy evaluates each legal move by simulating its effect on a cloned board, applying the
- * card's influence,
- * and then using a heuristic evaluation function. The heuristic used here is defined as:
- * (number of cells owned by the player) - (number of cells owned by the opponent). The move with
- * the highest evaluation
- * is selected. In the event of a tie, the first move in the legal moves list is chosen.
+ * A finished game (two consecutive passes) is scored with {@link PawnsBoardModel#computeScores},
+ * and any win outweighs any heuristic value. When the depth runs out, the position is scored with
+ * the heuristic (number of cells owned by the player) - (number of cells owned by the opponent).
+ * Searched positions are kept in a {@link TranspositionTable}, keyed by
+ * {@link PawnsBoardModel#getStateHash()}, so that positions reached again by another move order
+ * at the same depth are not searched again, and the best move found for a position is tried
+ * first next time. Below the root, the other moves are ordered by a {@link MoveOrderer}
+ * (captures, then killer moves, then the history table), which lets alpha-beta cut off sooner
+ * without changing any value.
+ * The move with the highest value is selected. In the event of a tie, the first move in the legal
+ * moves list is chosen, and passing is only chosen if it is strictly better than every move, such
+ * as when it ends a game the player is winning. (The original one-ply search never passed while
+ * it had a legal move.)
+ * </p>
+ * <p>
+ * Given a {@link ForkJoinPool}, the moves at the root are shared out among the pool's workers,
+ * each searching on its own copy of the game ({@link PawnsBoardModel#copy()}) with its own
+ * transposition table. A table entry is only used for a search of exactly its depth, so the
+ * value of every move depends only on the position, and the chosen move is the same whatever the
+ * number of threads or the order in which they finish.
+ * </p>
+ * <p>
+ * A search stops as soon as the thread that started it is interrupted, as when a machine move is
+ * cancelled, checking as often as it checks its deadline. An interrupted depth-limited search
+ * returns {@link #ABORTED}, and an interrupted full search returns {@link MoveList#NO_MOVE}, since
+ * its result is no longer wanted.
  * </p>
  */
-public class MiniMaxStrategy extends AbstractPawnsBoardStrategy {
+public class MiniMaxStrategy extends AbstractPawnsBoardStrategy implements DepthLimitedStrategy {
+
+  /**
+   * The search depth, in plies, used by the no-argument constructor.
+   */
+  public static final int DEFAULT_DEPTH = 2;
+
+  /**
+   * The number of transposition table entries (16 bytes each) used when no table is given.
+   */
+  public static final int DEFAULT_TABLE_SIZE = 1 << 16;
+
+  // more than any heuristic value (the number of cells on the largest board), so that a won game
+  // is always preferred to an unfinished one
+  private static final int WIN_SCORE = 1 << 26;
+  private static final int INFINITY = Integer.MAX_VALUE;
+  // the clock and the interrupt flag are read once every this many nodes (a power of two, minus
+  // one, as a mask)
+  private static final int CLOCK_CHECK_MASK = 63;
+
+  private final int depth;
+  // the pool sharing out the root moves, or null to search on the calling thread
+  private final ForkJoinPool pool;
+  // searchers.get(0) searches the caller's model; the others, one per extra pool worker, search
+  // copies. Each keeps its move lists and table from one move to the next.
+  private final List<Searcher> searchers;
+  // the deadline of the current search, if it has one, and whether the deadline has passed or
+  // the searching thread was interrupted
+  private boolean timed;
+  private long deadline;
+  private volatile boolean aborted;
+  // the best root move found so far in a parallel search, guarded by this strategy's lock
+  private int sharedBestValue;
+  private int sharedBestIndex;
+
+  /**
+   * Creates a minimax strategy searching {@link #DEFAULT_DEPTH} plies.
+   */
+  public MiniMaxStrategy() {
+    this(DEFAULT_DEPTH);
+  }
+
+  /**
+   * Creates a minimax strategy searching the given number of plies, with a transposition table
+   * of {@link #DEFAULT_TABLE_SIZE} entries. A depth of 1 only looks at the player's own moves.
+   * @param depth the number of plies to search.
+   * @throws IllegalArgumentException if the depth is less than 1.
+   */
+  public MiniMaxStrategy(int depth) {
+    this(depth, new TranspositionTable(DEFAULT_TABLE_SIZE));
+  }
+
+  /**
+   * Creates a minimax strategy searching the given number of plies with the given transposition
+   * table.
+   * @param depth the number of plies to search.
+   * @param table the table to remember searched positions in, or null to use none.
+   * @throws IllegalArgumentException if the depth is less than 1.
+   */
+  public MiniMaxStrategy(int depth, TranspositionTable table) {
+    this(depth, table, null);
+  }
+
+  /**
+   * Creates a minimax strategy that shares the root moves out among the workers of a pool. The
+   * given table is used by the first worker; each other worker gets a table of the same size.
+   * @param depth the number of plies to search.
+   * @param table the table to remember searched positions in, or null to use none.
+   * @param pool the pool to search in, or null to search on the calling thread.
+   * @throws IllegalArgumentException if the depth is less than 1.
+   */
+  public MiniMaxStrategy(int depth, TranspositionTable table, ForkJoinPool pool) {
+    this(depth, table, pool, true);
+  }
+
+  /**
+   * Creates a minimax strategy that shares the root moves out among the workers of a pool, with
+   * or without move ordering. Ordering never changes the chosen move, only how many positions
+   * are searched to find it.
+   * @param depth the number of plies to search.
+   * @param table the table to remember searched positions in, or null to use none.
+   * @param pool the pool to search in, or null to search on the calling thread.
+   * @param orderMoves whether to order moves with a {@link MoveOrderer}; without one, only the
+   *     table's best move is moved to the front.
+   * @throws IllegalArgumentException if the depth is less than 1.
+   */
+  public MiniMaxStrategy(int depth, TranspositionTable table, ForkJoinPool pool,
+                         boolean orderMoves) {
+    if (depth < 1) {
+      throw new IllegalArgumentException("Search depth must be at least 1.");
+    }
+    this.depth = depth;
+    this.pool = pool;
+    this.searchers = new ArrayList<>();
+    searchers.add(new Searcher(table, orderMoves ? new MoveOrderer() : null));
+    int workers = (pool == null) ? 1 : pool.getParallelism();
+    for (int i = 1; i < workers; i++) {
+      searchers.add(new Searcher(table == null ? null
+              : new TranspositionTable(table.capacity()),
+              orderMoves ? new MoveOrderer() : null));
+    }
+  }
+
+  @Override
+  public int chooseMove(PawnsBoardModel model, Player player) {
+    timed = false;
+    int move = searchRoot(model, player, depth);
+    return (move == ABORTED) ? MoveList.NO_MOVE : move;
+  }
+
+  @Override
+  public int chooseMove(PawnsBoardModel model, Player player, int depth, long deadline) {
+    if (depth < 1) {
+      throw new IllegalArgumentException("Search depth must be at least 1.");
+    }
+    timed = true;
+    this.deadline = deadline;
+    return searchRoot(model, player, depth);
+  }
+
+  /**
+   * Returns the number of positions visited by the last search, over all threads, as a measure
+   * of how much work it took.
+   * @return the number of positions searched below the root.
+   */
+  public long getLastNodeCount() {
+    long total = 0;
+    for (Searcher searcher : searchers) {
+      total += searcher.nodes;
+    }
+    return total;
+  }
 
   @Override
-  public Move chooseMove(PawnsBoardModel model, Player player) {
-    List<Move> legalMoves = player.getLegalMoves();
+  public boolean isLastSearchExhaustive() {
+    if (aborted) {
+      return false;
+    }
+    for (Searcher searcher : searchers) {
+      if (searcher.hitDepthLimit) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Tries every move of the player, and passing, to the given depth.
+   */
+  private int searchRoot(PawnsBoardModel model, Player player, int depth) {
+    aborted = false;
+    for (Searcher searcher : searchers) {
+      searcher.start(model);
+    }
+    Searcher main = searchers.get(0);
+    MoveList legalMoves = main.movesAt(0);
+    player.getLegalMoves(legalMoves);
     if (legalMoves.isEmpty()) {
-      return null;
+      return MoveList.NO_MOVE;
     }
 
     // set our current best to minimum
-    Move bestMove = null;
-    int bestValue = Integer.MIN_VALUE;
+    int bestMove;
+    int bestValue;
+    if (pool == null || searchers.size() == 1 || legalMoves.size() == 1) {
+      bestMove = MoveList.NO_MOVE;
+      bestValue = -INFINITY;
+      // iterate over every legal move and search the replies to it
+      for (int i = 0; i < legalMoves.size(); i++) {
+        int move = legalMoves.get(i);
+        model.makeMove(player, MoveList.row(move), MoveList.col(move), MoveList.cardIndex(move));
+        int value = -main.search(depth - 1, 1, -INFINITY, -bestValue);
+        model.undo();
+        if (aborted) {
+          return ABORTED;
+        }
 
-    // iterate over every legal move and simulate its effect
-    for (Move move : legalMoves) {
-      Board boardClone = model.cloneBoard();
+        // only update best move if the current move is strictly better
+        // in a tie, the first move in the legal moves list is chosen
+        if (value > bestValue) {
+          bestValue = value;
+          bestMove = move;
+        }
+      }
+    }
+    else {
+      searchRootInParallel(model, player, legalMoves, depth);
+      if (aborted) {
+        return ABORTED;
+      }
+      bestValue = sharedBestValue;
+      bestMove = legalMoves.get(sharedBestIndex);
+    }
 
-      // retreive the card from the current player's hand that will be played
-      Card card = player.getHand().get(move.getCardIndex());
+    // passing is kept only if it beats every move, e.g. when it ends a won game
+    model.makePass();
+    int passValue = -main.search(depth - 1, 1, -INFINITY, -bestValue);
+    model.undo();
+    if (aborted) {
+      return ABORTED;
+    }
+    if (passValue > bestValue) {
+      bestMove = MoveList.NO_MOVE;
+    }
+    return bestMove;
+  }
 
-      // place the card at the designated cell on the cloned board
-      Cell cell = boardClone.getCell(move.getRow(), move.getCol());
-      cell.placeCard(card, player.getColor());
+  /**
+   * Searches the root moves on the pool's workers, each taking the next unsearched move in legal
+   * order. The best move is the first one in legal order with the highest value, as in the
+   * sequential search: a move before the current best is searched with a window one lower, so
+   * that a tie with the best is still seen as exact and can take its place.
+   */
+  private void searchRootInParallel(PawnsBoardModel model, Player player, MoveList legalMoves,
+                                    int depth) {
+    sharedBestValue = -INFINITY;
+    sharedBestIndex = -1;
+    AtomicInteger next = new AtomicInteger();
+    int workers = Math.min(searchers.size(), legalMoves.size());
+    List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+    for (int w = 0; w < workers; w++) {
+      Searcher searcher = searchers.get(w);
+      PawnsBoardModel copy = model.copy();
+      tasks.add(ForkJoinTask.adapt(() -> {
+        searcher.model = copy;
+        PlayerI mover = copy.getPlayer(player.getColor());
+        for (int i = next.getAndIncrement(); i < legalMoves.size() && !aborted;
+             i = next.getAndIncrement()) {
+          int alpha;
+          synchronized (this) {
+            alpha = (sharedBestIndex < 0) ? -INFINITY
+                    : (i < sharedBestIndex) ? sharedBestValue - 1 : sharedBestValue;
+          }
+          int move = legalMoves.get(i);
+          copy.makeMove(mover, MoveList.row(move), MoveList.col(move), MoveList.cardIndex(move));
+          int value = -searcher.search(depth - 1, 1, -INFINITY, -alpha);
+          copy.undo();
+          if (aborted) {
+            return;
+          }
+          synchronized (this) {
+            if (value > sharedBestValue || (value == sharedBestValue && i < sharedBestIndex)) {
+              sharedBestValue = value;
+              sharedBestIndex = i;
+            }
+          }
+        }
+      }));
+    }
+    PoolSearch.invokeAll(pool, tasks, () -> aborted = true);
+    searchers.get(0).model = model;
+  }
 
-      // simulate the card’s influence on surrounding cells
-      simulateInfluenceOnBoard(boardClone, move.getRow(), move.getCol(), card, player.getColor());
+  /**
+   * Scores an unfinished position for the given player with the cell-count heuristic.
+   */
+  private static int evaluate(PawnsBoardModel model, PlayerColor color) {
+    return model.getBoard().countOwned(color) - model.getBoard().countOwned(color.opponent());
+  }
+
+  /**
+   * Scores a finished game for the given player: a win or loss outweighs any heuristic value,
+   * and the score margin breaks ties between wins.
+   */
+  private static int scoreFinishedGame(PawnsBoardModel model, PlayerColor color) {
+    int[] scores = model.computeScores();
+    int margin = (color == PlayerColor.RED) ? scores[0] - scores[1] : scores[1] - scores[0];
+    return Integer.signum(margin) * WIN_SCORE + margin;
+  }
 
-      // evaluate the board state using a simple heuristic, in this iteration:
-      // (number of cells owned by the player) - (number of cells owned by the opponent)
-      // in the future we can add more complex, but for now, it chooses the move in which the
-      // opponent has the least owned spaced
-      int currentValue = evaluateBoard(boardClone, player);
+  /**
+   * The state of one thread's search: the model it plays moves on, its move lists and its
+   * transposition table.
+   */
+  private final class Searcher {
+    // one reusable move list per ply, so searching does not allocate once it is deep enough
+    private final List<MoveList> movesByPly;
+    // results of searched positions, kept from one move to the next; null to search without one
+    private final TranspositionTable table;
+    // orders the moves of each node, or null to only try the table's move first
+    private final MoveOrderer orderer;
+    private PawnsBoardModel model;
+    private long nodes;
+    // whether the last search scored any position with the heuristic instead of playing it out
+    private boolean hitDepthLimit;
+
+    private Searcher(TranspositionTable table, MoveOrderer orderer) {
+      this.movesByPly = new ArrayList<>();
+      this.table = table;
+      this.orderer = orderer;
+    }
 
-      // only update best move if the current move is strictly better
-      // in a tie, the first move in the legal moves list is chosen
-      if (currentValue > bestValue) {
-        bestValue = currentValue;
-        bestMove = move;
+    /**
+     * Prepares for a new search on the given model.
+     */
+    private void start(PawnsBoardModel model) {
+      this.model = model;
+      this.nodes = 0;
+      this.hitDepthLimit = false;
+      if (table != null) {
+        table.newSearch();
+      }
+      if (orderer != null) {
+        orderer.newSearch();
       }
     }
 
-    return bestMove;
-  }
+    /**
+     * Searches the current position, in negamax form: the value is from the point of view of
+     * the player to move, and each child's value is negated. Values outside (alpha, beta) are
+     * only bounds, since the caller will not use them. Once the deadline has passed or the caller
+     * was interrupted, every level undoes its move and returns at once, and the value is
+     * meaningless.
+     * @param remaining the number of plies left to search.
+     * @param ply the distance from the root, used to pick a move list.
+     * @param alpha the value the player to move is already guaranteed.
+     * @param beta the value the opponent is already guaranteed to hold the player to.
+     * @return the value of the position for the player to move.
+     */
+    private int search(int remaining, int ply, int alpha, int beta) {
+      if (outOfTime()) {
+        return 0;
+      }
+      PlayerColor toMove = model.getCurrentPlayerColor();
+      if (model.isGameOver()) {
+        return scoreFinishedGame(model, toMove);
+      }
+      if (remaining == 0) {
+        hitDepthLimit = true;
+        return evaluate(model, toMove);
+      }
+
+      // a position reached before at this depth, by another move order or an earlier search, may
+      // already be known well enough to answer without searching it again. Only entries of exactly
+      // this depth are used, so the result never depends on what the table held before.
+      long key = 0;
+      int tableMove = MoveList.NO_MOVE;
+      if (table != null) {
+        key = model.getStateHash();
+        int slot = table.find(key);
+        if (slot >= 0) {
+          tableMove = table.getMove(slot);
+          if (table.getDepth(slot) == remaining) {
+            int score = table.getScore(slot);
+            int bound = table.getBound(slot);
+            if (bound == TranspositionTable.EXACT
+                    || (bound == TranspositionTable.LOWER_BOUND && score >= beta)
+                    || (bound == TranspositionTable.UPPER_BOUND && score <= alpha)) {
+              // the stored search may itself have been cut short by its depth
+              hitDepthLimit = true;
+              return score;
+            }
+          }
+        }
+      }
+
+      PlayerI mover = model.getPlayer(toMove);
+      MoveList moves = movesAt(ply);
+      if (mover != null) {
+        mover.getLegalMoves(moves);
+      }
+      else {
+        moves.clear();
+      }
+
+      int alphaBefore = alpha;
+      int bestMove = tableMove;
+      // the stored best move is tried first, if it is legal here, then the likeliest cutoffs
+      if (orderer != null && mover != null) {
+        orderer.order(moves, ply, tableMove, model.getBoard(), mover.getHand(), toMove);
+      }
+      else if (tableMove != MoveList.NO_MOVE) {
+        int index = moves.indexOf(tableMove);
+        if (index > 0) {
+          moves.moveToFront(index);
+        }
+      }
+      for (int i = 0; i < moves.size(); i++) {
+        int move = moves.get(i);
+        model.makeMove(mover, MoveList.row(move), MoveList.col(move), MoveList.cardIndex(move));
+        int value = -search(remaining - 1, ply + 1, -beta, -alpha);
+        model.undo();
+        if (aborted) {
+          return 0;
+        }
+        if (value > alpha) {
+          alpha = value;
+          bestMove = move;
+          if (alpha >= beta) {
+            if (orderer != null) {
+              orderer.recordCutoff(move, ply, remaining, model.getBoard(), mover.getHand(),
+                      toMove);
+            }
+            record(key, remaining, alphaBefore, beta, alpha, bestMove);
+            return alpha;
+          }
+        }
+      }
 
-}
\ No newline at end of file
+      // passing is always possible, and the only choice without a legal move
+      model.makePass();
+      int value = -search(remaining - 1, ply + 1, -beta, -alpha);
+      model.undo();
+      if (aborted) {
+        return 0;
+      }
+      if (value > alpha) {
+        alpha = value;
+        bestMove = MoveList.NO_MOVE;
+      }
+      record(key, remaining, alphaBefore, beta, alpha, bestMove);
+      return alpha;
+    }
+
+    /**
+     * Stores a searched position in the transposition table, if there is one, with the bound
+     * type that follows from where its value fell in the search window.
+     */
+    private void record(long key, int remaining, int alphaBefore, int beta, int value, int move) {
+      if (table == null) {
+        return;
+      }
+      int bound;
+      if (value >= beta) {
+        bound = TranspositionTable.LOWER_BOUND;
+      }
+      else if (value > alphaBefore) {
+        bound = TranspositionTable.EXACT;
+      }
+      else {
+        bound = TranspositionTable.UPPER_BOUND;
+      }
+      table.store(key, remaining, bound, value, move);
+    }
+
+    /**
+     * Counts a node, checks the clock and the interrupt flag every few nodes, and remembers once
+     * the deadline passed or the thread was interrupted. Pool workers are never interrupted
+     * themselves: an interrupted caller aborts them through {@link PoolSearch}.
+     */
+    private boolean outOfTime() {
+      nodes++;
+      if (!aborted && (nodes & CLOCK_CHECK_MASK) == 0
+          && (Thread.currentThread().isInterrupted()
+              || timed && System.nanoTime() - deadline >= 0)) {
+        aborted = true;
+      }
+      return aborted;
+    }
+
+    private MoveList movesAt(int ply) {
+      while (movesByPly.size() <= ply) {
+        movesByPly.add(new MoveList());
+      }
+      return movesByPly.get(ply);
+    }
+  }
+}
@@ -0,0 +1,350 @@
+package cs3500.pawnsboard.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import cs3500.pawnsboard.model.Board;
+import cs3500.pawnsboard.model.MoveList;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerColor;
+import cs3500.pawnsboard.model.PlayerI;
+
+/**
+ * The {@code MonteCarloStrategy} class chooses a move with Monte Carlo Tree Search (UCT).
+ * <p>
+ * Each iteration walks down a game tree from the current position, at each node picking the
+ * child with the best upper confidence bound (its average result plus an exploration bonus for
+ * rarely tried moves), adds one new child, and then plays the game out to the end with a quick
+ * playout policy: either uniformly random legal moves or, like {@link FillFirstStrategy}, the
+ * first legal move. The result of the playout (win, tie or loss) is added to every node on the
+ * path. Passing is a child of every node, so the search can find that ending the game wins; in
+ * playouts a player only passes without a legal move. Cards drawn after a move are not modelled,
+ * since the order of the decks is unknown.
+ * </p>
+ * <p>
+ * Moves are played on the model with {@link PawnsBoardModel#makeMove} and undone afterwards, so a
+ * playout allocates nothing. The search stops after a number of iterations, at a time budget or
+ * once the calling thread is interrupted, whichever comes first, and plays the root move that was
+ * tried most often; ties go to the first
+ * move in legal order, and passing comes last.
+ * </p>
+ * <p>
+ * Given a {@link ForkJoinPool}, the search is root-parallel: every pool worker grows its own tree
+ * on its own copy of the game, with its own share of the iterations and its own random seed, and
+ * the visit counts of the root moves are summed over the trees.
+ * </p>
+ */
+public class MonteCarloStrategy implements PawnsBoardStrategy {
+
+  /**
+   * How the game is played out after the tree.
+   */
+  public enum Playout {
+    /**
+     * Each player plays a uniformly random legal move.
+     */
+    RANDOM,
+    /**
+     * Each player plays its first legal move, as {@link FillFirstStrategy} does.
+     */
+    FILL_FIRST
+  }
+
+  /**
+   * The weight of the exploration bonus in the upper confidence bound.
+   */
+  public static final double EXPLORATION = Math.sqrt(2);
+
+  private final int maxIterations;
+  private final long budgetNanos;
+  private final Playout playout;
+  private final ForkJoinPool pool;
+  private final long seed;
+  private final List<Tree> trees;
+  private final MoveList legalMoves;
+  private int moveNumber;
+  // set when the caller of a parallel search is interrupted, to stop the workers
+  private volatile boolean stopped;
+
+  /**
+   * Creates a sequential MCTS strategy with random playouts and no time budget.
+   * @param maxIterations the number of iterations per move.
+   * @throws IllegalArgumentException if the number of iterations is not positive.
+   */
+  public MonteCarloStrategy(int maxIterations) {
+    this(maxIterations, 0, Playout.RANDOM, null, 0);
+  }
+
+  /**
+   * Creates an MCTS strategy.
+   * @param maxIterations the number of iterations per move, over all workers.
+   * @param budgetMillis the time allowed per move, in milliseconds, or 0 for no time budget.
+   * @param playout the playout policy.
+   * @param pool the pool to grow one tree per worker in, or null to search on the calling thread.
+   * @param seed the seed of the random numbers, so that a sequential search is repeatable.
+   * @throws IllegalArgumentException if the number of iterations is not positive, the budget is
+   *     negative, or the playout policy is null.
+   */
+  public MonteCarloStrategy(int maxIterations, long budgetMillis, Playout playout,
+                            ForkJoinPool pool, long seed) {
+    if (maxIterations < 1 || budgetMillis < 0) {
+      throw new IllegalArgumentException("Iterations must be positive and the time budget "
+              + "cannot be negative.");
+    }
+    if (playout == null) {
+      throw new IllegalArgumentException("Playout policy cannot be null.");
+    }
+    this.maxIterations = maxIterations;
+    this.budgetNanos = budgetMillis * 1_000_000L;
+    this.playout = playout;
+    this.pool = pool;
+    this.seed = seed;
+    this.trees = new ArrayList<>();
+    this.legalMoves = new MoveList();
+    int workers = (pool == null) ? 1 : pool.getParallelism();
+    for (int i = 0; i < workers; i++) {
+      trees.add(new Tree());
+    }
+  }
+
+  @Override
+  public int chooseMove(PawnsBoardModel model, Player player) {
+    player.getLegalMoves(legalMoves);
+    if (legalMoves.isEmpty()) {
+      return MoveList.NO_MOVE;
+    }
+    long deadline = System.nanoTime() + budgetNanos;
+    stopped = false;
+    moveNumber++;
+
+    if (pool == null || trees.size() == 1) {
+      Tree tree = trees.get(0);
+      tree.search(model, maxIterations, deadline, seed + moveNumber);
+      return tree.mostVisitedMove(null);
+    }
+
+    int workers = trees.size();
+    List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+    for (int w = 0; w < workers; w++) {
+      Tree tree = trees.get(w);
+      PawnsBoardModel copy = model.copy();
+      // share the iterations out as evenly as possible
+      int iterations = maxIterations / workers + (w < maxIterations % workers ? 1 : 0);
+      long treeSeed = seed + moveNumber + 0x9E3779B97F4A7C15L * (w + 1);
+      tasks.add(ForkJoinTask.adapt(() -> tree.search(copy, iterations, deadline, treeSeed)));
+    }
+    PoolSearch.invokeAll(pool, tasks, () -> stopped = true);
+
+    // every tree has the same root moves, in the same order, so their visits add up by index
+    long[] visits = new long[trees.get(0).root.children.length];
+    for (Tree tree : trees) {
+      for (int i = 0; i < visits.length; i++) {
+        Node child = tree.root.children[i];
+        visits[i] += (child == null) ? 0 : child.visits;
+      }
+    }
+    return trees.get(0).mostVisitedMove(visits);
+  }
+
+  /**
+   * Scores a finished game for the given player: 1 for a win, 0.5 for a tie, 0 for a loss. Row
+   * scores are read from the board, so this does not allocate.
+   */
+  private static double result(PawnsBoardModel model, PlayerColor color) {
+    Board board = model.getBoard();
+    int red = 0;
+    int blue = 0;
+    for (int row = 0; row < board.getRows(); row++) {
+      int redRow = board.getRowScore(row, PlayerColor.RED);
+      int blueRow = board.getRowScore(row, PlayerColor.BLUE);
+      if (redRow > blueRow) {
+        red += redRow;
+      }
+      else if (blueRow > redRow) {
+        blue += blueRow;
+      }
+    }
+    if (red == blue) {
+      return 0.5;
+    }
+    return ((red > blue) == (color == PlayerColor.RED)) ? 1 : 0;
+  }
+
+  /**
+   * A node of the game tree: the move that led to it, who made it, and the results of the
+   * playouts that went through it, from that player's point of view.
+   */
+  private static final class Node {
+    private final int move;
+    private final PlayerColor mover;
+    // the moves from this node (legal moves, then passing) and their nodes, created in order
+    private int[] moves;
+    private Node[] children;
+    private int expanded;
+    private long visits;
+    private double wins;
+
+    private Node(int move, PlayerColor mover) {
+      this.move = move;
+      this.mover = mover;
+    }
+  }
+
+  /**
+   * One worker's tree, with the scratch state it needs to search without allocating.
+   */
+  private final class Tree {
+    private final MoveList scratch = new MoveList();
+    private final List<Node> path = new ArrayList<>();
+    private Node root;
+    private SplittableRandom random;
+
+    /**
+     * Grows a new tree from the model's position, until the iterations or the time run out or
+     * the search is interrupted. The model is left as it was found.
+     */
+    private void search(PawnsBoardModel model, int iterations, long deadline, long seed) {
+      random = new SplittableRandom(seed);
+      root = new Node(MoveList.NO_MOVE, model.getCurrentPlayerColor().opponent());
+      expand(root, model);
+      for (int i = 0; i < iterations; i++) {
+        if ((i & 15) == 0 && (stopped || Thread.currentThread().isInterrupted()
+                || budgetNanos > 0 && System.nanoTime() - deadline >= 0)) {
+          break;
+        }
+        iterate(model);
+      }
+    }
+
+    /**
+     * Runs one selection, expansion, playout and backpropagation.
+     */
+    private void iterate(PawnsBoardModel model) {
+      path.clear();
+      Node node = root;
+      path.add(node);
+      int played = 0;
+
+      // selection: follow the best bound while every child has been tried
+      while (!model.isGameOver() && node.expanded == node.moves.length) {
+        node = select(node);
+        play(model, node.move);
+        played++;
+        path.add(node);
+      }
+
+      // expansion: add the next untried child
+      if (!model.isGameOver()) {
+        int index = node.expanded++;
+        Node child = new Node(node.moves[index], model.getCurrentPlayerColor());
+        node.children[index] = child;
+        play(model, child.move);
+        played++;
+        path.add(child);
+        expand(child, model);
+      }
+
+      // playout: finish the game with the playout policy
+      while (!model.isGameOver()) {
+        PlayerI mover = model.getPlayer(model.getCurrentPlayerColor());
+        scratch.clear();
+        if (mover != null) {
+          mover.getLegalMoves(scratch);
+        }
+        if (scratch.isEmpty()) {
+          model.makePass();
+        }
+        else {
+          int index = (playout == Playout.RANDOM) ? random.nextInt(scratch.size()) : 0;
+          play(model, scratch.get(index));
+        }
+        played++;
+      }
+
+      // backpropagation: credit each node's mover with the result
+      double redResult = result(model, PlayerColor.RED);
+      for (Node visited : path) {
+        visited.visits++;
+        visited.wins += (visited.mover == PlayerColor.RED) ? redResult : 1 - redResult;
+      }
+      for (int i = 0; i < played; i++) {
+        model.undo();
+      }
+    }
+
+    /**
+     * Lists the moves from a node's position: the legal moves of the player to move, then
+     * passing.
+     */
+    private void expand(Node node, PawnsBoardModel model) {
+      MoveList moves = scratch;
+      PlayerI mover = model.getPlayer(model.getCurrentPlayerColor());
+      moves.clear();
+      if (mover != null && !model.isGameOver()) {
+        mover.getLegalMoves(moves);
+      }
+      node.moves = new int[model.isGameOver() ? 0 : moves.size() + 1];
+      for (int i = 0; i < node.moves.length - 1; i++) {
+        node.moves[i] = moves.get(i);
+      }
+      if (node.moves.length > 0) {
+        node.moves[node.moves.length - 1] = MoveList.NO_MOVE;
+      }
+      node.children = new Node[node.moves.length];
+    }
+
+    /**
+     * Picks the child with the highest upper confidence bound; the first one wins ties.
+     */
+    private Node select(Node node) {
+      double logVisits = Math.log(node.visits);
+      Node best = null;
+      double bestBound = Double.NEGATIVE_INFINITY;
+      for (Node child : node.children) {
+        double bound = child.wins / child.visits
+                + EXPLORATION * Math.sqrt(logVisits / child.visits);
+        if (bound > bestBound) {
+          bestBound = bound;
+          best = child;
+        }
+      }
+      return best;
+    }
+
+    private void play(PawnsBoardModel model, int move) {
+      if (move == MoveList.NO_MOVE) {
+        model.makePass();
+      }
+      else {
+        PlayerI mover = model.getPlayer(model.getCurrentPlayerColor());
+        model.makeMove(mover, MoveList.row(move), MoveList.col(move), MoveList.cardIndex(move));
+      }
+    }
+
+    /**
+     * Returns the root move tried most often, by this tree's counts or the given ones.
+     */
+    private int mostVisitedMove(long[] visits) {
+      int best = 0;
+      long bestVisits = -1;
+      for (int i = 0; i < root.children.length; i++) {
+        long count;
+        if (visits != null) {
+          count = visits[i];
+        }
+        else {
+          count = (root.children[i] == null) ? 0 : root.children[i].visits;
+        }
+        if (count > bestVisits) {
+          bestVisits = count;
+          best = i;
+        }
+      }
+      return root.moves[best];
+    }
+  }
+}
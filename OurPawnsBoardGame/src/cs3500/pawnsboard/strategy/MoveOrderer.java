@@ -0,0 +1,191 @@
+package cs3500.pawnsboard.strategy;
+
+import java.util.Arrays;
+import java.util.List;
+
+import cs3500.pawnsboard.model.Board;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.Cell;
+import cs3500.pawnsboard.model.MoveList;
+import cs3500.pawnsboard.model.PlayerColor;
+
+/**
+ * Orders the moves of a search node so that the moves most likely to cause an alpha-beta cutoff
+ * are searched first. Moves are tried in this order:
+ * <ol>
+ *   <li>the transposition table's best move for the position,</li>
+ *   <li>captures, the ones turning the most opponent pawns first,</li>
+ *   <li>the killer moves of the ply: the last two quiet moves that caused a cutoff at the same
+ *   distance from the root, in a sibling position,</li>
+ *   <li>the remaining quiet moves, by their history score: how much cutting off with the same
+ *   card on the same cell has helped anywhere in the search, weighted by depth.</li>
+ * </ol>
+ * Moves with the same rank keep their order from move generation, so the order, and anything
+ * that depends on it, is repeatable.
+ *
+ * <p>History scores are kept in a fixed-size table indexed by a hash of the cell and the card,
+ * so the table does not grow with the board. Ordering reuses its scratch arrays and does not
+ * allocate once they are large enough. An orderer is not thread-safe; each searching thread
+ * needs its own.
+ */
+public final class MoveOrderer {
+
+  /**
+   * The number of history table entries.
+   */
+  public static final int HISTORY_SIZE = 1 << 14;
+
+  // ranks, from the most to the least promising; capture and history ranks add their score
+  private static final int TABLE_MOVE_RANK = Integer.MAX_VALUE;
+  private static final int CAPTURE_RANK = 1 << 28;
+  private static final int KILLER_RANK = 1 << 27;
+  private static final int HISTORY_LIMIT = KILLER_RANK - 1;
+  private static final int KILLERS_PER_PLY = 2;
+
+  private final int[] history;
+  private int[] killers;
+  // scratch space: each move's sort key, and a copy of the moves being reordered
+  private long[] keys;
+  private int[] original;
+
+  /**
+   * Creates an orderer with no killers and an empty history.
+   */
+  public MoveOrderer() {
+    this.history = new int[HISTORY_SIZE];
+    this.killers = new int[KILLERS_PER_PLY * 16];
+    Arrays.fill(killers, MoveList.NO_MOVE);
+    this.keys = new long[64];
+    this.original = new int[64];
+  }
+
+  /**
+   * Prepares for a new search: forgets the killers, which belong to the old root's plies, and
+   * halves the history scores so that recent cutoffs count more than old ones.
+   */
+  public void newSearch() {
+    Arrays.fill(killers, MoveList.NO_MOVE);
+    for (int i = 0; i < history.length; i++) {
+      history[i] >>= 1;
+    }
+  }
+
+  /**
+   * Reorders a node's moves, most promising first.
+   * @param moves the moves of the player to move, from move generation.
+   * @param ply the node's distance from the root.
+   * @param tableMove the transposition table's best move for the node, or
+   *     {@link MoveList#NO_MOVE}.
+   * @param board the board the moves are played on.
+   * @param hand the hand of the player to move.
+   * @param color the color of the player to move.
+   */
+  public void order(MoveList moves, int ply, int tableMove, Board board, List<Card> hand,
+                    PlayerColor color) {
+    int size = moves.size();
+    if (size < 2) {
+      return;
+    }
+    if (keys.length < size) {
+      keys = new long[Math.max(size, keys.length * 2)];
+      original = new int[keys.length];
+    }
+    for (int i = 0; i < size; i++) {
+      int move = moves.get(i);
+      original[i] = move;
+      int rank = rank(move, ply, tableMove, board, hand, color);
+      // sorting ascending puts the highest rank first, and the original order breaks ties
+      keys[i] = ((long) (TABLE_MOVE_RANK - rank) << 32) | i;
+    }
+    Arrays.sort(keys, 0, size);
+    for (int i = 0; i < size; i++) {
+      moves.set(i, original[(int) keys[i]]);
+    }
+  }
+
+  /**
+   * Records that a move caused a cutoff. Captures are already tried early, so only quiet moves
+   * become killers and gain history.
+   * @param move the move.
+   * @param ply the node's distance from the root.
+   * @param remaining the number of plies that were left to search below the node.
+   * @param board the board, as it was before the move.
+   * @param hand the hand of the player who made the move, as it was before the move.
+   * @param color the color of the player who made the move.
+   */
+  public void recordCutoff(int move, int ply, int remaining, Board board, List<Card> hand,
+                           PlayerColor color) {
+    if (move == MoveList.NO_MOVE || captures(move, board, hand, color) > 0) {
+      return;
+    }
+    int first = ply * KILLERS_PER_PLY;
+    if (first + 1 >= killers.length) {
+      int oldLength = killers.length;
+      killers = Arrays.copyOf(killers, Math.max(first + KILLERS_PER_PLY, oldLength * 2));
+      Arrays.fill(killers, oldLength, killers.length, MoveList.NO_MOVE);
+    }
+    if (killers[first] != move) {
+      killers[first + 1] = killers[first];
+      killers[first] = move;
+    }
+    int slot = historySlot(move, board, hand);
+    history[slot] = Math.min(HISTORY_LIMIT, history[slot] + remaining * remaining);
+  }
+
+  /**
+   * Returns how promising a move is; higher ranks are tried first.
+   */
+  private int rank(int move, int ply, int tableMove, Board board, List<Card> hand,
+                   PlayerColor color) {
+    if (move == tableMove) {
+      return TABLE_MOVE_RANK;
+    }
+    int captured = captures(move, board, hand, color);
+    if (captured > 0) {
+      return CAPTURE_RANK + captured;
+    }
+    int first = ply * KILLERS_PER_PLY;
+    if (first + 1 < killers.length) {
+      if (killers[first] == move) {
+        return KILLER_RANK + 1;
+      }
+      if (killers[first + 1] == move) {
+        return KILLER_RANK;
+      }
+    }
+    return history[historySlot(move, board, hand)];
+  }
+
+  /**
+   * Counts the opponent pawns a move would turn to the mover's color.
+   */
+  private static int captures(int move, Board board, List<Card> hand, PlayerColor color) {
+    Card card = hand.get(MoveList.cardIndex(move));
+    int row = MoveList.row(move);
+    int col = MoveList.col(move);
+    int captured = 0;
+    for (int k = 0; k < card.getInfluenceCount(); k++) {
+      if (card.getInfluenceKind(k) != 'I') {
+        continue;
+      }
+      int targetRow = row + card.getInfluenceRowOffset(k);
+      int targetCol = col + card.getInfluenceColOffset(k);
+      if (!board.isValidPosition(targetRow, targetCol)) {
+        continue;
+      }
+      Cell target = board.getCell(targetRow, targetCol);
+      PlayerColor owner = target.getOwner();
+      if (target.getCard() == null && owner != color && owner != PlayerColor.NONE) {
+        captured += target.getPawnCount();
+      }
+    }
+    return captured;
+  }
+
+  private static int historySlot(int move, Board board, List<Card> hand) {
+    long cell = (long) MoveList.row(move) * board.getColumns() + MoveList.col(move);
+    long mixed = (cell * 0x9E3779B97F4A7C15L) ^ hand.get(MoveList.cardIndex(move)).hashCode();
+    mixed ^= mixed >>> 29;
+    return (int) mixed & (HISTORY_SIZE - 1);
+  }
+}
@@ -1,6 +1,7 @@
 package cs3500.pawnsboard.strategy;
 
 import cs3500.pawnsboard.model.Move;
+import cs3500.pawnsboard.model.MoveList;
 import cs3500.pawnsboard.model.PawnsBoardModel;
 import cs3500.pawnsboard.model.Player;
 
@@ -10,9 +11,10 @@ import cs3500.pawnsboard.model.Player;
  * the current game state and selecting the most appropriate move for a given player color.
  *
  * <p>Implementations should consider various aspects of the game state provided by the
- * {@code PawnsBoardModel} and return a {@code Move} that represents the chosen row, column,
- * and hand index for the computer's move. If no valid move is possible, the strategy should
- * return {@code null}.
+ * {@code PawnsBoardModel} and return the chosen row, column, and hand index for the computer's
+ * move, packed into an int as described in {@link MoveList}, so that strategies never have to
+ * allocate {@code Move} objects. If no valid move is possible, the strategy should return
+ * {@link MoveList#NO_MOVE}.
  *
  * <p>This interface can be extended or implemented by different strategies (e.g., aggressive,
  * defensive) to allow for varied AI behavior during gameplay.
@@ -22,12 +24,13 @@ import cs3500.pawnsboard.model.Player;
  */
 public interface PawnsBoardStrategy {
   /**
-   * Given the current game model and the player’s color, returns a Move object that represents
-   * the chosen move for the computer.
+   * Given the current game model and the player’s color, returns the chosen move for the
+   * computer.
    *
    * @param model The current PawnsBoardModel (or a read-only view of it).
-   * @param player The player for which the strategy is making a decision ("red" or "blue").
-   * @return A Move representing the row, column, and hand index, or null if no valid move exists.
+   * @param player The player for which the strategy is making a decision (RED or BLUE).
+   * @return the row, column, and hand index packed with {@link MoveList#pack}, or
+   *         {@link MoveList#NO_MOVE} if no valid move exists.
    */
-  Move chooseMove(PawnsBoardModel model, Player player);
+  int chooseMove(PawnsBoardModel model, Player player);
 }
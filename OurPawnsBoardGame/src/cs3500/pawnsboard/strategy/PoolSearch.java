@@ -0,0 +1,57 @@
+package cs3500.pawnsboard.strategy;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Runs the tasks of a parallel search on a pool while the calling thread waits, without losing
+ * an interrupt of the caller. A caller blocked in {@link ForkJoinPool#invoke} has its interrupt
+ * flag cleared until the tasks are done, so the workers could never see that the search was
+ * cancelled; here the caller waits interruptibly instead, tells the workers to stop, and has its
+ * flag set again once they have.
+ */
+final class PoolSearch {
+
+  private PoolSearch() {
+  }
+
+  /**
+   * Runs every task on the pool and waits for all of them to finish.
+   * @param pool the pool to run the tasks on.
+   * @param tasks the tasks.
+   * @param stop called once, on the calling thread, if it is interrupted while waiting; it must
+   *     make the tasks return soon.
+   * @throws RuntimeException or Error if a task threw one.
+   */
+  static void invokeAll(ForkJoinPool pool, List<ForkJoinTask<?>> tasks, Runnable stop) {
+    ForkJoinTask<?> all = pool.submit(() -> {
+      ForkJoinTask.invokeAll(tasks);
+    });
+    boolean interrupted = false;
+    while (true) {
+      try {
+        all.get();
+        break;
+      } catch (InterruptedException e) {
+        if (!interrupted) {
+          interrupted = true;
+          stop.run();
+        }
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw new IllegalStateException(cause);
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
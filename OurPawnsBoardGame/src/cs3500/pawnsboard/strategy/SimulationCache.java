@@ -0,0 +1,181 @@
+package cs3500.pawnsboard.strategy;
+
+import java.util.Arrays;
+
+import cs3500.pawnsboard.model.Board;
+import cs3500.pawnsboard.model.MoveList;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerColor;
+
+/**
+ * Remembers what the board looks like after each move simulated in one position, so that
+ * several strategies choosing a move for the same turn (as in a {@link ChainedStrategy}) play each
+ * move on the model only once between them.
+ *
+ * <p>A simulation records the number of cells each player owns and both players' scores in the
+ * move's row. Results are keyed by the move, and belong to the position (its
+ * {@link PawnsBoardModel#getStateHash() state hash}) they were simulated in: as soon as a move is
+ * looked up in another position, such as on the next turn, the old results are discarded.
+ *
+ * <p>Results live in preallocated arrays with open addressing, and discarding them only bumps a
+ * stamp, so lookups do not allocate once the table is large enough for a turn's moves. A cache is
+ * not thread-safe.
+ */
+public final class SimulationCache {
+
+  private static final int EMPTY = 0;
+
+  private int[] moves;
+  // the stamp of the turn each entry was stored in; entries of older turns count as empty
+  private int[] stamps;
+  private int[] ownedRed;
+  private int[] ownedBlue;
+  private int[] rowRed;
+  private int[] rowBlue;
+  private int stamp;
+  private int size;
+  private long position;
+  private long simulations;
+
+  /**
+   * Creates an empty cache.
+   */
+  public SimulationCache() {
+    allocate(256);
+    this.stamp = 1;
+  }
+
+  /**
+   * Returns the entry for a move in the model's current position, playing the move on the model
+   * (and undoing it) if it has not been simulated in this position yet.
+   * @param model the game, left as it was found.
+   * @param move the packed move of the player to move.
+   * @param player the player to move.
+   * @return the move's entry, to read with {@link #getOwned} and {@link #getRowScore}.
+   */
+  public int simulate(PawnsBoardModel model, int move, Player player) {
+    long hash = model.getStateHash();
+    if (hash != position) {
+      clear();
+      position = hash;
+    }
+    int mask = moves.length - 1;
+    int slot = mix(move) & mask;
+    while (stamps[slot] == stamp) {
+      if (moves[slot] == move) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    int row = MoveList.row(move);
+    model.makeMove(player, row, MoveList.col(move), MoveList.cardIndex(move));
+    Board board = model.getBoard();
+    moves[slot] = move;
+    stamps[slot] = stamp;
+    ownedRed[slot] = board.countOwned(PlayerColor.RED);
+    ownedBlue[slot] = board.countOwned(PlayerColor.BLUE);
+    rowRed[slot] = board.getRowScore(row, PlayerColor.RED);
+    rowBlue[slot] = board.getRowScore(row, PlayerColor.BLUE);
+    model.undo();
+    simulations++;
+
+    // keep the table at most half full, so probes stay short
+    if (++size * 2 > moves.length) {
+      grow();
+      return find(move);
+    }
+    return slot;
+  }
+
+  /**
+   * Returns the number of cells a player owns after a simulated move.
+   * @param entry the move's entry, from {@link #simulate}.
+   * @param color the player's color.
+   * @return the number of cells that player owns.
+   */
+  public int getOwned(int entry, PlayerColor color) {
+    return (color == PlayerColor.RED) ? ownedRed[entry] : ownedBlue[entry];
+  }
+
+  /**
+   * Returns a player's score in the row of a simulated move, after the move.
+   * @param entry the move's entry, from {@link #simulate}.
+   * @param color the player's color.
+   * @return that player's score in the move's row.
+   */
+  public int getRowScore(int entry, PlayerColor color) {
+    return (color == PlayerColor.RED) ? rowRed[entry] : rowBlue[entry];
+  }
+
+  /**
+   * Discards every result, for instance when the turn ends.
+   */
+  public void clear() {
+    size = 0;
+    stamp++;
+    if (stamp == EMPTY) {
+      // the stamp wrapped around, so old entries could look current again
+      Arrays.fill(stamps, EMPTY);
+      stamp = 1;
+    }
+  }
+
+  /**
+   * Returns the number of moves actually played on a model by this cache so far, a measure of
+   * how much simulating it saved.
+   * @return the number of simulations.
+   */
+  public long getSimulationCount() {
+    return simulations;
+  }
+
+  private int find(int move) {
+    int mask = moves.length - 1;
+    int slot = mix(move) & mask;
+    while (moves[slot] != move || stamps[slot] != stamp) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void grow() {
+    int[] oldMoves = moves;
+    int[] oldStamps = stamps;
+    int[] oldOwnedRed = ownedRed;
+    int[] oldOwnedBlue = ownedBlue;
+    int[] oldRowRed = rowRed;
+    int[] oldRowBlue = rowBlue;
+    allocate(oldMoves.length * 2);
+    int mask = moves.length - 1;
+    for (int i = 0; i < oldMoves.length; i++) {
+      if (oldStamps[i] == stamp) {
+        int slot = mix(oldMoves[i]) & mask;
+        while (stamps[slot] == stamp) {
+          slot = (slot + 1) & mask;
+        }
+        moves[slot] = oldMoves[i];
+        stamps[slot] = stamp;
+        ownedRed[slot] = oldOwnedRed[i];
+        ownedBlue[slot] = oldOwnedBlue[i];
+        rowRed[slot] = oldRowRed[i];
+        rowBlue[slot] = oldRowBlue[i];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    moves = new int[capacity];
+    stamps = new int[capacity];
+    ownedRed = new int[capacity];
+    ownedBlue = new int[capacity];
+    rowRed = new int[capacity];
+    rowBlue = new int[capacity];
+  }
+
+  private static int mix(int move) {
+    int h = move * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+}
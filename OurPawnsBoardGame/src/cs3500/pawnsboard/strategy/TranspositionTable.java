@@ -0,0 +1,199 @@
+package cs3500.pawnsboard.strategy;
+
+import java.util.Arrays;
+
+import cs3500.pawnsboard.model.MoveList;
+
+/**
+ * A fixed-size transposition table for game-tree search: it remembers, for positions identified
+ * by their 64-bit state hash, how deep they were searched, the score found, whether that score is
+ * exact or only a bound, and the best move. Positions reached again by a different move order
+ * can then reuse the result instead of searching the same subtree again.
+ *
+ * <p>Entries live in one preallocated {@code long[]}, two longs per entry, so storing and probing
+ * never allocate. The first long holds the upper bits of the hash, the depth, the bound type and
+ * the search generation; the second holds the move and the score. An entry is found by the low
+ * bits of the hash and checked against the high bits, so two positions are only confused if
+ * their 64-bit hashes (nearly) agree. Callers should still check a stored move against their
+ * legal moves before playing it.
+ *
+ * <p>When two positions map to the same entry, the {@link Replacement} policy decides which one
+ * is kept.
+ */
+public final class TranspositionTable {
+
+  /**
+   * The stored score is the exact value of the position.
+   */
+  public static final int EXACT = 0;
+
+  /**
+   * The stored score is a lower bound: the search failed high.
+   */
+  public static final int LOWER_BOUND = 1;
+
+  /**
+   * The stored score is an upper bound: the search failed low.
+   */
+  public static final int UPPER_BOUND = 2;
+
+  /**
+   * The deepest search depth an entry can record.
+   */
+  public static final int MAX_DEPTH = 126;
+
+  /**
+   * How an entry is chosen to be overwritten.
+   */
+  public enum Replacement {
+    /**
+     * Every store overwrites the entry.
+     */
+    ALWAYS,
+    /**
+     * A store only overwrites another position's entry if it is at least as deep, or if that
+     * entry is left over from an earlier search.
+     */
+    DEPTH_PREFERRED
+  }
+
+  // low bits of the first long of an entry: bound (2 bits), depth + 1 (7 bits, so a used entry is
+  // never 0), generation (3 bits); the remaining high bits are the hash's
+  private static final int BOUND_BITS = 2;
+  private static final int DEPTH_SHIFT = BOUND_BITS;
+  private static final int DEPTH_BITS = 7;
+  private static final int GENERATION_SHIFT = DEPTH_SHIFT + DEPTH_BITS;
+  private static final int GENERATION_BITS = 3;
+  private static final long KEY_MASK = -1L << (GENERATION_SHIFT + GENERATION_BITS);
+
+  private final long[] entries;
+  private final int indexMask;
+  private final Replacement replacement;
+  private int generation;
+
+  /**
+   * Creates an empty table with depth-preferred replacement.
+   * @param capacity the number of entries, rounded down to a power of two.
+   * @throws IllegalArgumentException if the capacity is less than 1 or above 2^29.
+   */
+  public TranspositionTable(int capacity) {
+    this(capacity, Replacement.DEPTH_PREFERRED);
+  }
+
+  /**
+   * Creates an empty table.
+   * @param capacity the number of entries, rounded down to a power of two.
+   * @param replacement the replacement policy.
+   * @throws IllegalArgumentException if the capacity is less than 1 or above 2^29, or the policy
+   *     is null.
+   */
+  public TranspositionTable(int capacity, Replacement replacement) {
+    if (capacity < 1 || capacity > (1 << 29)) {
+      throw new IllegalArgumentException("Capacity must be between 1 and 2^29: " + capacity);
+    }
+    if (replacement == null) {
+      throw new IllegalArgumentException("Replacement policy cannot be null.");
+    }
+    int size = Integer.highestOneBit(capacity);
+    this.entries = new long[size * 2];
+    this.indexMask = size - 1;
+    this.replacement = replacement;
+    this.generation = 0;
+  }
+
+  /**
+   * Returns the number of entries in the table.
+   * @return the capacity, a power of two.
+   */
+  public int capacity() {
+    return indexMask + 1;
+  }
+
+  /**
+   * Starts a new search: entries stored before are kept, but depth-preferred replacement may now
+   * overwrite them regardless of depth.
+   */
+  public void newSearch() {
+    generation = (generation + 1) & ((1 << GENERATION_BITS) - 1);
+  }
+
+  /**
+   * Removes every entry.
+   */
+  public void clear() {
+    Arrays.fill(entries, 0L);
+  }
+
+  /**
+   * Looks up a position.
+   * @param key the position's state hash.
+   * @return the entry's slot, for the getters below, or -1 if the position is not stored.
+   */
+  public int find(long key) {
+    int slot = (int) key & indexMask;
+    long header = entries[2 * slot];
+    if (header != 0 && (header & KEY_MASK) == (key & KEY_MASK)) {
+      return slot;
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the depth a found position was searched to.
+   * @param slot a slot returned by {@link #find}.
+   * @return the depth, in plies.
+   */
+  public int getDepth(int slot) {
+    return (int) (entries[2 * slot] >>> DEPTH_SHIFT & ((1 << DEPTH_BITS) - 1)) - 1;
+  }
+
+  /**
+   * Returns the bound type of a found position's score.
+   * @param slot a slot returned by {@link #find}.
+   * @return {@link #EXACT}, {@link #LOWER_BOUND} or {@link #UPPER_BOUND}.
+   */
+  public int getBound(int slot) {
+    return (int) (entries[2 * slot] & ((1 << BOUND_BITS) - 1));
+  }
+
+  /**
+   * Returns the score of a found position.
+   * @param slot a slot returned by {@link #find}.
+   * @return the score, from the point of view of the player to move.
+   */
+  public int getScore(int slot) {
+    return (int) entries[2 * slot + 1];
+  }
+
+  /**
+   * Returns the best move of a found position.
+   * @param slot a slot returned by {@link #find}.
+   * @return the packed move, or {@link MoveList#NO_MOVE} if passing was best or no move is known.
+   */
+  public int getMove(int slot) {
+    return (int) (entries[2 * slot + 1] >>> 32);
+  }
+
+  /**
+   * Stores the result of searching a position, subject to the replacement policy.
+   * @param key the position's state hash.
+   * @param depth the depth searched, in plies (clamped to {@link #MAX_DEPTH}).
+   * @param bound {@link #EXACT}, {@link #LOWER_BOUND} or {@link #UPPER_BOUND}.
+   * @param score the score, from the point of view of the player to move.
+   * @param move the best move found, or {@link MoveList#NO_MOVE}.
+   */
+  public void store(long key, int depth, int bound, int score, int move) {
+    int slot = (int) key & indexMask;
+    long header = entries[2 * slot];
+    if (replacement == Replacement.DEPTH_PREFERRED && header != 0
+            && (header & KEY_MASK) != (key & KEY_MASK)
+            && (int) (header >>> GENERATION_SHIFT & ((1 << GENERATION_BITS) - 1)) == generation
+            && getDepth(slot) > depth) {
+      return;
+    }
+    int storedDepth = Math.max(0, Math.min(depth, MAX_DEPTH)) + 1;
+    entries[2 * slot] = (key & KEY_MASK) | ((long) generation << GENERATION_SHIFT)
+            | ((long) storedDepth << DEPTH_SHIFT) | (bound & ((1 << BOUND_BITS) - 1));
+    entries[2 * slot + 1] = ((long) move << 32) | (score & 0xFFFFFFFFL);
+  }
+}
@@ -1,6 +1,7 @@
 package cs3500.pawnsboard.view;
 
 import cs3500.pawnsboard.model.Cell;
+import cs3500.pawnsboard.model.PlayerColor;
 import cs3500.pawnsboard.provider.model.BoardElement;
 import cs3500.pawnsboard.provider.model.Player;
 
@@ -27,19 +28,44 @@ public class BoardElementAdapter implements BoardElement {
 
   @Override
   public Player getPlayerType() {
-    String owner = cell.getOwner();
-    if (owner.equalsIgnoreCase("red")) {
-      return cs3500.pawnsboard.provider.model.Player.RED;
-    } else if (owner.equalsIgnoreCase("blue")) {
-      return cs3500.pawnsboard.provider.model.Player.BLUE;
-    } else {
-      return cs3500.pawnsboard.provider.model.Player.NONE;
-    }
+    return toProviderPlayer(cell.getOwner());
   }
 
   @Override
   public void updatePlayerType(Player type) {
-    cell.setOwner(type.toString().toLowerCase());
+    cell.setOwner(toPlayerColor(type));
+  }
+
+  /**
+   * Converts one of our player colors to the provider's player type.
+   * @param color our color.
+   * @return the provider's matching player.
+   */
+  static Player toProviderPlayer(PlayerColor color) {
+    switch (color) {
+      case RED:
+        return Player.RED;
+      case BLUE:
+        return Player.BLUE;
+      default:
+        return Player.NONE;
+    }
+  }
+
+  /**
+   * Converts the provider's player type to one of our player colors.
+   * @param type the provider's player.
+   * @return our matching color.
+   */
+  static PlayerColor toPlayerColor(Player type) {
+    switch (type) {
+      case RED:
+        return PlayerColor.RED;
+      case BLUE:
+        return PlayerColor.BLUE;
+      default:
+        return PlayerColor.NONE;
+    }
   }
 
   @Override
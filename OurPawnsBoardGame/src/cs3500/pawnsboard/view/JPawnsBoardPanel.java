@@ -6,6 +6,7 @@ import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
@@ -16,6 +17,7 @@ import cs3500.pawnsboard.model.Board;
 import cs3500.pawnsboard.model.Cell;
 import cs3500.pawnsboard.model.Card;
 import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerColor;
 import cs3500.pawnsboard.model.ReadOnlyPawnsBoardModelI;
 
 import javax.swing.JPanel;
@@ -104,7 +106,7 @@ public class JPawnsBoardPanel extends JPanel {
   private void drawCard(Card card, Graphics2D g2d, int x, int y, int cardWidth, int cardHeight,
                         boolean selected) {
     // Choose fill color based on selection state.
-    Color fillColor = colorScheme.getCardFillColor(player.getColor(), selected);
+    Color fillColor = colorScheme.getCardFillColor(player.getColor().toString(), selected);
 
     // Fill the card's background.
     g2d.setColor(fillColor);
@@ -136,14 +138,13 @@ public class JPawnsBoardPanel extends JPanel {
     int gridStartY = y + textAreaHeight + ((availableHeight - gridSize) / 2);
 
     // Draw the 5x5 influence grid.
-    char[][] grid = card.getInfluenceGrid();
     for (int i = 0; i < 5; i++) {
       for (int j = 0; j < 5; j++) {
         int cellX = gridStartX + j * gridCellSize;
         int cellY = gridStartY + i * gridCellSize;
 
         // Get the cell color from the color scheme
-        char cellType = grid[i][j];
+        char cellType = card.getInfluenceAt(i, j);
         Color cellColor = colorScheme.getInfluenceGridCellColor(cellType);
 
         // Fill the cell with the determined color.
@@ -215,7 +216,7 @@ public class JPawnsBoardPanel extends JPanel {
     if (selected) {
       backgroundColor = colorScheme.getSelectedCellBackground();
     } else if (cell.getCard() != null) {
-      backgroundColor = colorScheme.getPlayerCellBackground(cell.getOwner());
+      backgroundColor = colorScheme.getPlayerCellBackground(cell.getOwner().toString());
     } else {
       backgroundColor = colorScheme.getCellBackground();
     }
@@ -247,7 +248,7 @@ public class JPawnsBoardPanel extends JPanel {
       int diameter = Math.min(cellWidth, cellHeight) / 4;
 
       // Set pawn color based on owner using the color scheme
-      g2d.setColor(colorScheme.getPawnColor(cell.getOwner()));
+      g2d.setColor(colorScheme.getPawnColor(cell.getOwner().toString()));
 
       if (pawnCount == 1) {
         // Center a single circle.
@@ -309,8 +310,10 @@ public class JPawnsBoardPanel extends JPanel {
 
 
   /**
-   * Draws the entire board by iterating over its cells.
-   * The board is drawn within the specified rectangle.
+   * Draws the board by iterating over its cells.
+   * The board is drawn within the specified rectangle. Only the cells that intersect the
+   * current clip are painted, so repainting a large board (or part of one) does not touch every
+   * cell.
    *
    * @param board  the board to draw
    * @param g2d    the graphics context
@@ -322,20 +325,33 @@ public class JPawnsBoardPanel extends JPanel {
   private void drawBoard(Board board, Graphics2D g2d, int x, int y, int width, int height) {
     int rows = board.getRows();
     int cols = board.getColumns();
-    int cellWidth = width / (cols + 2);
-    int cellHeight = height / rows;
-
-    int[][] rowScores = model.computeRowScores();
+    // never let a cell shrink to nothing on boards larger than the panel
+    int cellWidth = Math.max(1, width / (cols + 2));
+    int cellHeight = Math.max(1, height / rows);
+
+    int firstRow = 0;
+    int lastRow = rows - 1;
+    int firstCol = -1;
+    int lastCol = cols;
+    Rectangle clip = g2d.getClipBounds();
+    if (clip != null) {
+      firstRow = Math.max(firstRow, (clip.y - y) / cellHeight);
+      lastRow = Math.min(lastRow, (clip.y + clip.height - y) / cellHeight);
+      firstCol = Math.max(firstCol, (clip.x - x) / cellWidth - 1);
+      lastCol = Math.min(lastCol, (clip.x + clip.width - x) / cellWidth - 1);
+    }
 
-    for (int row = 0; row < rows; row++) {
-      for (int col = -1; col < cols + 1; col++) {
+    for (int row = firstRow; row <= lastRow; row++) {
+      for (int col = firstCol; col <= lastCol; col++) {
         // Shift by one cellWidth so that col=-1 is drawn at x.
         int cellX = x + (col + 1) * cellWidth;
         int cellY = y + row * cellHeight;
         if (col == -1) {
-          drawScoreCell(rowScores[row][0], g2d, cellX, cellY, cellWidth, cellHeight);
+          drawScoreCell(model.getRowScore(row, PlayerColor.RED), g2d, cellX, cellY,
+                  cellWidth, cellHeight);
         } else if (col == cols) {
-          drawScoreCell(rowScores[row][1], g2d, cellX, cellY, cellWidth, cellHeight);
+          drawScoreCell(model.getRowScore(row, PlayerColor.BLUE), g2d, cellX, cellY,
+                  cellWidth, cellHeight);
         } else {
           if ((selectedCellRow == row) && (selectedCellCol == col)) {
             drawCell(board.getCell(row, col), g2d, cellX, cellY, cellWidth, cellHeight, true);
@@ -482,8 +498,8 @@ public class JPawnsBoardPanel extends JPanel {
         // The board region includes two extra columns for scores.
         int cols = model.getBoard().getColumns();
         int rows = model.getBoard().getRows();
-        int cellWidth = panelWidth / (cols + 2);
-        int cellHeight = boardHeight / rows;
+        int cellWidth = Math.max(1, panelWidth / (cols + 2));
+        int cellHeight = Math.max(1, boardHeight / rows);
         // Ignore clicks on the left/right score columns.
         if (clickX < cellWidth || clickX > cellWidth * (cols + 1)) {
           return;
@@ -492,6 +508,9 @@ public class JPawnsBoardPanel extends JPanel {
         int adjustedX = clickX - cellWidth;
         int col = adjustedX / cellWidth;
         int row = clickY / cellHeight;
+        if (row >= rows || col >= cols) {
+          return;
+        }
         JPawnsBoardPanel.this.selectedCellRow = row;
         JPawnsBoardPanel.this.selectedCellCol = col;
         for (ViewFeatures vf : featuresListeners) {
@@ -33,7 +33,7 @@ public class JPawnsBoardPanelVariant extends JPawnsBoardPanel {
     if (selected) {
       backgroundColor = colorScheme.getSelectedCellBackground();
     } else if (cell.getCard() != null) {
-      backgroundColor = colorScheme.getPlayerCellBackground(cell.getOwner());
+      backgroundColor = colorScheme.getPlayerCellBackground(cell.getOwner().toString());
     } else {
       backgroundColor = colorScheme.getCellBackground();
     }
@@ -65,7 +65,7 @@ public class JPawnsBoardPanelVariant extends JPawnsBoardPanel {
       int diameter = Math.min(cellWidth, cellHeight) / 4;
 
       // Set pawn color based on owner using the color scheme
-      g2d.setColor(colorScheme.getPawnColor(cell.getOwner()));
+      g2d.setColor(colorScheme.getPawnColor(cell.getOwner().toString()));
 
       if (pawnCount == 1) {
         // Center a single circle.
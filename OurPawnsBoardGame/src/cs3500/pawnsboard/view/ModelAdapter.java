@@ -80,13 +80,7 @@ public class ModelAdapter implements PawnsWorldReadOnly {
   // We convert our model’s current player color to the provider’s Player.
   @Override
   public cs3500.pawnsboard.provider.model.Player getTurn() {
-    String color = model.getCurrentPlayerColor();
-    if (color.equalsIgnoreCase("red")) {
-      return cs3500.pawnsboard.provider.model.Player.RED;
-    } else if (color.equalsIgnoreCase("blue")) {
-      return cs3500.pawnsboard.provider.model.Player.BLUE;
-    }
-    return cs3500.pawnsboard.provider.model.Player.NONE;
+    return BoardElementAdapter.toProviderPlayer(model.getCurrentPlayerColor());
   }
 
   @Override
@@ -138,12 +132,6 @@ public class ModelAdapter implements PawnsWorldReadOnly {
 
   @Override
   public int calculateScore(int row,  cs3500.pawnsboard.provider.model.Player player) {
-    int[][] rowScores = model.computeRowScores();
-    if (player == cs3500.pawnsboard.provider.model.Player.RED) {
-      return rowScores[row][0];
-    } else if (player == cs3500.pawnsboard.provider.model.Player.BLUE) {
-      return rowScores[row][1];
-    }
-    return 0;
+    return model.getRowScore(row, BoardElementAdapter.toPlayerColor(player));
   }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import javax.swing.JRadioButtonMenuItem;
 public class PawnsBoardGUIView extends JFrame implements PawnsBoardGUIViewI {
 
   final JPawnsBoardPanelVariant panel;
+  private final ThinkingIndicator thinking;
 
 
   /**
@@ -38,6 +39,7 @@ public class PawnsBoardGUIView extends JFrame implements PawnsBoardGUIViewI {
 
     // Additional setup (listeners, overlays, etc.) can be added later.
     this.setLocationRelativeTo(null);
+    this.thinking = new ThinkingIndicator(this);
   }
 
   /**
@@ -113,4 +115,9 @@ public class PawnsBoardGUIView extends JFrame implements PawnsBoardGUIViewI {
   public void setColorScheme(ColorScheme colorScheme) {
     this.panel.setColorScheme(colorScheme);
   }
+
+  @Override
+  public void setThinking(boolean thinking) {
+    this.thinking.setThinking(thinking);
+  }
 }
\ No newline at end of file
@@ -43,4 +43,11 @@ public interface PawnsBoardGUIViewI {
    */
   void setColorScheme(ColorScheme colorScheme);
 
+  /**
+   * Shows or hides that a machine player is choosing a move, with the time it has taken so far.
+   * The view keeps repainting while the move is being chosen.
+   * @param thinking true when a machine player starts choosing a move, false when it is done.
+   */
+  void setThinking(boolean thinking);
+
 }
\ No newline at end of file
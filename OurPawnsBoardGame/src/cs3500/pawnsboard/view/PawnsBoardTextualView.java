@@ -30,19 +30,22 @@ public class PawnsBoardTextualView implements PawnsBoardTextualViewI {
    *   - "R" or "B" if a card is present (depending on owner),
    *   - a number (1, 2, or 3) if only pawns are present,
    *   - "_" if the cell is empty.
+   * The whole board is built in one buffer and printed at once, so large boards do not pay for
+   * a separate write per row.
    */
   public void render(Board board) {
     int[][] rowScores = model.computeRowScores();
-    System.out.println("Board state with row scores:");
+    String newline = System.lineSeparator();
+    StringBuilder sb = new StringBuilder(board.getRows() * (board.getColumns() + 16));
+    sb.append("Board state with row scores:").append(newline);
     for (int i = 0; i < board.getRows(); i++) {
-      StringBuilder sb = new StringBuilder();
       // Left score (Red's row score)
       sb.append(rowScores[i][0]).append(" ");
       // Board cells for the row.
       for (int j = 0; j < board.getColumns(); j++) {
         Cell cell = board.getCell(i, j);
         if (cell.getCard() != null) {
-          sb.append(cell.getOwner().charAt(0));
+          sb.append(cell.getOwner().toString().charAt(0));
         } else if (cell.hasPawns()) {
           sb.append(cell.getPawnCount());
         } else {
@@ -50,9 +53,8 @@ public class PawnsBoardTextualView implements PawnsBoardTextualViewI {
         }
       }
       // Right score (Blue's row score)
-      sb.append(" ").append(rowScores[i][1]);
-      System.out.println(sb.toString());
+      sb.append(" ").append(rowScores[i][1]).append(newline);
     }
-    System.out.println();
+    System.out.println(sb);
   }
 }
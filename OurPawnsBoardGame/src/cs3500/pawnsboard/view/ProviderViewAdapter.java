@@ -20,6 +20,7 @@ import java.io.IOException;
  */
 public class ProviderViewAdapter implements PawnsBoardGUIViewI {
   private final PawnsWorldGUIView providerView;
+  private final ThinkingIndicator thinking;
   private ViewFeatures features;
   private int selectedRow = -1;
   private int selectedCol = -1;
@@ -35,6 +36,7 @@ public class ProviderViewAdapter implements PawnsBoardGUIViewI {
   public ProviderViewAdapter(PawnsWorldReadOnly model,
                              cs3500.pawnsboard.provider.model.Player owner) throws IOException {
     this.providerView = new PawnsWorldGUIView(model, owner);
+    this.thinking = new ThinkingIndicator(providerView);
     setUpKeyBinds();
   }
 
@@ -102,6 +104,11 @@ public class ProviderViewAdapter implements PawnsBoardGUIViewI {
     // do not need to set colors on the provider view
   }
 
+  @Override
+  public void setThinking(boolean thinking) {
+    this.thinking.setThinking(thinking);
+  }
+
   private void setUpKeyBinds() {
     // Add key bindings to the provider view's root pane
     JRootPane rootPane = providerView.getRootPane();
@@ -0,0 +1,53 @@
+package cs3500.pawnsboard.view;
+
+import java.util.Locale;
+
+import javax.swing.JFrame;
+import javax.swing.Timer;
+
+/**
+ * Shows in a window's title that a machine player is thinking, and for how long, while the rest
+ * of the window keeps painting. The elapsed time is updated by a Swing timer, so it only runs on
+ * the event thread and costs nothing when nobody is thinking.
+ */
+final class ThinkingIndicator {
+
+  private static final int TICK_MILLIS = 100;
+
+  private final JFrame frame;
+  private final String title;
+  private final Timer timer;
+  private long since;
+
+  /**
+   * Creates an indicator for a window, keeping its current title as the title to show when
+   * nobody is thinking.
+   * @param frame the window.
+   */
+  ThinkingIndicator(JFrame frame) {
+    this.frame = frame;
+    this.title = frame.getTitle();
+    this.timer = new Timer(TICK_MILLIS, e -> update());
+  }
+
+  /**
+   * Starts or stops showing the indicator.
+   * @param thinking true when a machine player starts thinking, false when it is done.
+   */
+  void setThinking(boolean thinking) {
+    if (thinking) {
+      since = System.nanoTime();
+      timer.start();
+      update();
+    }
+    else {
+      timer.stop();
+      frame.setTitle(title);
+    }
+  }
+
+  private void update() {
+    double seconds = (System.nanoTime() - since) / 1e9;
+    frame.setTitle(String.format(Locale.ROOT, "%s - thinking... %.1f s", title, seconds));
+  }
+}
@@ -0,0 +1,68 @@
+package cs3500.pawnsboard.controller;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.MachinePlayer;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerColor;
+import cs3500.pawnsboard.strategy.FillFirstStrategy;
+import cs3500.pawnsboard.strategy.MaximizeRowScoreStrategy;
+
+import static cs3500.pawnsboard.model.TestCards.createDeck;
+
+/**
+ * Measures how many headless games one thread plays per second: {@code maximizerowscore} as Red
+ * against {@code fillfirst} as Blue, on 5x5 boards with shuffled 20-card cross decks and a
+ * 5-card hand, as quoted in the README. The first games only warm the JVM up and are not
+ * counted.
+ *
+ * <p>An optional argument gives the number of seconds to measure for (5 by default).</p>
+ */
+public final class GameRunnerBenchmark {
+
+  private static final int WARM_UP_GAMES = 20_000;
+
+  private GameRunnerBenchmark() {
+  }
+
+  /**
+   * Runs the benchmark and prints the games played per second.
+   * @param args the number of seconds to measure for, or nothing for 5.
+   */
+  public static void main(String[] args) {
+    long seconds = (args.length > 0) ? Long.parseLong(args[0]) : 5;
+    long seed = 0;
+    for (int i = 0; i < WARM_UP_GAMES; i++) {
+      playGame(seed++);
+    }
+    long games = 0;
+    long start = System.nanoTime();
+    long end = start + seconds * 1_000_000_000L;
+    long now;
+    do {
+      playGame(seed++);
+      games++;
+      now = System.nanoTime();
+    } while (now - end < 0);
+    System.out.printf("%,d games in %.1f s: %,.0f games per second%n",
+            games, (now - start) / 1e9, games * 1e9 / (now - start));
+  }
+
+  private static void playGame(long seed) {
+    PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 5);
+    Player red = new Player(PlayerColor.RED, shuffledDeck(seed), model);
+    Player blue = new Player(PlayerColor.BLUE, shuffledDeck(~seed), model);
+    new GameRunner(new MachinePlayer(red, new MaximizeRowScoreStrategy()),
+            new MachinePlayer(blue, new FillFirstStrategy())).play(model);
+  }
+
+  private static List<Card> shuffledDeck(long seed) {
+    List<Card> deck = createDeck(20);
+    Collections.shuffle(deck, new Random(seed));
+    return deck;
+  }
+}
@@ -0,0 +1,165 @@
+package cs3500.pawnsboard.controller;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.HumanPlayer;
+import cs3500.pawnsboard.model.MachinePlayer;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.PawnsBoardVariantModel;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerColor;
+import cs3500.pawnsboard.strategy.FillFirstStrategy;
+import cs3500.pawnsboard.strategy.MaximizeRowScoreStrategy;
+
+import static cs3500.pawnsboard.model.TestCards.createDeck;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the GameRunner and GameResult classes, checking that headless games are played
+ * to the end by the same rules as games run by the GUI controllers.
+ */
+public class GameRunnerTest {
+
+  private List<Card> shuffledDeck(int size, long seed) {
+    List<Card> deck = createDeck(size);
+    Collections.shuffle(deck, new Random(seed));
+    return deck;
+  }
+
+  /**
+   * Creates a 5x5 game whose decks are shuffled by the seed, with both players registered.
+   */
+  private PawnsBoardModel createGame(long seed) {
+    PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 5);
+    new Player(PlayerColor.RED, shuffledDeck(20, seed), model);
+    new Player(PlayerColor.BLUE, shuffledDeck(20, seed + 1), model);
+    return model;
+  }
+
+  private GameRunner createRunner(PawnsBoardModel model) {
+    return new GameRunner(
+            new MachinePlayer((Player) model.getPlayer(PlayerColor.RED),
+                    new MaximizeRowScoreStrategy()),
+            new MachinePlayer((Player) model.getPlayer(PlayerColor.BLUE),
+                    new FillFirstStrategy()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_NullPlayer() {
+    PawnsBoardModel model = createGame(1);
+    new GameRunner(null, new MachinePlayer((Player) model.getPlayer(PlayerColor.BLUE),
+            new FillFirstStrategy()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_SwappedColors() {
+    PawnsBoardModel model = createGame(1);
+    MachinePlayer red = new MachinePlayer((Player) model.getPlayer(PlayerColor.RED),
+            new FillFirstStrategy());
+    MachinePlayer blue = new MachinePlayer((Player) model.getPlayer(PlayerColor.BLUE),
+            new FillFirstStrategy());
+    new GameRunner(blue, red);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_Human() {
+    PawnsBoardModel model = createGame(1);
+    new GameRunner(new HumanPlayer((Player) model.getPlayer(PlayerColor.RED)),
+            new MachinePlayer((Player) model.getPlayer(PlayerColor.BLUE),
+                    new FillFirstStrategy()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPlay_NullModel() {
+    createRunner(createGame(1)).play(null);
+  }
+
+  @Test
+  public void testPlaysToTheEnd() {
+    PawnsBoardModel model = createGame(7);
+    GameResult result = createRunner(model).play(model);
+    assertTrue(model.isGameOver());
+    int[] scores = model.computeScores();
+    assertEquals(scores[0], result.getScore(PlayerColor.RED));
+    assertEquals(scores[1], result.getScore(PlayerColor.BLUE));
+    assertTrue(result.getCardsPlayed() > 0);
+    // the game ends with two passes in a row
+    assertTrue(result.getTurns() >= result.getCardsPlayed() + 2);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testPlayKeepsNoUndoHistory() {
+    PawnsBoardModel model = createGame(7);
+    createRunner(model).play(model);
+    // every turn was committed, so the journal is empty
+    model.undo();
+  }
+
+  @Test
+  public void testRepeatable() {
+    PawnsBoardModel first = createGame(3);
+    PawnsBoardModel second = createGame(3);
+    assertEquals(createRunner(first).play(first), createRunner(second).play(second));
+    assertEquals(first.getStateHash(), second.getStateHash());
+  }
+
+  @Test
+  public void testSameGameAsTheControllers() {
+    for (long seed = 0; seed < 5; seed++) {
+      PawnsBoardModel headless = createGame(seed);
+      createRunner(headless).play(headless);
+
+      // the same game, played by two GUI controllers on one thread
+      PawnsBoardModel gui = createGame(seed);
+      TurnScheduler turns = new TurnScheduler();
+      DirectExecutorService direct = new DirectExecutorService();
+      Player red = (Player) gui.getPlayer(PlayerColor.RED);
+      Player blue = (Player) gui.getPlayer(PlayerColor.BLUE);
+      PawnsBoardGUIController redController = new PawnsBoardGUIController(gui,
+              new PawnsBoardGUIControllerTest.RecordingView(), red,
+              new MachinePlayer(red, new MaximizeRowScoreStrategy()), direct, turns, turns);
+      PawnsBoardGUIController blueController = new PawnsBoardGUIController(gui,
+              new PawnsBoardGUIControllerTest.RecordingView(), blue,
+              new MachinePlayer(blue, new FillFirstStrategy()), direct, turns, turns);
+      redController.runGame();
+      blueController.runGame();
+
+      assertTrue(gui.isGameOver());
+      assertEquals(gui.getBoard().getHash(), headless.getBoard().getHash());
+    }
+  }
+
+  @Test
+  public void testVariantGame() {
+    PawnsBoardModel model = new PawnsBoardVariantModel(5, 5, 40, 5);
+    new Player(PlayerColor.RED, shuffledDeck(20, 11), model);
+    new Player(PlayerColor.BLUE, shuffledDeck(20, 12), model);
+    GameResult result = createRunner(model).play(model);
+    assertTrue(model.isGameOver());
+    assertEquals(model.computeScores()[0], result.getScore(PlayerColor.RED));
+  }
+
+  @Test
+  public void testResult() {
+    GameResult win = new GameResult(9, 4, 14, 10);
+    assertEquals(PlayerColor.RED, win.getWinner());
+    assertEquals(9, win.getScore(PlayerColor.RED));
+    assertEquals(4, win.getScore(PlayerColor.BLUE));
+    assertEquals(0, win.getScore(PlayerColor.NONE));
+    assertEquals("red wins 9-4 in 14 turns (10 cards)", win.toString());
+    assertEquals(PlayerColor.BLUE, new GameResult(1, 2, 3, 1).getWinner());
+    assertEquals(PlayerColor.NONE, new GameResult(5, 5, 8, 6).getWinner());
+    assertEquals(win, new GameResult(9, 4, 14, 10));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testResult_MoreCardsThanTurns() {
+    new GameResult(1, 1, 2, 3);
+  }
+}
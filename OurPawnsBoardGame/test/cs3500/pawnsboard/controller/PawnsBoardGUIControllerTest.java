@@ -0,0 +1,391 @@
+package cs3500.pawnsboard.controller;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.Component;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import cs3500.pawnsboard.model.HumanPlayer;
+import cs3500.pawnsboard.model.MachinePlayer;
+import cs3500.pawnsboard.model.MoveList;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerColor;
+import cs3500.pawnsboard.strategy.FillFirstStrategy;
+import cs3500.pawnsboard.strategy.MiniMaxStrategy;
+import cs3500.pawnsboard.strategy.PawnsBoardStrategy;
+import cs3500.pawnsboard.view.ColorScheme;
+import cs3500.pawnsboard.view.PawnsBoardGUIViewI;
+import cs3500.pawnsboard.view.ViewFeatures;
+
+import static cs3500.pawnsboard.model.TestCards.createDeck;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the PawnsBoardGUIController, checking that machine moves are chosen off the
+ * model thread, played back on it, and dropped when cancelled.
+ */
+public class PawnsBoardGUIControllerTest {
+
+  private PawnsBoardModel model;
+  private Player red;
+  private Player blue;
+  private ExecutorService searchExecutor;
+  // stands in for the event thread: tasks handed to the model thread wait here until run
+  private BlockingQueue<Runnable> modelThread;
+  private TurnScheduler turns;
+
+  /**
+   * A view that only records whether it shows a machine player thinking.
+   */
+  static class RecordingView implements PawnsBoardGUIViewI {
+    private final List<Boolean> thinking = new ArrayList<>();
+
+    @Override
+    public void refresh() {
+      // nothing to paint
+    }
+
+    @Override
+    public void display(boolean show) {
+      // nothing to show
+    }
+
+    @Override
+    public void addFeatureListener(ViewFeatures features) {
+      // no events to send
+    }
+
+    @Override
+    public void clearSelectedCard() {
+      // nothing selected
+    }
+
+    @Override
+    public void clearSelectedCell() {
+      // nothing selected
+    }
+
+    @Override
+    public Component getDialogParent() {
+      return null;
+    }
+
+    @Override
+    public void setColorScheme(ColorScheme colorScheme) {
+      // no colors
+    }
+
+    @Override
+    public void setThinking(boolean thinking) {
+      this.thinking.add(thinking);
+    }
+  }
+
+  /**
+   * A strategy that plays the first legal move and counts how often it was asked to.
+   */
+  private static class CountingStrategy implements PawnsBoardStrategy {
+    private final FillFirstStrategy fillFirst = new FillFirstStrategy();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Override
+    public int chooseMove(PawnsBoardModel model, Player player) {
+      calls.incrementAndGet();
+      return fillFirst.chooseMove(model, player);
+    }
+  }
+
+  /**
+   * A strategy that plays the first legal move, but only once it is released.
+   */
+  private static class BlockingStrategy implements PawnsBoardStrategy {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final FillFirstStrategy fillFirst = new FillFirstStrategy();
+
+    @Override
+    public int chooseMove(PawnsBoardModel model, Player player) {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return fillFirst.chooseMove(model, player);
+    }
+  }
+
+  @Before
+  public void setUp() {
+    model = new PawnsBoardModel(3, 5, 30, 3);
+    red = new Player(PlayerColor.RED, createDeck(15), model);
+    blue = new Player(PlayerColor.BLUE, createDeck(15), model);
+    searchExecutor = Executors.newSingleThreadExecutor();
+    modelThread = new LinkedBlockingQueue<>();
+    turns = new TurnScheduler();
+  }
+
+  @After
+  public void tearDown() {
+    searchExecutor.shutdownNow();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_NullExecutor() {
+    new PawnsBoardGUIController(model, new RecordingView(), red,
+            new MachinePlayer(red, new FillFirstStrategy()), null, modelThread::add, turns);
+  }
+
+  @Test
+  public void testMachineMoveChosenOffModelThread() throws InterruptedException {
+    BlockingStrategy strategy = new BlockingStrategy();
+    RecordingView view = new RecordingView();
+    PawnsBoardGUIController controller = new PawnsBoardGUIController(model, view, red,
+            new MachinePlayer(red, strategy), searchExecutor, modelThread::add, turns);
+    long before = model.getBoard().getHash();
+
+    // runGame returns while the strategy is still searching, and the game is untouched
+    controller.runGame();
+    assertTrue(controller.isThinking());
+    assertEquals(List.of(true), view.thinking);
+    assertEquals(before, model.getBoard().getHash());
+    assertEquals(PlayerColor.RED, model.getCurrentPlayerColor());
+
+    strategy.release.countDown();
+    Runnable play = modelThread.poll(5, TimeUnit.SECONDS);
+    assertNotNull(play);
+    play.run();
+    assertFalse(controller.isThinking());
+    assertEquals(List.of(true, false), view.thinking);
+    assertEquals(PlayerColor.BLUE, model.getCurrentPlayerColor());
+  }
+
+  @Test
+  public void testCancelledMoveIsIgnored() throws InterruptedException {
+    BlockingStrategy strategy = new BlockingStrategy();
+    RecordingView view = new RecordingView();
+    PawnsBoardGUIController controller = new PawnsBoardGUIController(model, view, red,
+            new MachinePlayer(red, strategy), searchExecutor, modelThread::add, turns);
+    long before = model.getBoard().getHash();
+
+    controller.runGame();
+    controller.cancelAIMove();
+    assertFalse(controller.isThinking());
+    assertEquals(List.of(true, false), view.thinking);
+
+    // the interrupted search may still hand back a move; it must not be played
+    Runnable late = modelThread.poll(1, TimeUnit.SECONDS);
+    if (late != null) {
+      late.run();
+    }
+    assertEquals(before, model.getBoard().getHash());
+    assertEquals(PlayerColor.RED, model.getCurrentPlayerColor());
+  }
+
+  @Test
+  public void testCancelStopsTheSearch() throws Exception {
+    // a search that would run for many seconds on this board
+    PawnsBoardModel large = new PawnsBoardModel(5, 7, 60, 6);
+    Player largeRed = new Player(PlayerColor.RED, createDeck(30), large);
+    new Player(PlayerColor.BLUE, createDeck(30), large);
+    PawnsBoardGUIController controller = new PawnsBoardGUIController(large, new RecordingView(),
+            largeRed, new MachinePlayer(largeRed, new MiniMaxStrategy(14, null)), searchExecutor,
+            modelThread::add, turns);
+
+    controller.runGame();
+    Thread.sleep(100);
+    controller.cancelAIMove();
+
+    // the search thread is free again long before the search could have finished
+    searchExecutor.submit(() -> { }).get(2, TimeUnit.SECONDS);
+    assertEquals(PlayerColor.RED, large.getCurrentPlayerColor());
+  }
+
+  @Test
+  public void testHumanDoesNotSearch() {
+    RecordingView view = new RecordingView();
+    PawnsBoardGUIController controller = new PawnsBoardGUIController(model, view, red,
+            new HumanPlayer(red), searchExecutor, modelThread::add, turns);
+    controller.runGame();
+    assertFalse(controller.isThinking());
+    assertTrue(view.thinking.isEmpty());
+    assertTrue(modelThread.isEmpty());
+  }
+
+  @Test
+  public void testMachinesPlayToTheEnd() throws InterruptedException {
+    ExecutorService blueExecutor = Executors.newSingleThreadExecutor();
+    try {
+      PawnsBoardGUIController redController = new PawnsBoardGUIController(model,
+              new RecordingView(), red, new MachinePlayer(red, new FillFirstStrategy()),
+              searchExecutor, modelThread::add, turns);
+      PawnsBoardGUIController blueController = new PawnsBoardGUIController(model,
+              new RecordingView(), blue, new MachinePlayer(blue, new FillFirstStrategy()),
+              blueExecutor, modelThread::add, turns);
+      redController.runGame();
+      blueController.runGame();
+
+      // every move arrives as a task for the model thread, one at a time
+      while (!model.isGameOver()) {
+        Runnable task = modelThread.poll(5, TimeUnit.SECONDS);
+        assertNotNull("a machine move never arrived", task);
+        task.run();
+      }
+      assertFalse(redController.isThinking());
+      assertFalse(blueController.isThinking());
+    } finally {
+      blueExecutor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testPonderedReplyAnsweredWithoutSearching() throws InterruptedException {
+    CountingStrategy strategy = new CountingStrategy();
+    PawnsBoardGUIController redController = new PawnsBoardGUIController(model,
+            new RecordingView(), red, new HumanPlayer(red), searchExecutor, modelThread::add,
+            turns);
+    PawnsBoardGUIController blueController = new PawnsBoardGUIController(model,
+            new RecordingView(), blue, new MachinePlayer(blue, strategy), searchExecutor,
+            modelThread::add, turns);
+    blueController.setPondering(true);
+    redController.runGame();
+    blueController.runGame();
+
+    // blue ponders once red has drawn; red's six legal moves are all within the default guesses
+    modelThread.poll(5, TimeUnit.SECONDS).run();
+    assertTrue(blueController.isPondering());
+    modelThread.poll(5, TimeUnit.SECONDS).run();
+    assertFalse(blueController.isPondering());
+    MoveList legal = new MoveList();
+    red.getLegalMoves(legal);
+    assertEquals(6, legal.size());
+    // one search per reply, and one for red passing
+    int searched = strategy.calls.get();
+    assertEquals(7, searched);
+
+    // red plays; blue's answer is queued at once, without another search
+    int reply = legal.get(legal.size() - 1);
+    redController.placeAttempt(MoveList.row(reply), MoveList.col(reply),
+            MoveList.cardIndex(reply));
+    assertEquals(PlayerColor.BLUE, model.getCurrentPlayerColor());
+    assertFalse(blueController.isThinking());
+    Runnable answer = modelThread.poll(5, TimeUnit.SECONDS);
+    assertNotNull(answer);
+    answer.run();
+    assertEquals(searched, strategy.calls.get());
+    assertEquals(PlayerColor.RED, model.getCurrentPlayerColor());
+  }
+
+  /**
+   * A strategy that searches deeply, taking many seconds, until it is told to hurry.
+   */
+  private static class HurryingStrategy implements PawnsBoardStrategy {
+    private final MiniMaxStrategy deep = new MiniMaxStrategy(14, null);
+    private final FillFirstStrategy fillFirst = new FillFirstStrategy();
+    private volatile boolean hurry;
+
+    @Override
+    public int chooseMove(PawnsBoardModel model, Player player) {
+      return hurry ? fillFirst.chooseMove(model, player) : deep.chooseMove(model, player);
+    }
+  }
+
+  @Test
+  public void testUnponderedReplyDoesNotWaitForPondering() throws InterruptedException {
+    PawnsBoardModel large = new PawnsBoardModel(5, 7, 60, 6);
+    Player largeRed = new Player(PlayerColor.RED, createDeck(30), large);
+    Player largeBlue = new Player(PlayerColor.BLUE, createDeck(30), large);
+    HurryingStrategy strategy = new HurryingStrategy();
+    PawnsBoardGUIController redController = new PawnsBoardGUIController(large,
+            new RecordingView(), largeRed, new HumanPlayer(largeRed), searchExecutor,
+            modelThread::add, turns);
+    PawnsBoardGUIController blueController = new PawnsBoardGUIController(large,
+            new RecordingView(), largeBlue, new MachinePlayer(largeBlue, strategy),
+            searchExecutor, modelThread::add, turns);
+    blueController.setPondering(true);
+    redController.runGame();
+    blueController.runGame();
+
+    // blue starts pondering red's first guessed reply, a search of many seconds
+    modelThread.poll(5, TimeUnit.SECONDS).run();
+    assertTrue(blueController.isPondering());
+    Thread.sleep(100);
+
+    // red plays before any reply is answered; blue's own search must not wait for the ponder
+    strategy.hurry = true;
+    MoveList legal = new MoveList();
+    largeRed.getLegalMoves(legal);
+    int reply = legal.get(legal.size() - 1);
+    redController.placeAttempt(MoveList.row(reply), MoveList.col(reply),
+            MoveList.cardIndex(reply));
+    assertTrue(blueController.isThinking());
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+    while (large.getCurrentPlayerColor() == PlayerColor.BLUE) {
+      Runnable task = modelThread.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+      assertNotNull("blue's move waited for the ponder search", task);
+      task.run();
+    }
+    assertFalse(blueController.isThinking());
+  }
+
+  @Test
+  public void testHumanNeverPonders() {
+    PawnsBoardGUIController controller = new PawnsBoardGUIController(model, new RecordingView(),
+            blue, new HumanPlayer(blue), searchExecutor, modelThread::add, turns);
+    controller.setPondering(true);
+    controller.runGame();
+    assertTrue(modelThread.isEmpty());
+    assertFalse(controller.isPondering());
+  }
+
+  /**
+   * A strategy that plays the first legal move and records how deep the stack was each time.
+   */
+  private static class DepthRecordingStrategy implements PawnsBoardStrategy {
+    private final FillFirstStrategy fillFirst = new FillFirstStrategy();
+    private final List<Integer> depths;
+
+    DepthRecordingStrategy(List<Integer> depths) {
+      this.depths = depths;
+    }
+
+    @Override
+    public int chooseMove(PawnsBoardModel model, Player player) {
+      depths.add(Thread.currentThread().getStackTrace().length);
+      return fillFirst.chooseMove(model, player);
+    }
+  }
+
+  @Test
+  public void testMachineTurnsDoNotNest() {
+    // everything runs on this thread, so without the scheduler each move would nest the next
+    ExecutorService direct = new DirectExecutorService();
+    List<Integer> depths = new ArrayList<>();
+    PawnsBoardGUIController redController = new PawnsBoardGUIController(model,
+            new RecordingView(), red, new MachinePlayer(red, new DepthRecordingStrategy(depths)),
+            direct, turns, turns);
+    PawnsBoardGUIController blueController = new PawnsBoardGUIController(model,
+            new RecordingView(), blue,
+            new MachinePlayer(blue, new DepthRecordingStrategy(depths)), direct, turns, turns);
+    redController.runGame();
+    blueController.runGame();
+
+    assertTrue(model.isGameOver());
+    assertTrue(depths.size() > 4);
+    for (int depth : depths) {
+      assertEquals(depths.get(0), Integer.valueOf(depth));
+    }
+  }
+}
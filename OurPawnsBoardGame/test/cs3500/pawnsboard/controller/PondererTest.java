@@ -0,0 +1,91 @@
+package cs3500.pawnsboard.controller;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import cs3500.pawnsboard.model.MachinePlayer;
+import cs3500.pawnsboard.model.MoveList;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerColor;
+import cs3500.pawnsboard.strategy.FillFirstStrategy;
+
+import static cs3500.pawnsboard.model.TestCards.createDeck;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the Ponderer class, checking that pondered answers are found by the position the
+ * real game reaches, and that pondering respects its limits.
+ */
+public class PondererTest {
+
+  private PawnsBoardModel model;
+  private Player red;
+  private Player blue;
+
+  @Before
+  public void setUp() {
+    model = new PawnsBoardModel(3, 5, 30, 3);
+    red = new Player(PlayerColor.RED, createDeck(15), model);
+    blue = new Player(PlayerColor.BLUE, createDeck(15), model);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_NullMachine() {
+    new Ponderer(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_NoReplies() {
+    new Ponderer(new MachinePlayer(blue, new FillFirstStrategy()), 0);
+  }
+
+  @Test
+  public void testAnswersEveryReplyAsTheGameWill() {
+    Ponderer ponderer = new Ponderer(new MachinePlayer(blue, new FillFirstStrategy()), 100);
+    ponderer.ponder(model.copy());
+    MoveList legal = new MoveList();
+    red.getLegalMoves(legal);
+    // every legal reply and the pass
+    assertEquals(legal.size() + 1, ponderer.getAnswerCount());
+
+    for (int i = 0; i < legal.size(); i++) {
+      PawnsBoardModel game = model.copy();
+      Player redCopy = (Player) game.getPlayer(PlayerColor.RED);
+      Player blueCopy = (Player) game.getPlayer(PlayerColor.BLUE);
+      // play the reply the way the real game does, not with make/undo
+      int reply = legal.get(i);
+      redCopy.placeCard(MoveList.row(reply), MoveList.col(reply), MoveList.cardIndex(reply));
+      blueCopy.drawCard();
+      assertEquals(new FillFirstStrategy().chooseMove(game, blueCopy),
+              ponderer.answerFor(game.getStateHash()));
+    }
+  }
+
+  @Test
+  public void testKeepsToMaxReplies() {
+    Ponderer ponderer = new Ponderer(new MachinePlayer(blue, new FillFirstStrategy()), 2);
+    ponderer.ponder(model.copy());
+    assertEquals(2, ponderer.getAnswerCount());
+    assertEquals(Ponderer.NO_ANSWER, ponderer.answerFor(model.getStateHash()));
+  }
+
+  @Test
+  public void testOnlyPondersOpponentsTurn() {
+    // red is to move, so a red machine has nothing to ponder
+    Ponderer ponderer = new Ponderer(new MachinePlayer(red, new FillFirstStrategy()));
+    ponderer.ponder(model.copy());
+    assertEquals(0, ponderer.getAnswerCount());
+  }
+
+  @Test
+  public void testStopsWhenInterrupted() {
+    Ponderer ponderer = new Ponderer(new MachinePlayer(blue, new FillFirstStrategy()));
+    Thread.currentThread().interrupt();
+    ponderer.ponder(model.copy());
+    // clear the interrupt before asserting, so it does not leak into other tests
+    assertTrue(Thread.interrupted());
+    assertEquals(0, ponderer.getAnswerCount());
+  }
+}
@@ -0,0 +1,118 @@
+package cs3500.pawnsboard.controller;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Test class for the TurnScheduler class, checking that events scheduled from inside other events
+ * run after them, in order and without nesting, and that batches hand over to the continuation.
+ */
+public class TurnSchedulerTest {
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_InvalidBatch() {
+    new TurnScheduler(0, Runnable::run);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_NullContinuation() {
+    new TurnScheduler(1, null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullEvent() {
+    new TurnScheduler().execute(null);
+  }
+
+  @Test
+  public void testRunsAtOnceWhenIdle() {
+    TurnScheduler turns = new TurnScheduler();
+    List<String> log = new ArrayList<>();
+    turns.execute(() -> log.add("a"));
+    assertEquals(List.of("a"), log);
+    assertEquals(1, turns.getEventCount());
+  }
+
+  @Test
+  public void testNestedEventsRunAfterward() {
+    TurnScheduler turns = new TurnScheduler();
+    List<String> log = new ArrayList<>();
+    turns.execute(() -> {
+      log.add("outer start");
+      turns.execute(() -> log.add("first"));
+      turns.execute(() -> log.add("second"));
+      assertEquals(2, turns.getPendingCount());
+      log.add("outer end");
+    });
+    assertEquals(List.of("outer start", "outer end", "first", "second"), log);
+    assertEquals(0, turns.getPendingCount());
+  }
+
+  @Test
+  public void testLongChainDoesNotGrowTheStack() {
+    TurnScheduler turns = new TurnScheduler();
+    int[] depths = new int[100_000];
+    int[] turn = {0};
+    Runnable[] next = new Runnable[1];
+    next[0] = () -> {
+      depths[turn[0]] = Thread.currentThread().getStackTrace().length;
+      if (++turn[0] < depths.length) {
+        turns.execute(next[0]);
+      }
+    };
+    turns.execute(next[0]);
+    assertEquals(depths.length, turn[0]);
+    assertEquals(depths[0], depths[depths.length - 1]);
+  }
+
+  @Test
+  public void testBatchesHandOverToContinuation() {
+    Deque<Runnable> later = new ArrayDeque<>();
+    TurnScheduler turns = new TurnScheduler(2, later::add);
+    List<Integer> log = new ArrayList<>();
+    turns.execute(() -> {
+      log.add(0);
+      for (int i = 1; i <= 4; i++) {
+        int event = i;
+        turns.execute(() -> log.add(event));
+      }
+    });
+    assertEquals(List.of(0, 1), log);
+    assertEquals(1, later.size());
+
+    // events scheduled before the continuation runs wait their turn
+    turns.execute(() -> log.add(5));
+    assertEquals(List.of(0, 1), log);
+
+    later.poll().run();
+    assertEquals(List.of(0, 1, 2, 3), log);
+    later.poll().run();
+    assertEquals(List.of(0, 1, 2, 3, 4, 5), log);
+    assertEquals(0, later.size());
+  }
+
+  @Test
+  public void testFailedEventKeepsTheRestQueued() {
+    TurnScheduler turns = new TurnScheduler();
+    List<String> log = new ArrayList<>();
+    try {
+      turns.execute(() -> {
+        turns.execute(() -> log.add("queued"));
+        throw new IllegalStateException("boom");
+      });
+      fail("the event's exception should reach the caller");
+    } catch (IllegalStateException e) {
+      assertEquals("boom", e.getMessage());
+    }
+    assertEquals(1, turns.getPendingCount());
+    turns.execute(() -> log.add("next"));
+    assertEquals(List.of("queued", "next"), log);
+  }
+}
@@ -28,7 +28,7 @@ public class BoardTest {
         Cell cell = board.getCell(i, j);
         assertNotNull(cell);
         assertEquals(0, cell.getPawnCount());
-        assertEquals("", cell.getOwner());
+        assertEquals(PlayerColor.NONE, cell.getOwner());
         assertNull(cell.getCard());
       }
     }
@@ -111,29 +111,29 @@ public class BoardTest {
   @Test
   public void testSetCellPawns_ValidInput() {
     Board board = new Board(3, 5);
-    board.setCellPawns(1, 2, 2, "red");
+    board.setCellPawns(1, 2, 2, PlayerColor.RED);
 
     Cell cell = board.getCell(1, 2);
     assertEquals(2, cell.getPawnCount());
-    assertEquals("red", cell.getOwner());
+    assertEquals(PlayerColor.RED, cell.getOwner());
   }
 
   @Test(expected = IndexOutOfBoundsException.class)
   public void testSetCellPawns_InvalidPosition() {
     Board board = new Board(3, 5);
-    board.setCellPawns(3, 2, 2, "red");
+    board.setCellPawns(3, 2, 2, PlayerColor.RED);
   }
 
   @Test(expected = IllegalArgumentException.class)
   public void testSetCellPawns_InvalidPawnCount() {
     Board board = new Board(3, 5);
-    board.setCellPawns(1, 2, 4, "red");
+    board.setCellPawns(1, 2, 4, PlayerColor.RED);
   }
 
   @Test(expected = IllegalArgumentException.class)
   public void testSetCellPawns_InvalidOwner() {
     Board board = new Board(3, 5);
-    board.setCellPawns(1, 2, 2, "Green");
+    board.setCellPawns(1, 2, 2, null);
   }
 
   @Test
@@ -185,4 +185,111 @@ public class BoardTest {
     cell1.setPawnCount(2);
     assertEquals(2, cell2.getPawnCount());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testRowScoresFollowCellChanges() {
+    Board board = new Board(3, 5);
+    Card card = new Card("Five", 1, 5, centerOnlyGrid());
+    board.getCell(1, 0).placeCard(card, PlayerColor.RED);
+    board.getCell(1, 4).placeCard(card, PlayerColor.BLUE);
+    board.getCell(2, 2).placeCard(card, PlayerColor.RED);
+    assertEquals(5, board.getRowScore(1, PlayerColor.RED));
+    assertEquals(5, board.getRowScore(1, PlayerColor.BLUE));
+    assertEquals(5, board.getRowScore(2, PlayerColor.RED));
+    assertEquals(0, board.getRowScore(0, PlayerColor.RED));
+
+    // taking over a card moves its value to the other player
+    board.getCell(1, 0).setOwner(PlayerColor.BLUE);
+    assertEquals(0, board.getRowScore(1, PlayerColor.RED));
+    assertEquals(10, board.getRowScore(1, PlayerColor.BLUE));
+
+    // modifiers are ignored by the standard scoring rules
+    board.getCell(2, 2).addInfluence(-3);
+    assertEquals(5, board.getRowScore(2, PlayerColor.RED));
+  }
+
+  @Test
+  public void testRowScoresCopiedWithBoard() {
+    Board board = new Board(3, 5);
+    board.getCell(0, 1).placeCard(new Card("Five", 1, 5, centerOnlyGrid()), PlayerColor.RED);
+    Board copy = board.cloneBoard();
+    assertEquals(5, copy.getRowScore(0, PlayerColor.RED));
+
+    copy.getCell(0, 2).placeCard(new Card("Two", 1, 2, centerOnlyGrid()), PlayerColor.RED);
+    assertEquals(7, copy.getRowScore(0, PlayerColor.RED));
+    assertEquals(5, board.getRowScore(0, PlayerColor.RED));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testGetRowScore_InvalidRow() {
+    new Board(3, 5).getRowScore(3, PlayerColor.RED);
+  }
+
+  /**
+   * Creates an influence grid with only the center 'C' set.
+   */
+  private char[][] centerOnlyGrid() {
+    char[][] grid = new char[5][5];
+    for (int i = 0; i < 5; i++) {
+      for (int j = 0; j < 5; j++) {
+        grid[i][j] = 'X';
+      }
+    }
+    grid[2][2] = 'C';
+    return grid;
+  }
+
+  @Test
+  public void testPlayableCellIndex() {
+    Board board = new Board(3, 5);
+    board.setCellPawns(0, 0, 1, PlayerColor.RED);
+    board.setCellPawns(1, 0, 2, PlayerColor.RED);
+    board.setCellPawns(2, 3, 3, PlayerColor.RED);
+    board.setCellPawns(0, 4, 1, PlayerColor.BLUE);
+
+    assertEquals(0, board.nextPlayableCell(PlayerColor.RED, 1, 0));
+    assertEquals(5, board.nextPlayableCell(PlayerColor.RED, 1, 1));
+    assertEquals(5, board.nextPlayableCell(PlayerColor.RED, 2, 0));
+    assertEquals(13, board.nextPlayableCell(PlayerColor.RED, 3, 0));
+    assertEquals(-1, board.nextPlayableCell(PlayerColor.RED, 1, 14));
+    assertEquals(4, board.nextPlayableCell(PlayerColor.BLUE, 1, 0));
+    assertEquals(-1, board.nextPlayableCell(PlayerColor.NONE, 1, 0));
+    assertEquals(1, board.countPlayableCells(PlayerColor.RED, 2));
+
+    // placing a card, changing owner and adding pawns all move cells between the sets
+    board.getCell(1, 0).placeCard(new Card("Five", 1, 5, centerOnlyGrid()), PlayerColor.RED);
+    assertEquals(13, board.nextPlayableCell(PlayerColor.RED, 2, 0));
+    board.getCell(0, 0).setOwner(PlayerColor.BLUE);
+    assertEquals(0, board.nextPlayableCell(PlayerColor.BLUE, 1, 0));
+    board.getCell(0, 0).incrementPawnCount();
+    assertEquals(0, board.nextPlayableCell(PlayerColor.BLUE, 2, 0));
+    assertEquals(1, board.countPlayableCells(PlayerColor.BLUE, 1));
+
+    Board copy = board.cloneBoard();
+    copy.setCellPawns(2, 3, 0, PlayerColor.NONE);
+    assertEquals(-1, copy.nextPlayableCell(PlayerColor.RED, 1, 0));
+    assertEquals(13, board.nextPlayableCell(PlayerColor.RED, 1, 0));
+  }
+
+  @Test
+  public void testCountOwned() {
+    Board board = new Board(3, 5);
+    board.setCellPawns(0, 0, 1, PlayerColor.RED);
+    board.setCellPawns(1, 0, 1, PlayerColor.RED);
+    board.setCellPawns(0, 4, 1, PlayerColor.BLUE);
+    assertEquals(2, board.countOwned(PlayerColor.RED));
+    assertEquals(1, board.countOwned(PlayerColor.BLUE));
+    assertEquals(0, board.countOwned(PlayerColor.NONE));
+
+    // a capture moves the cell from one count to the other, and a card keeps the owner
+    board.getCell(0, 0).setOwner(PlayerColor.BLUE);
+    board.getCell(0, 4).placeCard(new Card("Five", 1, 5, centerOnlyGrid()), PlayerColor.BLUE);
+    assertEquals(1, board.countOwned(PlayerColor.RED));
+    assertEquals(2, board.countOwned(PlayerColor.BLUE));
+
+    Board copy = board.cloneBoard();
+    copy.setCellPawns(1, 0, 0, PlayerColor.NONE);
+    assertEquals(0, copy.countOwned(PlayerColor.RED));
+    assertEquals(1, board.countOwned(PlayerColor.RED));
+  }
+}
@@ -0,0 +1,62 @@
+package cs3500.pawnsboard.model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test class for the CardRegistry class.
+ */
+public class CardRegistryTest {
+
+  private CardRegistry registry;
+  private char[][] grid;
+
+  @Before
+  public void setUp() {
+    registry = new CardRegistry();
+    grid = new char[][]{
+            {'X', 'X', 'X', 'X', 'X'},
+            {'X', 'X', 'I', 'X', 'X'},
+            {'X', 'I', 'C', 'I', 'X'},
+            {'X', 'X', 'I', 'X', 'X'},
+            {'X', 'X', 'X', 'X', 'X'}
+    };
+  }
+
+  @Test
+  public void testInternReturnsFirstEqualCard() {
+    Card first = new Card("Guard", 1, 2, grid);
+    Card second = new Card("Guard", 1, 2, grid);
+    assertSame(first, registry.intern(first));
+    assertSame(first, registry.intern(second));
+    assertEquals(1, registry.size());
+  }
+
+  @Test
+  public void testDistinctCardsAreKept() {
+    Card guard = new Card("Guard", 1, 2, grid);
+    Card knight = new Card("Knight", 2, 3, grid);
+    assertSame(guard, registry.intern(guard));
+    assertSame(knight, registry.intern(knight));
+    assertSame(guard, registry.intern(new Card(guard)));
+    assertEquals(2, registry.size());
+  }
+
+  @Test
+  public void testManyCards() {
+    // far more distinct cards than a short could number
+    for (int i = 0; i < 40_000; i++) {
+      registry.intern(new Card("Card" + i, 1, 1, grid));
+    }
+    assertEquals(40_000, registry.size());
+    assertEquals("Card39999", registry.intern(new Card("Card39999", 1, 1, grid)).getName());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInternNull() {
+    registry.intern(null);
+  }
+}
@@ -5,6 +5,7 @@ import org.junit.Test;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
 /**
  * Test class for the Card class.
@@ -161,4 +162,69 @@ public class CardTest {
     Card iCard = new Card("ICard", 3, 10, allIGrid);
     assertArrayEquals(allIGrid, iCard.getInfluenceGrid());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testCompiledInfluenceEntries() {
+    Card card = new Card("TestCard", 2, 5, validGrid);
+    assertEquals(8, card.getInfluenceCount());
+    // entries are listed row by row, as in the grid
+    assertEquals(-1, card.getInfluenceRowOffset(0));
+    assertEquals(-1, card.getInfluenceColOffset(0));
+    assertEquals(1, card.getInfluenceRowOffset(7));
+    assertEquals(1, card.getInfluenceColOffset(7));
+    for (int k = 0; k < card.getInfluenceCount(); k++) {
+      assertEquals('I', card.getInfluenceKind(k));
+    }
+  }
+
+  @Test
+  public void testCompiledVariantEntries() {
+    char[][] grid = {
+            {'U', 'X', 'X', 'X', 'X'},
+            {'X', 'X', 'X', 'X', 'X'},
+            {'X', 'X', 'C', 'X', 'I'},
+            {'X', 'X', 'X', 'X', 'X'},
+            {'X', 'X', 'X', 'X', 'D'}
+    };
+    Card card = new Card("Variant", 1, 1, grid);
+    assertEquals(3, card.getInfluenceCount());
+    assertEquals('U', card.getInfluenceKind(0));
+    assertEquals(-2, card.getInfluenceRowOffset(0));
+    assertEquals(-2, card.getInfluenceColOffset(0));
+    assertEquals('I', card.getInfluenceKind(1));
+    assertEquals(0, card.getInfluenceRowOffset(1));
+    assertEquals(2, card.getInfluenceColOffset(1));
+    assertEquals('D', card.getInfluenceKind(2));
+    assertEquals(2, card.getInfluenceRowOffset(2));
+    assertEquals(2, card.getInfluenceColOffset(2));
+
+    Card copy = new Card(card);
+    assertEquals(3, copy.getInfluenceCount());
+    assertEquals('D', copy.getInfluenceKind(2));
+  }
+
+  @Test
+  public void testInfluenceGridCannotBeChanged() {
+    Card card = new Card("TestCard", 2, 5, validGrid);
+    validGrid[1][1] = 'X';
+    assertEquals('I', card.getInfluenceAt(1, 1));
+
+    char[][] grid = card.getInfluenceGrid();
+    grid[1][2] = 'X';
+    assertEquals('I', card.getInfluenceAt(1, 2));
+    assertEquals('I', card.getInfluenceGrid()[1][2]);
+  }
+
+  @Test
+  public void testEqualsAndHashCode() {
+    Card card = new Card("TestCard", 2, 5, validGrid);
+    Card same = new Card("TestCard", 2, 5, card.getInfluenceGrid());
+    assertEquals(card, same);
+    assertEquals(card.hashCode(), same.hashCode());
+    assertEquals(card, new Card(card));
+    assertNotEquals(card, new Card("Other", 2, 5, validGrid));
+    assertNotEquals(card, new Card("TestCard", 3, 5, validGrid));
+    validGrid[0][0] = 'I';
+    assertNotEquals(card, new Card("TestCard", 2, 5, validGrid));
+  }
+}
@@ -34,7 +34,7 @@ public class CellTest {
   @Test
   public void testDefaultConstructor() {
     assertEquals(0, cell.getPawnCount());
-    assertEquals("", cell.getOwner());
+    assertEquals(PlayerColor.NONE, cell.getOwner());
     assertNull(cell.getCard());
     assertTrue(cell.isEmpty());
     assertFalse(cell.hasPawns());
@@ -58,39 +58,39 @@ public class CellTest {
 
   @Test
   public void testSetAndGetOwner() {
-    cell.setOwner("red");
-    assertEquals("red", cell.getOwner());
+    cell.setOwner(PlayerColor.RED);
+    assertEquals(PlayerColor.RED, cell.getOwner());
 
-    cell.setOwner("blue");
-    assertEquals("blue", cell.getOwner());
+    cell.setOwner(PlayerColor.BLUE);
+    assertEquals(PlayerColor.BLUE, cell.getOwner());
 
-    cell.setOwner("");
-    assertEquals("", cell.getOwner());
+    cell.setOwner(PlayerColor.NONE);
+    assertEquals(PlayerColor.NONE, cell.getOwner());
   }
 
   @Test(expected = IllegalArgumentException.class)
   public void testSetInvalidOwner() {
-    cell.setOwner("Green");
+    cell.setOwner(null);
   }
 
   @Test
   public void testPlaceCard() {
-    cell.placeCard(testCard, "red");
+    cell.placeCard(testCard, PlayerColor.RED);
     assertEquals(testCard, cell.getCard());
-    assertEquals("red", cell.getOwner());
+    assertEquals(PlayerColor.RED, cell.getOwner());
     assertEquals(0, cell.getPawnCount());
   }
 
   @Test
   public void testIsEmptyWithPawns() {
     cell.setPawnCount(1);
-    cell.setOwner("red");
+    cell.setOwner(PlayerColor.RED);
     assertFalse(cell.isEmpty());
   }
 
   @Test
   public void testIsEmptyWithCard() {
-    cell.placeCard(testCard, "blue");
+    cell.placeCard(testCard, PlayerColor.BLUE);
     assertFalse(cell.isEmpty());
   }
 
@@ -142,43 +142,43 @@ public class CellTest {
   public void testCellStateAfterPlacingCard() {
     // Setup cell with pawns
     cell.setPawnCount(3);
-    cell.setOwner("red");
+    cell.setOwner(PlayerColor.RED);
     assertTrue(cell.hasPawns());
 
     // Place a card
-    cell.placeCard(testCard, "red");
+    cell.placeCard(testCard, PlayerColor.RED);
 
     // Verify state changes
     assertEquals(0, cell.getPawnCount());
     assertEquals(testCard, cell.getCard());
-    assertEquals("red", cell.getOwner());
+    assertEquals(PlayerColor.RED, cell.getOwner());
     assertFalse(cell.hasPawns());
     assertFalse(cell.isEmpty());
   }
 
   @Test
   public void testChangingOwnerWithoutPawns() {
-    cell.setOwner("red");
-    assertEquals("red", cell.getOwner());
+    cell.setOwner(PlayerColor.RED);
+    assertEquals(PlayerColor.RED, cell.getOwner());
 
-    cell.setOwner("blue");
-    assertEquals("blue", cell.getOwner());
+    cell.setOwner(PlayerColor.BLUE);
+    assertEquals(PlayerColor.BLUE, cell.getOwner());
 
-    cell.setOwner("");
-    assertEquals("", cell.getOwner());
+    cell.setOwner(PlayerColor.NONE);
+    assertEquals(PlayerColor.NONE, cell.getOwner());
   }
 
   @Test
   public void testPlaceCardChangesOwnership() {
     // Initial setup
     cell.setPawnCount(2);
-    cell.setOwner("red");
+    cell.setOwner(PlayerColor.RED);
 
     // Place a card with different owner
-    cell.placeCard(testCard, "blue");
+    cell.placeCard(testCard, PlayerColor.BLUE);
 
     // Verify ownership changed
-    assertEquals("blue", cell.getOwner());
+    assertEquals(PlayerColor.BLUE, cell.getOwner());
   }
 
   @Test
@@ -7,6 +7,7 @@ import java.util.List;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 /**
  * Test class for the Deck File Parser class.
@@ -190,4 +191,29 @@ public class DeckFileParserTest {
             "XXXXX\n";
     parser.toCard(invalidNumbers);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testDuplicateCardsAreShared() {
+    List<Card> deck = parser.toDeck(testDeckString + testCardBlock, false);
+    assertEquals(4, deck.size());
+    assertSame(deck.get(0), deck.get(3));
+  }
+
+  @Test
+  public void testRegistrySharedBetweenParsers() {
+    CardRegistry registry = new CardRegistry();
+    Card first = new DeckFileParser(registry).toCard(testCardBlock);
+    Card second = new DeckFileParser(registry).toCard(testCardBlock);
+    assertSame(first, second);
+    assertEquals(1, registry.size());
+  }
+
+  @Test
+  public void testMirroredDeckIsInterned() {
+    List<Card> mirrored = parser.toDeck(testDeckString + testDeckString, true);
+    assertSame(mirrored.get(0), mirrored.get(3));
+    // the Knight grid is symmetric, so its mirror is the same card as the original
+    assertSame(parser.toCard(testCardBlock), mirrored.get(0));
+    assertEquals('I', mirrored.get(1).getInfluenceAt(4, 1));
+  }
+}
@@ -0,0 +1,122 @@
+package cs3500.pawnsboard.model;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for InfluenceRules: the standard and variant influence rules, and that boards carry the
+ * rules of their game so that a copy is played on by the same rules as the model.
+ */
+public class InfluenceRulesTest {
+
+  private Card mixed;
+
+  @Before
+  public void setUp() {
+    // influences the cell to the right, upgrades the one below, devalues the one to the left
+    char[][] grid = {
+            {'X', 'X', 'X', 'X', 'X'},
+            {'X', 'X', 'X', 'X', 'X'},
+            {'X', 'D', 'C', 'I', 'X'},
+            {'X', 'X', 'U', 'X', 'X'},
+            {'X', 'X', 'X', 'X', 'X'}
+    };
+    mixed = new Card("Mixed", 1, 2, grid);
+  }
+
+  @Test
+  public void testStandardIgnoresModifiers() {
+    Board board = new Board(3, 3);
+    board.getCell(1, 1).placeCard(mixed, PlayerColor.RED);
+    InfluenceRules.STANDARD.apply(board, 1, 1, mixed, PlayerColor.RED);
+
+    assertEquals(PlayerColor.RED, board.getCell(1, 2).getOwner());
+    assertEquals(1, board.getCell(1, 2).getPawnCount());
+    assertEquals(0, board.getCell(2, 1).getInfluenceModifier());
+    assertEquals(0, board.getCell(1, 0).getInfluenceModifier());
+  }
+
+  @Test
+  public void testVariantAppliesModifiers() {
+    Board board = new Board(3, 3);
+    board.setRules(InfluenceRules.VARIANT);
+    board.getCell(1, 1).placeCard(mixed, PlayerColor.RED);
+    InfluenceRules.VARIANT.apply(board, 1, 1, mixed, PlayerColor.RED);
+
+    assertEquals(PlayerColor.RED, board.getCell(1, 2).getOwner());
+    assertEquals(1, board.getCell(2, 1).getInfluenceModifier());
+    assertEquals(-1, board.getCell(1, 0).getInfluenceModifier());
+  }
+
+  @Test
+  public void testVariantRemovesDevaluedCard() {
+    Board board = new Board(3, 3);
+    board.setRules(InfluenceRules.VARIANT);
+    board.getCell(1, 0).placeCard(new Card("Weak", 1, 1, emptyGrid()), PlayerColor.BLUE);
+    board.getCell(1, 1).placeCard(mixed, PlayerColor.RED);
+    InfluenceRules.VARIANT.apply(board, 1, 1, mixed, PlayerColor.RED);
+
+    // value 1 plus modifier -1 leaves nothing, so the card goes back to its cost in pawns
+    Cell devalued = board.getCell(1, 0);
+    assertNull(devalued.getCard());
+    assertEquals(1, devalued.getPawnCount());
+    assertEquals(0, devalued.getInfluenceModifier());
+  }
+
+  @Test
+  public void testVariantScoresWithModifiers() {
+    Board board = new Board(3, 3);
+    board.getCell(2, 1).addInfluence(2);
+    board.getCell(2, 1).placeCard(mixed, PlayerColor.RED);
+    assertEquals(2, board.getRowScore(2, PlayerColor.RED));
+
+    board.setRules(InfluenceRules.VARIANT);
+    assertEquals(4, board.getRowScore(2, PlayerColor.RED));
+  }
+
+  @Test
+  public void testBoardCopiesKeepRules() {
+    PawnsBoardVariantModel variant = new PawnsBoardVariantModel(3, 3, 9, 4);
+    assertSame(InfluenceRules.VARIANT, variant.getBoard().getRules());
+    assertSame(InfluenceRules.VARIANT, new Board(variant.getBoard()).getRules());
+    assertSame(InfluenceRules.VARIANT, variant.copy().getBoard().getRules());
+
+    PawnsBoardModel standard = new PawnsBoardModel(3, 3, 9, 4);
+    assertSame(InfluenceRules.STANDARD, standard.getBoard().getRules());
+  }
+
+  @Test
+  public void testCopySimulatesLikeTheModel() {
+    PawnsBoardVariantModel model = new PawnsBoardVariantModel(3, 3, 9, 4);
+    Board copy = new Board(model.getBoard());
+
+    model.getBoard().getCell(1, 1).placeCard(mixed, PlayerColor.RED);
+    model.applyInfluence(1, 1, mixed, PlayerColor.RED);
+    copy.getCell(1, 1).placeCard(mixed, PlayerColor.RED);
+    copy.getRules().apply(copy, 1, 1, mixed, PlayerColor.RED);
+
+    assertEquals(model.getBoard().getHash(), copy.getHash());
+    assertEquals(model.getBoard().getRowScore(1, PlayerColor.RED),
+            copy.getRowScore(1, PlayerColor.RED));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSetNullRules() {
+    new Board(3, 3).setRules(null);
+  }
+
+  private static char[][] emptyGrid() {
+    char[][] grid = new char[5][5];
+    for (char[] row : grid) {
+      Arrays.fill(row, 'X');
+    }
+    grid[2][2] = 'C';
+    return grid;
+  }
+}
@@ -0,0 +1,143 @@
+package cs3500.pawnsboard.model;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the MoveList class, checking the packing of moves into ints and the reusable
+ * list operations.
+ */
+public class MoveListTest {
+
+  @Test
+  public void testPackAndUnpack() {
+    int move = MoveList.pack(3, 7, 2);
+    assertEquals(3, MoveList.row(move));
+    assertEquals(7, MoveList.col(move));
+    assertEquals(2, MoveList.cardIndex(move));
+    assertEquals(new Move(3, 7, 2), MoveList.toMove(move));
+  }
+
+  @Test
+  public void testPackLimits() {
+    int move = MoveList.pack(MoveList.MAX_ROWS - 1, MoveList.MAX_COLUMNS - 1,
+            MoveList.MAX_CARD_INDEX);
+    assertTrue(move >= 0);
+    assertEquals(MoveList.MAX_ROWS - 1, MoveList.row(move));
+    assertEquals(MoveList.MAX_COLUMNS - 1, MoveList.col(move));
+    assertEquals(MoveList.MAX_CARD_INDEX, MoveList.cardIndex(move));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPackRowTooLarge() {
+    MoveList.pack(MoveList.MAX_ROWS, 0, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPackNegativeCardIndex() {
+    MoveList.pack(0, 0, -1);
+  }
+
+  @Test
+  public void testNoMoveIsPass() {
+    assertNull(MoveList.toMove(MoveList.NO_MOVE));
+  }
+
+  @Test
+  public void testPackedOrderIsRowColumnCard() {
+    assertTrue(MoveList.pack(0, 4, 3) < MoveList.pack(1, 0, 0));
+    assertTrue(MoveList.pack(1, 0, 3) < MoveList.pack(1, 1, 0));
+    assertTrue(MoveList.pack(1, 1, 0) < MoveList.pack(1, 1, 1));
+  }
+
+  @Test
+  public void testAddGrowAndClear() {
+    MoveList moves = new MoveList();
+    assertTrue(moves.isEmpty());
+    for (int i = 0; i < 100; i++) {
+      moves.add(i, i + 1, i % 5);
+    }
+    assertEquals(100, moves.size());
+    assertEquals(99, MoveList.row(moves.get(99)));
+    assertEquals(100, MoveList.col(moves.get(99)));
+    assertEquals(4, MoveList.cardIndex(moves.get(99)));
+
+    moves.clear();
+    assertTrue(moves.isEmpty());
+    moves.add(MoveList.pack(1, 2, 0));
+    assertFalse(moves.isEmpty());
+    assertEquals(MoveList.pack(1, 2, 0), moves.get(0));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testGetPastSize() {
+    MoveList moves = new MoveList();
+    moves.add(0, 0, 0);
+    moves.clear();
+    moves.get(0);
+  }
+
+  @Test
+  public void testIndexOfAndMoveToFront() {
+    MoveList moves = new MoveList();
+    moves.add(0, 0, 0);
+    moves.add(0, 2, 1);
+    moves.add(1, 0, 2);
+    assertEquals(1, moves.indexOf(MoveList.pack(0, 2, 1)));
+    assertEquals(-1, moves.indexOf(MoveList.pack(4, 4, 4)));
+
+    moves.moveToFront(2);
+    assertEquals(MoveList.pack(1, 0, 2), moves.get(0));
+    assertEquals(MoveList.pack(0, 0, 0), moves.get(1));
+    assertEquals(MoveList.pack(0, 2, 1), moves.get(2));
+  }
+
+  @Test
+  public void testSet() {
+    MoveList moves = new MoveList();
+    moves.add(0, 0, 0);
+    moves.add(0, 2, 1);
+    moves.set(1, MoveList.pack(2, 2, 2));
+    assertEquals(MoveList.pack(2, 2, 2), moves.get(1));
+    assertEquals(2, moves.size());
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testSet_Invalid() {
+    new MoveList().set(0, MoveList.pack(0, 0, 0));
+  }
+
+  @Test
+  public void testMatchesPlayerLegalMoves() {
+    List<Card> deck = new ArrayList<>();
+    char[][] grid = new char[5][5];
+    for (int i = 0; i < 5; i++) {
+      for (int j = 0; j < 5; j++) {
+        grid[i][j] = 'X';
+      }
+    }
+    grid[2][2] = 'C';
+    for (int i = 0; i < 15; i++) {
+      deck.add(new Card("Card" + i, 1 + i % 2, 1, grid));
+    }
+    PawnsBoardModel model = new PawnsBoardModel(3, 5, deck.size(), 3);
+    Player red = new Player(PlayerColor.RED, deck, model);
+    model.getBoard().setCellPawns(1, 0, 2, PlayerColor.RED);
+
+    MoveList packed = new MoveList();
+    red.getLegalMoves(packed);
+    List<Move> moves = red.getLegalMoves();
+    assertEquals(moves.size(), packed.size());
+    for (int i = 0; i < packed.size(); i++) {
+      assertEquals(moves.get(i), MoveList.toMove(packed.get(i)));
+    }
+    assertTrue(red.hasLegalMove());
+  }
+}
@@ -8,7 +8,9 @@ import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Test suite for the PawnsBoardModel class.
@@ -80,18 +82,18 @@ public class PawnsBoardModelTest {
     assertEquals(5, model.getBoard().getColumns());
 
     // Test initial player turn (Red starts)
-    assertEquals("red", model.getCurrentPlayerColor());
+    assertEquals(PlayerColor.RED, model.getCurrentPlayerColor());
 
     // Test initial board state - first column has red pawns
     for (int row = 0; row < 3; row++) {
       Cell leftCell = model.getBoard().getCell(row, 0);
       assertEquals(1, leftCell.getPawnCount());
-      assertEquals("red", leftCell.getOwner());
+      assertEquals(PlayerColor.RED, leftCell.getOwner());
 
       // Last column has blue pawns
       Cell rightCell = model.getBoard().getCell(row, 4);
       assertEquals(1, rightCell.getPawnCount());
-      assertEquals("blue", rightCell.getOwner());
+      assertEquals(PlayerColor.BLUE, rightCell.getOwner());
     }
 
     // Test initial game state (not over)
@@ -108,18 +110,34 @@ public class PawnsBoardModelTest {
     new PawnsBoardModel(3, 4, testDeck.size(), 3); // Columns must be odd
   }
 
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructorWithTooManyColumns() {
+    new PawnsBoardModel(1, MoveList.MAX_COLUMNS + 1, MoveList.MAX_COLUMNS + 1, 3);
+  }
+
+  @Test
+  public void testLargeBoardOwnedCountsAndLegalMoves() {
+    // 101 x 1001: a board with over 10^5 cells
+    PawnsBoardModel large = new PawnsBoardModel(101, 1001, 101 * 1001, 3);
+    assertEquals(101, large.getBoard().countOwned(PlayerColor.RED));
+    assertEquals(101, large.getBoard().countOwned(PlayerColor.BLUE));
+    assertEquals(101, large.getBoard().countPlayableCells(PlayerColor.BLUE, 1));
+    assertEquals(100 * 1001 + 1000,
+            large.getBoard().nextPlayableCell(PlayerColor.BLUE, 1, 100 * 1001));
+  }
+
   @Test
   public void testPass() {
     // Initially it's Red's turn
-    assertEquals("red", model.getCurrentPlayerColor());
+    assertEquals(PlayerColor.RED, model.getCurrentPlayerColor());
 
     // After passing, it should be Blue's turn
     model.pass();
-    assertEquals("blue", model.getCurrentPlayerColor());
+    assertEquals(PlayerColor.BLUE, model.getCurrentPlayerColor());
 
     // After another pass, back to Red
     model.pass();
-    assertEquals("red", model.getCurrentPlayerColor());
+    assertEquals(PlayerColor.RED, model.getCurrentPlayerColor());
   }
 
   @Test
@@ -150,22 +168,22 @@ public class PawnsBoardModelTest {
     // Clear the board
     for (int i = 0; i < board.getRows(); i++) {
       for (int j = 0; j < board.getColumns(); j++) {
-        board.setCellPawns(i, j, 0, "");
+        board.setCellPawns(i, j, 0, PlayerColor.NONE);
       }
     }
 
     // Setup cells with cards manually
     Cell cell1 = board.getCell(0, 0);
-    cell1.placeCard(redCard1, "red");
+    cell1.placeCard(redCard1, PlayerColor.RED);
 
     Cell cell2 = board.getCell(0, 1);
-    cell2.placeCard(blueCard1, "blue");
+    cell2.placeCard(blueCard1, PlayerColor.BLUE);
 
     Cell cell3 = board.getCell(1, 0);
-    cell3.placeCard(redCard2, "red");
+    cell3.placeCard(redCard2, PlayerColor.RED);
 
     Cell cell4 = board.getCell(1, 1);
-    cell4.placeCard(blueCard2, "blue");
+    cell4.placeCard(blueCard2, PlayerColor.BLUE);
 
     // Compute row scores
     int[][] rowScores = model.computeRowScores();
@@ -197,22 +215,22 @@ public class PawnsBoardModelTest {
     // Clear the board
     for (int i = 0; i < board.getRows(); i++) {
       for (int j = 0; j < board.getColumns(); j++) {
-        board.setCellPawns(i, j, 0, "");
+        board.setCellPawns(i, j, 0, PlayerColor.NONE);
       }
     }
 
     // Setup cells with cards manually
     Cell cell1 = board.getCell(0, 0);
-    cell1.placeCard(redCard1, "red");
+    cell1.placeCard(redCard1, PlayerColor.RED);
 
     Cell cell2 = board.getCell(0, 1);
-    cell2.placeCard(blueCard1, "blue");
+    cell2.placeCard(blueCard1, PlayerColor.BLUE);
 
     Cell cell3 = board.getCell(1, 0);
-    cell3.placeCard(redCard2, "red");
+    cell3.placeCard(redCard2, PlayerColor.RED);
 
     Cell cell4 = board.getCell(1, 1);
-    cell4.placeCard(blueCard2, "blue");
+    cell4.placeCard(blueCard2, PlayerColor.BLUE);
 
     // Compute scores
     int[] scores = model.computeScores();
@@ -236,16 +254,16 @@ public class PawnsBoardModelTest {
     // Clear the board
     for (int i = 0; i < board.getRows(); i++) {
       for (int j = 0; j < board.getColumns(); j++) {
-        board.setCellPawns(i, j, 0, "");
+        board.setCellPawns(i, j, 0, PlayerColor.NONE);
       }
     }
 
     // Place cards to ensure Red has higher score
     Cell cell1 = board.getCell(0, 0);
-    cell1.placeCard(redCard, "red");
+    cell1.placeCard(redCard, PlayerColor.RED);
 
     Cell cell2 = board.getCell(1, 0);
-    cell2.placeCard(blueCard, "blue");
+    cell2.placeCard(blueCard, PlayerColor.BLUE);
 
     // Trigger game end
     model.pass();
@@ -267,16 +285,16 @@ public class PawnsBoardModelTest {
     // Clear the board
     for (int i = 0; i < board.getRows(); i++) {
       for (int j = 0; j < board.getColumns(); j++) {
-        board.setCellPawns(i, j, 0, "");
+        board.setCellPawns(i, j, 0, PlayerColor.NONE);
       }
     }
 
     // Place cards to ensure Blue has higher score
     Cell cell1 = board.getCell(0, 0);
-    cell1.placeCard(redCard, "red");
+    cell1.placeCard(redCard, PlayerColor.RED);
 
     Cell cell2 = board.getCell(1, 0);
-    cell2.placeCard(blueCard, "blue");
+    cell2.placeCard(blueCard, PlayerColor.BLUE);
 
     // Trigger game end
     model.pass();
@@ -298,16 +316,16 @@ public class PawnsBoardModelTest {
     // Clear the board
     for (int i = 0; i < board.getRows(); i++) {
       for (int j = 0; j < board.getColumns(); j++) {
-        board.setCellPawns(i, j, 0, "");
+        board.setCellPawns(i, j, 0, PlayerColor.NONE);
       }
     }
 
     // Place cards to ensure a tie
     Cell cell1 = board.getCell(0, 0);
-    cell1.placeCard(redCard, "red");
+    cell1.placeCard(redCard, PlayerColor.RED);
 
     Cell cell2 = board.getCell(1, 0);
-    cell2.placeCard(blueCard, "blue");
+    cell2.placeCard(blueCard, PlayerColor.BLUE);
 
     // Trigger game end
     model.pass();
@@ -323,18 +341,18 @@ public class PawnsBoardModelTest {
     Board board = model.getBoard();
     for (int i = 0; i < board.getRows(); i++) {
       for (int j = 0; j < board.getColumns(); j++) {
-        board.setCellPawns(i, j, 0, "");
+        board.setCellPawns(i, j, 0, PlayerColor.NONE);
       }
     }
 
     // Set up test condition: Red has a pawn at (1,1)
-    board.setCellPawns(1, 1, 1, "red");
+    board.setCellPawns(1, 1, 1, PlayerColor.RED);
 
     // Create a card with specific influence pattern
     Card testCard = createTestCard("TestCard", 1, 5);
 
     // Apply influence
-    model.applyInfluence(1, 1, testCard, "red");
+    model.applyInfluence(1, 1, testCard, PlayerColor.RED);
 
     // Check influence effects - the card's pattern should add pawns at (0,1), (1,0), (1,2), (2,1)
     // Check that pawns were added where expected
@@ -344,34 +362,34 @@ public class PawnsBoardModelTest {
     Cell bottomCell = board.getCell(2, 1);
 
     assertEquals(1, topCell.getPawnCount());
-    assertEquals("red", topCell.getOwner());
+    assertEquals(PlayerColor.RED, topCell.getOwner());
 
     assertEquals(1, leftCell.getPawnCount());
-    assertEquals("red", leftCell.getOwner());
+    assertEquals(PlayerColor.RED, leftCell.getOwner());
 
     assertEquals(1, rightCell.getPawnCount());
-    assertEquals("red", rightCell.getOwner());
+    assertEquals(PlayerColor.RED, rightCell.getOwner());
 
     assertEquals(1, bottomCell.getPawnCount());
-    assertEquals("red", bottomCell.getOwner());
+    assertEquals(PlayerColor.RED, bottomCell.getOwner());
   }
 
   @Test
   public void testInfluenceOnOpponentPawns() {
     // Set up test condition: Red has a pawn at (1,1), Blue has a pawn at (1,2)
     Board board = model.getBoard();
-    board.setCellPawns(1, 1, 1, "red");
-    board.setCellPawns(1, 2, 1, "blue");
+    board.setCellPawns(1, 1, 1, PlayerColor.RED);
+    board.setCellPawns(1, 2, 1, PlayerColor.BLUE);
 
     // Create a card with specific influence pattern
     Card testCard = createTestCard("TestCard", 1, 5);
 
     // Apply influence
-    model.applyInfluence(1, 1, testCard, "red");
+    model.applyInfluence(1, 1, testCard, PlayerColor.RED);
 
     // Check that Blue's pawn at (1,2) is now Red's
     Cell rightCell = board.getCell(1, 2);
-    assertEquals("red", rightCell.getOwner());
+    assertEquals(PlayerColor.RED, rightCell.getOwner());
     assertEquals(1, rightCell.getPawnCount());
   }
 
@@ -379,19 +397,19 @@ public class PawnsBoardModelTest {
   public void testInfluenceOnExistingPawns() {
     // Set up: Red has 1 pawn at (1,1) and 2 pawns at (1,2)
     Board board = model.getBoard();
-    board.setCellPawns(1, 1, 1, "red");
-    board.setCellPawns(1, 2, 2, "red");
+    board.setCellPawns(1, 1, 1, PlayerColor.RED);
+    board.setCellPawns(1, 2, 2, PlayerColor.RED);
 
     // Create a card with specific influence pattern
     Card testCard = createTestCard("TestCard", 1, 5);
 
     // Apply influence
-    model.applyInfluence(1, 1, testCard, "red");
+    model.applyInfluence(1, 1, testCard, PlayerColor.RED);
 
     // Cell at (1,2) should now have 3 pawns (2+1, max is 3)
     Cell rightCell = board.getCell(1, 2);
     assertEquals(3, rightCell.getPawnCount());
-    assertEquals("red", rightCell.getOwner());
+    assertEquals(PlayerColor.RED, rightCell.getOwner());
   }
 
   @Test
@@ -400,16 +418,16 @@ public class PawnsBoardModelTest {
     Board board = model.getBoard();
     for (int i = 0; i < board.getRows(); i++) {
       for (int j = 0; j < board.getColumns(); j++) {
-        board.setCellPawns(i, j, 0, "");
+        board.setCellPawns(i, j, 0, PlayerColor.NONE);
       }
     }
-    board.setCellPawns(1, 3, 1, "blue");
+    board.setCellPawns(1, 3, 1, PlayerColor.BLUE);
 
     // Create a card with specific influence pattern
     Card testCard = createTestCard("TestCard", 1, 5);
 
     // Apply influence for Blue
-    model.applyInfluence(1, 3, testCard, "blue");
+    model.applyInfluence(1, 3, testCard, PlayerColor.BLUE);
 
     // Check the cells have Blue pawns in the appropriate places
     Cell topCell = board.getCell(0, 3);
@@ -420,22 +438,249 @@ public class PawnsBoardModelTest {
     // Check cells if they're valid positions
     if (board.isValidPosition(0, 3)) {
       assertEquals(1, topCell.getPawnCount());
-      assertEquals("blue", topCell.getOwner());
+      assertEquals(PlayerColor.BLUE, topCell.getOwner());
     }
 
     if (board.isValidPosition(1, 2)) {
       assertEquals(1, leftCell.getPawnCount());
-      assertEquals("blue", leftCell.getOwner());
+      assertEquals(PlayerColor.BLUE, leftCell.getOwner());
     }
 
     if (board.isValidPosition(1, 4)) {
       assertEquals(1, rightCell.getPawnCount());
-      assertEquals("blue", rightCell.getOwner());
+      assertEquals(PlayerColor.BLUE, rightCell.getOwner());
     }
 
     if (board.isValidPosition(2, 3)) {
       assertEquals(1, bottomCell.getPawnCount());
-      assertEquals("blue", bottomCell.getOwner());
+      assertEquals(PlayerColor.BLUE, bottomCell.getOwner());
+    }
+  }
+
+  @Test
+  public void testMakeMoveAndUndo() {
+    Player red = new Player(PlayerColor.RED, testDeck, model);
+    List<Card> handBefore = new ArrayList<>(red.getHand());
+    Card played = red.getHand().get(0);
+
+    model.makeMove(red, 1, 0, 0);
+    assertEquals(played, model.getCell(1, 0).getCard());
+    assertEquals(PlayerColor.RED, model.getCell(1, 1).getOwner());
+    assertEquals(2, red.getHand().size());
+    assertEquals(PlayerColor.BLUE, model.getCurrentPlayerColor());
+
+    model.undo();
+    assertEquals(null, model.getCell(1, 0).getCard());
+    assertEquals(1, model.getCell(1, 0).getPawnCount());
+    assertEquals(PlayerColor.RED, model.getCell(1, 0).getOwner());
+    assertEquals(0, model.getCell(1, 1).getPawnCount());
+    assertEquals(PlayerColor.NONE, model.getCell(1, 1).getOwner());
+    assertEquals(handBefore, red.getHand());
+    assertEquals(PlayerColor.RED, model.getCurrentPlayerColor());
+  }
+
+  @Test
+  public void testMakePassAndUndo() {
+    model.makePass();
+    model.makePass();
+    assertTrue(model.isGameOver());
+    model.undo();
+    assertFalse(model.isGameOver());
+    assertEquals(PlayerColor.BLUE, model.getCurrentPlayerColor());
+    model.undo();
+    assertEquals(PlayerColor.RED, model.getCurrentPlayerColor());
+  }
+
+  @Test
+  public void testNestedMovesUndoInOrder() {
+    Player red = new Player(PlayerColor.RED, testDeck, model);
+    Player blue = new Player(PlayerColor.BLUE, testDeck, model);
+    model.makeMove(red, 1, 0, 0);
+    model.makeMove(blue, 1, 4, 0);
+    // the first move raised (0, 0) to two pawns, enough for the second red card
+    model.makeMove(red, 0, 0, 0);
+    model.undo();
+    model.undo();
+    model.undo();
+    for (int row = 0; row < 3; row++) {
+      assertEquals(1, model.getCell(row, 0).getPawnCount());
+      assertEquals(PlayerColor.RED, model.getCell(row, 0).getOwner());
+      assertEquals(1, model.getCell(row, 4).getPawnCount());
+      assertEquals(PlayerColor.BLUE, model.getCell(row, 4).getOwner());
+      for (int col = 1; col < 4; col++) {
+        assertTrue(model.getCell(row, col).isEmpty());
+      }
+    }
+    assertEquals(3, red.getHand().size());
+    assertEquals(3, blue.getHand().size());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testMakeMoveOnEmptyCell() {
+    Player red = new Player(PlayerColor.RED, testDeck, model);
+    model.makeMove(red, 1, 2, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMakeMoveInvalidCardIndex() {
+    Player red = new Player(PlayerColor.RED, testDeck, model);
+    model.makeMove(red, 1, 0, 5);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testUndoWithEmptyJournal() {
+    model.undo();
+  }
+
+  @Test
+  public void testCommitKeepsMovesButNotUndo() {
+    Player red = new Player(PlayerColor.RED, testDeck, model);
+    model.makeMove(red, 1, 0, 0);
+    model.makePass();
+    long played = model.getStateHash();
+    model.commit();
+    assertEquals(played, model.getStateHash());
+    assertEquals(PlayerColor.RED, model.getCellOwner(1, 0));
+    try {
+      model.undo();
+      fail("Committed moves should not be undone.");
+    } catch (IllegalStateException e) {
+      assertEquals(played, model.getStateHash());
+    }
+  }
+
+  @Test
+  public void testStateHashRestoredByUndo() {
+    Player red = new Player(PlayerColor.RED, testDeck, model);
+    Player blue = new Player(PlayerColor.BLUE, testDeck, model);
+    long start = model.getStateHash();
+    model.makeMove(red, 1, 0, 0);
+    long afterRed = model.getStateHash();
+    assertNotEquals(start, afterRed);
+    model.makeMove(blue, 1, 4, 0);
+    assertNotEquals(afterRed, model.getStateHash());
+    model.undo();
+    assertEquals(afterRed, model.getStateHash());
+    model.undo();
+    assertEquals(start, model.getStateHash());
+  }
+
+  @Test
+  public void testStateHashIndependentOfMoveOrder() {
+    Card card = createTestCard("Card1", 1, 5);
+    PawnsBoardModel other = new PawnsBoardModel(3, 5, testDeck.size(), 3);
+
+    // red's and blue's cards do not overlap, so playing them in either order gives the same state
+    model.getCell(0, 0).placeCard(card, PlayerColor.RED);
+    model.applyInfluence(0, 0, card, PlayerColor.RED);
+    model.getCell(2, 4).placeCard(card, PlayerColor.BLUE);
+    model.applyInfluence(2, 4, card, PlayerColor.BLUE);
+
+    other.getCell(2, 4).placeCard(card, PlayerColor.BLUE);
+    other.applyInfluence(2, 4, card, PlayerColor.BLUE);
+    other.getCell(0, 0).placeCard(card, PlayerColor.RED);
+    other.applyInfluence(0, 0, card, PlayerColor.RED);
+
+    assertEquals(model.getStateHash(), other.getStateHash());
+  }
+
+  @Test
+  public void testStateHashCoversTurnPassesAndHands() {
+    Player red = new Player(PlayerColor.RED, testDeck, model);
+    long start = model.getStateHash();
+    model.makePass();
+    long afterPass = model.getStateHash();
+    assertNotEquals(start, afterPass);
+    model.makePass();
+    assertNotEquals(afterPass, model.getStateHash());
+    model.undo();
+    model.undo();
+    assertEquals(start, model.getStateHash());
+
+    red.drawCard();
+    assertNotEquals(start, model.getStateHash());
+  }
+
+  @Test
+  public void testBoardHashMatchesForEqualBoards() {
+    Board board = model.getBoard();
+    Board copy = model.cloneBoard();
+    assertEquals(board.getHash(), copy.getHash());
+    Card card = createTestCard("Card1", 1, 5);
+    board.getCell(1, 0).placeCard(card, PlayerColor.RED);
+    copy.getCell(1, 0).placeCard(new Card(card), PlayerColor.RED);
+    assertEquals(board.getHash(), copy.getHash());
+    copy.getCell(1, 0).setOwner(PlayerColor.BLUE);
+    assertNotEquals(board.getHash(), copy.getHash());
+  }
+
+  @Test
+  public void testLegalMovesFollowJournaledMoves() {
+    Player red = new Player(PlayerColor.RED, testDeck, model);
+    Player blue = new Player(PlayerColor.BLUE, testDeck, model);
+    assertEquals(bruteForceLegalMoves(red), asStrings(red.getLegalMoves()));
+    model.makeMove(red, 1, 0, 0);
+    assertEquals(bruteForceLegalMoves(red), asStrings(red.getLegalMoves()));
+    model.makeMove(blue, 1, 4, 0);
+    assertEquals(bruteForceLegalMoves(blue), asStrings(blue.getLegalMoves()));
+    model.makeMove(red, 0, 0, 0);
+    assertEquals(bruteForceLegalMoves(red), asStrings(red.getLegalMoves()));
+    model.undo();
+    model.undo();
+    assertEquals(bruteForceLegalMoves(red), asStrings(red.getLegalMoves()));
+    assertEquals(bruteForceLegalMoves(blue), asStrings(blue.getLegalMoves()));
+  }
+
+  @Test
+  public void testCopyIsIndependent() {
+    Player red = new Player(PlayerColor.RED, testDeck, model);
+    Player blue = new Player(PlayerColor.BLUE, testDeck, model);
+    model.makeMove(red, 1, 0, 0);
+    PawnsBoardModel copy = model.copy();
+    assertEquals(model.getStateHash(), copy.getStateHash());
+    assertEquals(PlayerColor.BLUE, copy.getCurrentPlayerColor());
+
+    // moves on the copy are played with the copy's own players and hands
+    PlayerI copiedBlue = copy.getPlayer(PlayerColor.BLUE);
+    assertNotEquals(blue, copiedBlue);
+    copy.makeMove(copiedBlue, 1, 4, 0);
+    assertEquals(blue.getHand().size() - 1, copiedBlue.getHand().size());
+    assertEquals(PlayerColor.NONE, model.getCell(1, 3).getOwner());
+    assertEquals(PlayerColor.BLUE, model.getCurrentPlayerColor());
+    copy.undo();
+    assertEquals(model.getStateHash(), copy.getStateHash());
+  }
+
+  @Test
+  public void testVariantCopyKeepsVariantRules() {
+    PawnsBoardVariantModel variant = new PawnsBoardVariantModel(3, 5, testDeck.size(), 3);
+    assertTrue(variant.copy() instanceof PawnsBoardVariantModel);
+  }
+
+  /**
+   * Lists the legal moves of a player by checking every cell and card, in row-major order.
+   */
+  private List<String> bruteForceLegalMoves(Player player) {
+    List<String> moves = new ArrayList<>();
+    for (int row = 0; row < model.getHeight(); row++) {
+      for (int col = 0; col < model.getWidth(); col++) {
+        Cell cell = model.getCell(row, col);
+        for (int i = 0; i < player.getHand().size(); i++) {
+          if (cell.hasPawns() && cell.getOwner() == player.getColor() && cell.getCard() == null
+                  && player.getHand().get(i).getCost() <= cell.getPawnCount()) {
+            moves.add(new Move(row, col, i).toString());
+          }
+        }
+      }
+    }
+    return moves;
+  }
+
+  private List<String> asStrings(List<Move> moves) {
+    List<String> result = new ArrayList<>();
+    for (Move move : moves) {
+      result.add(move.toString());
     }
+    return result;
   }
-}
\ No newline at end of file
+}
@@ -7,6 +7,9 @@ import org.junit.Assert;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import cs3500.pawnsboard.view.PawnsBoardVariantTextualView;
 
@@ -52,7 +55,7 @@ public class PawnsBoardVariantModelTest {
     Card upgradeCard = new Card("UCard", 1, 1, grid);
 
     // Apply influence centered at (1,1) for red
-    model.applyInfluence(1, 1, upgradeCard, "red");
+    model.applyInfluence(1, 1, upgradeCard, PlayerColor.RED);
 
     // The cell at (2,2) should have received one U influence from (3,1)
     Cell c = model.getBoard().getCell(2, 2);
@@ -72,7 +75,7 @@ public class PawnsBoardVariantModelTest {
 
     Card devalueCard = new Card("DCard", 1, 1, grid);
 
-    model.applyInfluence(1, 1, devalueCard, "blue");
+    model.applyInfluence(1, 1, devalueCard, PlayerColor.BLUE);
 
     Cell top = model.getBoard().getCell(0, 1);
     Cell bottom = model.getBoard().getCell(2, 1);
@@ -105,13 +108,13 @@ public class PawnsBoardVariantModelTest {
     // Place the first card with value 1 at position (1,1)
     Cell targetCell = model.getBoard().getCell(1, 0);
     Card targetCard = new Card("LowValueCard", 1, 1, cardGrid);
-    targetCell.placeCard(targetCard, "red");
+    targetCell.placeCard(targetCard, PlayerColor.RED);
 
     // Place the devaluing card at (2,2) - adjacent with D influence
     Card devalueCard = new Card("DevalueCard", 1, 3, devalueGrid);
 
     // Apply the devaluing card's influence
-    model.applyInfluence(2, 2, devalueCard, "blue");
+    model.applyInfluence(2, 2, devalueCard, PlayerColor.BLUE);
 
     // The target card should be removed by the devaluing influence
     Assert.assertNull("Card should be removed when effective value <= 0",
@@ -136,7 +139,7 @@ public class PawnsBoardVariantModelTest {
     // Place card at (1,1) with base value 2
     Cell cell = model.getBoard().getCell(1, 1);
     Card c = new Card("V", 2, 2, grid);
-    cell.placeCard(c, "red");
+    cell.placeCard(c, PlayerColor.RED);
 
     // Add positive influence
     cell.addInfluence(3);
@@ -170,7 +173,7 @@ public class PawnsBoardVariantModelTest {
     Card mixedCard = new Card("MixedCard", 1, 1, grid);
 
     // Apply influence centered at (1,1) for red
-    model.applyInfluence(1, 1, mixedCard, "red");
+    model.applyInfluence(1, 1, mixedCard, PlayerColor.RED);
 
     // Check the cell above received positive influence
     Cell topCell = model.getBoard().getCell(0, 1);
@@ -219,7 +222,7 @@ public class PawnsBoardVariantModelTest {
     };
 
     Card card = new Card("TestCard", 1, 3, grid);
-    model.getBoard().getCell(1, 1).placeCard(card, "red");
+    model.getBoard().getCell(1, 1).placeCard(card, PlayerColor.RED);
 
     // Render the board
     view.render(model.getBoard());
@@ -243,7 +246,7 @@ public class PawnsBoardVariantModelTest {
 
     Card card = new Card("ScoreCard", 1, 3, grid);
     Cell cell = model.getBoard().getCell(0, 0);
-    cell.placeCard(card, "red");
+    cell.placeCard(card, PlayerColor.RED);
     cell.addInfluence(2);
 
     // Render the board
@@ -276,17 +279,17 @@ public class PawnsBoardVariantModelTest {
     };
 
     Card card1 = new Card("Card1", 1, 2, grid);
-    board.getCell(1, 0).placeCard(card1, "red");
+    board.getCell(1, 0).placeCard(card1, PlayerColor.RED);
     board.getCell(1, 0).addInfluence(1);
 
     // Cell with a card and negative influence
     Card card2 = new Card("Card2", 1, 4, grid);
-    board.getCell(1, 1).placeCard(card2, "blue");
+    board.getCell(1, 1).placeCard(card2, PlayerColor.BLUE);
     board.getCell(1, 1).addInfluence(-1);
 
     // Empty cell
     board.getCell(2, 2).setPawnCount(0);
-    board.getCell(2, 2).setOwner("");
+    board.getCell(2, 2).setOwner(PlayerColor.NONE);
 
     // Render the board
     view.render(board);
@@ -308,4 +311,117 @@ public class PawnsBoardVariantModelTest {
     Assert.assertTrue("Blue scores should include reduced influence",
             output.contains("Blue Player Scores:"));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void rowScoresIncludeModifiersAndDevaluedCards() {
+    char[][] grid = {
+            {'X', 'X', 'X', 'X', 'X'},
+            {'X', 'X', 'X', 'X', 'X'},
+            {'X', 'X', 'C', 'D', 'X'},
+            {'X', 'X', 'X', 'X', 'X'},
+            {'X', 'X', 'X', 'X', 'X'}
+    };
+    Card card = new Card("DCard", 1, 2, grid);
+    model.getCell(1, 0).placeCard(card, PlayerColor.RED);
+    model.getCell(1, 1).placeCard(card, PlayerColor.BLUE);
+    model.getCell(1, 0).addInfluence(3);
+    Assert.assertEquals(5, model.getRowScore(1, PlayerColor.RED));
+    Assert.assertEquals(2, model.getRowScore(1, PlayerColor.BLUE));
+
+    // a modifier below the negative value scores 0 rather than a negative amount
+    model.getCell(1, 1).addInfluence(-5);
+    Assert.assertEquals(0, model.getRowScore(1, PlayerColor.BLUE));
+
+    // devaluing blue's card twice removes it from the board, and from the score
+    model.getCell(1, 1).addInfluence(5);
+    model.applyInfluence(1, 0, card, PlayerColor.RED);
+    Assert.assertEquals(1, model.getRowScore(1, PlayerColor.BLUE));
+    model.applyInfluence(1, 0, card, PlayerColor.RED);
+    Assert.assertNull(model.getCell(1, 1).getCard());
+    Assert.assertEquals(0, model.getRowScore(1, PlayerColor.BLUE));
+    Assert.assertArrayEquals(new int[] {5, 0}, model.computeRowScores()[1]);
+  }
+
+  @Test
+  public void devaluedCardRemovalKeepsBoardHash() {
+    Card weak = new Card("Weak", 2, 1, singleEntryGrid('X'));
+    Card devalue = new Card("Devalue", 1, 3, singleEntryGrid('D'));
+    model.getCell(1, 1).placeCard(weak, PlayerColor.BLUE);
+    model.applyInfluence(1, 0, devalue, PlayerColor.RED);
+
+    Assert.assertNull(model.getCell(1, 1).getCard());
+    Assert.assertEquals(2, model.getCell(1, 1).getPawnCount());
+    Assert.assertEquals(rebuild(model.getBoard()).getHash(), model.getBoard().getHash());
+  }
+
+  @Test
+  public void devaluedCardRemovalKeepsStateHashThroughUndo() {
+    // red's cards devalue two cells to the right, which is where blue places a value 1 card
+    Player red = new Player(PlayerColor.RED, deckOf(new Card("Reach", 1, 2,
+            reachGrid())), model);
+    Player blue = new Player(PlayerColor.BLUE, deckOf(new Card("Weak", 1, 1,
+            singleEntryGrid('X'))), model);
+    model.makePass();
+    model.makeMove(blue, 1, 2, 0);
+    long before = model.getStateHash();
+    long boardBefore = model.getBoard().getHash();
+
+    model.makeMove(red, 1, 0, 0);
+    Assert.assertNull(model.getCell(1, 2).getCard());
+    Assert.assertEquals(rebuild(model.getBoard()).getHash(), model.getBoard().getHash());
+
+    model.undo();
+    Assert.assertEquals(PlayerColor.BLUE, model.getCell(1, 2).getOwner());
+    Assert.assertEquals(boardBefore, model.getBoard().getHash());
+    Assert.assertEquals(rebuild(model.getBoard()).getHash(), model.getBoard().getHash());
+    Assert.assertEquals(before, model.getStateHash());
+  }
+
+  /**
+   * Builds a new board with the same cells as the given one, cell by cell, so its hash is
+   * computed from scratch rather than carried along with the changes.
+   */
+  private static Board rebuild(Board board) {
+    Board fresh = new Board(board.getRows(), board.getColumns());
+    fresh.setRules(board.getRules());
+    for (int r = 0; r < board.getRows(); r++) {
+      for (int c = 0; c < board.getColumns(); c++) {
+        Cell cell = board.getCell(r, c);
+        Cell copy = fresh.getCell(r, c);
+        copy.addInfluence(cell.getInfluenceModifier());
+        if (cell.getCard() != null) {
+          copy.placeCard(cell.getCard(), cell.getOwner());
+        }
+        else {
+          copy.setOwner(cell.getOwner());
+          copy.setPawnCount(cell.getPawnCount());
+        }
+      }
+    }
+    return fresh;
+  }
+
+  private static List<Card> deckOf(Card card) {
+    List<Card> deck = new ArrayList<>();
+    for (int i = 0; i < 12; i++) {
+      deck.add(card);
+    }
+    return deck;
+  }
+
+  private static char[][] singleEntryGrid(char right) {
+    char[][] grid = new char[5][5];
+    for (char[] row : grid) {
+      Arrays.fill(row, 'X');
+    }
+    grid[2][2] = 'C';
+    grid[2][3] = right;
+    return grid;
+  }
+
+  private static char[][] reachGrid() {
+    char[][] grid = singleEntryGrid('X');
+    grid[2][4] = 'D';
+    return grid;
+  }
+}
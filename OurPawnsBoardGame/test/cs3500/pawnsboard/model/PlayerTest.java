@@ -4,11 +4,17 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+
+import cs3500.pawnsboard.strategy.FillFirstStrategy;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -56,9 +62,9 @@ public class PlayerTest {
   @Test
   public void testConstructor_BasicInitialization() {
     List<Card> deckCopy = new ArrayList<>(testDeck);
-    Player player = new Player("red", deckCopy, mockModel);
+    Player player = new Player(PlayerColor.RED, deckCopy, mockModel);
 
-    assertEquals("red", player.getColor());
+    assertEquals(PlayerColor.RED, player.getColor());
     assertNotNull(player.getHand());
     assertEquals(5, player.getHand().size()); // Should match model's handSize
   }
@@ -70,7 +76,7 @@ public class PlayerTest {
     List<Card> deckCopy = new ArrayList<>(testDeck);
 
     // This should throw an exception since handSize > deck.size()/3
-    Player player = new Player("red", deckCopy, largeHandModel);
+    Player player = new Player(PlayerColor.RED, deckCopy, largeHandModel);
   }
 
   @Test
@@ -78,25 +84,25 @@ public class PlayerTest {
     List<Card> emptyDeck = new ArrayList<>();
     MockPawnsBoardModel emptyDeckModel = new MockPawnsBoardModel(5, 5, testDeck, 0);
 
-    Player player = new Player("red", emptyDeck, emptyDeckModel);
+    Player player = new Player(PlayerColor.RED, emptyDeck, emptyDeckModel);
     assertTrue(player.getHand().isEmpty());
   }
 
   @Test
   public void testGetColor() {
     List<Card> deckCopy = new ArrayList<>(testDeck);
-    Player redPlayer = new Player("red", deckCopy, mockModel);
-    Player bluePlayer = new Player("blue", deckCopy, mockModel);
+    Player redPlayer = new Player(PlayerColor.RED, deckCopy, mockModel);
+    Player bluePlayer = new Player(PlayerColor.BLUE, deckCopy, mockModel);
 
-    assertEquals("red", redPlayer.getColor());
-    assertEquals("blue", bluePlayer.getColor());
+    assertEquals(PlayerColor.RED, redPlayer.getColor());
+    assertEquals(PlayerColor.BLUE, bluePlayer.getColor());
   }
 
   @Test
   public void testGetHand() {
     List<Card> deckCopy = new ArrayList<>(testDeck);
     List<Card> originalDeckCopy = new ArrayList<>(deckCopy);
-    Player player = new Player("red", deckCopy, mockModel);
+    Player player = new Player(PlayerColor.RED, deckCopy, mockModel);
 
     List<Card> hand = player.getHand();
     assertNotNull(hand);
@@ -114,7 +120,7 @@ public class PlayerTest {
   @Test
   public void testRemoveCardFromHand() {
     List<Card> deckCopy = new ArrayList<>(testDeck);
-    Player player = new Player("red", deckCopy, mockModel);
+    Player player = new Player(PlayerColor.RED, deckCopy, mockModel);
 
     Card cardToRemove = player.getHand().get(2);
     player.removeCardFromHand(cardToRemove);
@@ -129,7 +135,7 @@ public class PlayerTest {
   @Test
   public void testRemoveCardFromHand_CardNotInHand() {
     List<Card> deckCopy = new ArrayList<>(testDeck);
-    Player player = new Player("red", deckCopy, mockModel);
+    Player player = new Player(PlayerColor.RED, deckCopy, mockModel);
 
     // Create a card that's not in the player's hand
     Card notInHand = createTestCard("NotInHand", 1, 10);
@@ -147,7 +153,7 @@ public class PlayerTest {
   @Test
   public void testDrawCard() {
     List<Card> deckCopy = new ArrayList<>(testDeck);
-    Player player = new Player("red", deckCopy, mockModel);
+    Player player = new Player(PlayerColor.RED, deckCopy, mockModel);
     int initialHandSize = player.getHand().size();
     int initialDeckSize = deckCopy.size();
 
@@ -166,7 +172,7 @@ public class PlayerTest {
     List<Card> emptyDeck = new ArrayList<>();
     MockPawnsBoardModel emptyDeckModel = new MockPawnsBoardModel(5, 5, testDeck, 0);
 
-    Player player = new Player("red", emptyDeck, emptyDeckModel);
+    Player player = new Player(PlayerColor.RED, emptyDeck, emptyDeckModel);
     int initialHandSize = player.getHand().size();
 
     // Try to draw from empty deck
@@ -176,6 +182,49 @@ public class PlayerTest {
     assertEquals(initialHandSize, player.getHand().size());
   }
 
+  /**
+   * Draws every card left in a player's deck and returns the whole hand, sorted by name.
+   */
+  private List<String> allCards(Player player) {
+    for (int i = 0; i < testDeck.size(); i++) {
+      player.drawCard();
+    }
+    List<String> names = new ArrayList<>();
+    for (Card card : player.getHand()) {
+      names.add(card.getName());
+    }
+    Collections.sort(names);
+    return names;
+  }
+
+  @Test
+  public void testSampleFor_VisibleHandKeepsHand() {
+    Player player = new Player(PlayerColor.RED, new ArrayList<>(testDeck), mockModel);
+    List<Card> hand = new ArrayList<>(player.getHand());
+    PawnsBoardModel sampleModel = new MockPawnsBoardModel(5, 5, testDeck, 5);
+
+    Player sample = player.sampleFor(sampleModel, new Random(1), true);
+
+    assertEquals(hand, sample.getHand());
+    assertSame(sample, sampleModel.getPlayer(PlayerColor.RED));
+    assertEquals(allCards(player), allCards(sample));
+  }
+
+  @Test
+  public void testSampleFor_HiddenHandRedealsUnseenCards() {
+    Player player = new Player(PlayerColor.BLUE, new ArrayList<>(testDeck), mockModel);
+    List<Card> hand = new ArrayList<>(player.getHand());
+    PawnsBoardModel sampleModel = new MockPawnsBoardModel(5, 5, testDeck, 5);
+
+    Player sample = player.sampleFor(sampleModel, new Random(1), false);
+
+    assertEquals(hand.size(), sample.getHand().size());
+    assertNotEquals(hand, sample.getHand());
+    // the original keeps its hand, and both hold the same cards overall
+    assertEquals(hand, player.getHand());
+    assertEquals(allCards(player), allCards(sample));
+  }
+
   /**
    * A mock model class specifically for testing the Player class.
    */
@@ -192,4 +241,28 @@ public class PlayerTest {
       return handSize;
     }
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testHandStopsGrowingWhenFull() {
+    // a 1x3 board where red keeps drawing, as if passing turn after turn
+    PawnsBoardModel model = new PawnsBoardModel(1, 3, 300, 4);
+    Player red = new Player(PlayerColor.RED, createTestDeck(300), model);
+    for (int i = 0; i < 100; i++) {
+      red.drawCard();
+    }
+    assertEquals(Player.MAX_HAND_SIZE, red.getHand().size());
+
+    // every card in the full hand can still be played, and a strategy can choose among them
+    MoveList moves = new MoveList();
+    red.getLegalMoves(moves);
+    assertEquals(Player.MAX_HAND_SIZE, moves.size());
+    assertEquals(Player.MAX_HAND_SIZE - 1, MoveList.cardIndex(moves.get(moves.size() - 1)));
+    assertNotEquals(MoveList.NO_MOVE, new FillFirstStrategy().chooseMove(model, red));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testStartingHandTooLarge() {
+    new Player(PlayerColor.RED, createTestDeck(300),
+            new PawnsBoardModel(1, 3, 300, Player.MAX_HAND_SIZE + 1));
+  }
+}
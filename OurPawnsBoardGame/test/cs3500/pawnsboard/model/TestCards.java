@@ -0,0 +1,60 @@
+package cs3500.pawnsboard.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cards and decks shared by the tests of the strategies and controllers: cross-shaped cards that
+ * influence the four cells around them, with a few costs and values.
+ */
+public final class TestCards {
+
+  private TestCards() {
+  }
+
+  /**
+   * Creates a card whose influence grid marks the four orthogonal neighbours with 'I'.
+   * @param name the card's name.
+   * @param cost the card's cost.
+   * @param value the card's value.
+   * @return the card.
+   */
+  public static Card createCrossCard(String name, int cost, int value) {
+    char[][] grid = new char[5][5];
+    for (int i = 0; i < 5; i++) {
+      for (int j = 0; j < 5; j++) {
+        grid[i][j] = 'X';
+      }
+    }
+    grid[2][2] = 'C';
+    grid[1][2] = 'I';
+    grid[2][1] = 'I';
+    grid[2][3] = 'I';
+    grid[3][2] = 'I';
+    return new Card(name, cost, value, grid);
+  }
+
+  /**
+   * Creates a deck of cross cards with costs 1 and 2 and values 1 to 5, in a fixed order.
+   * @param size the number of cards.
+   * @return a new, modifiable deck.
+   */
+  public static List<Card> createDeck(int size) {
+    return createDeck(size, 2);
+  }
+
+  /**
+   * Creates a deck of cross cards with costs 1 to {@code maxCost} and values 1 to 5, in a fixed
+   * order.
+   * @param size the number of cards.
+   * @param maxCost the highest cost in the deck (1 to 3).
+   * @return a new, modifiable deck.
+   */
+  public static List<Card> createDeck(int size, int maxCost) {
+    List<Card> deck = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      deck.add(createCrossCard("Card" + i, 1 + i % maxCost, 1 + i % 5));
+    }
+    return deck;
+  }
+}
@@ -0,0 +1,86 @@
+package cs3500.pawnsboard.strategy;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import cs3500.pawnsboard.model.MoveList;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerColor;
+
+import static cs3500.pawnsboard.model.TestCards.createDeck;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class for the AbstractPawnsBoardStrategy class, checking that simulating moves on the
+ * model with make/undo allocates nothing once warmed up.
+ */
+public class AbstractPawnsBoardStrategyTest {
+
+  /**
+   * A strategy exposing the simulation helpers, which simulates every legal move on the model and
+   * returns nothing.
+   */
+  private static class SimulatingStrategy extends AbstractPawnsBoardStrategy {
+    private final MoveList legalMoves = new MoveList();
+    private int checksum;
+
+    @Override
+    public int chooseMove(PawnsBoardModel model, Player player) {
+      player.getLegalMoves(legalMoves);
+      for (int i = 0; i < legalMoves.size(); i++) {
+        checksum += simulateRowScoreAfterMove(model, legalMoves.get(i), player);
+        checksum += evaluateBoard(model.getBoard(), player);
+      }
+      return MoveList.NO_MOVE;
+    }
+  }
+
+  /**
+   * Returns the bytes allocated so far by the calling thread.
+   */
+  private static long allocatedBytes() {
+    return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+            .getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  @Test
+  public void testSimulatingMovesAllocatesNothing() {
+    PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 5);
+    Player red = new Player(PlayerColor.RED, createDeck(20), model);
+    new Player(PlayerColor.BLUE, createDeck(20), model);
+    SimulatingStrategy strategy = new SimulatingStrategy();
+    MoveList moves = new MoveList();
+    red.getLegalMoves(moves);
+
+    // warm up: grow the move list and the undo journal, and compile the code
+    for (int i = 0; i < 2000; i++) {
+      strategy.chooseMove(model, red);
+    }
+
+    // reading the counter costs a few bytes of its own, so compare a short and a long run:
+    // anything allocated per simulated move would show up as a difference between them
+    long shortRun = Long.MAX_VALUE;
+    long longRun = Long.MAX_VALUE;
+    for (int attempt = 0; attempt < 3; attempt++) {
+      shortRun = Math.min(shortRun, bytesPerRun(strategy, model, red, 100));
+      longRun = Math.min(longRun, bytesPerRun(strategy, model, red, 400));
+    }
+
+    assertEquals("bytes allocated by " + 300 * moves.size() + " more simulated moves",
+            shortRun, longRun);
+  }
+
+  /**
+   * Returns the bytes the calling thread allocates choosing a move the given number of times.
+   */
+  private long bytesPerRun(SimulatingStrategy strategy, PawnsBoardModel model, Player player,
+                           int rounds) {
+    long before = allocatedBytes();
+    for (int i = 0; i < rounds; i++) {
+      strategy.chooseMove(model, player);
+    }
+    return allocatedBytes() - before;
+  }
+}
@@ -0,0 +1,71 @@
+package cs3500.pawnsboard.strategy;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import cs3500.pawnsboard.model.MoveList;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerColor;
+
+import static cs3500.pawnsboard.model.TestCards.createDeck;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class for the ChainedStrategy class, checking that its strategies share one simulation of
+ * each move per turn without changing the chosen move.
+ */
+public class ChainedStrategyTest {
+
+  /**
+   * Counts a player's legal moves.
+   */
+  private int countMoves(Player player) {
+    MoveList moves = new MoveList();
+    player.getLegalMoves(moves);
+    return moves.size();
+  }
+
+  @Test
+  public void testChainSimulatesEachMoveOnce() {
+    PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 5);
+    Player red = new Player(PlayerColor.RED, createDeck(20), model);
+    new Player(PlayerColor.BLUE, createDeck(20), model);
+    List<PawnsBoardStrategy> strategies = new ArrayList<>();
+    strategies.add(new ControlBoardStrategy());
+    strategies.add(new MaximizeRowScoreStrategy());
+    strategies.add(new ControlBoardStrategy());
+    ChainedStrategy chain = new ChainedStrategy(strategies);
+
+    int move = chain.chooseMove(model, red);
+
+    assertEquals(new ControlBoardStrategy().chooseMove(model, red), move);
+    // three strategies and the final evaluation, but every legal move is played only once
+    assertEquals(countMoves(red), chain.getSimulationCache().getSimulationCount());
+  }
+
+  @Test
+  public void testCacheIsDiscardedBetweenTurns() {
+    PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 5);
+    Player red = new Player(PlayerColor.RED, createDeck(20), model);
+    Player blue = new Player(PlayerColor.BLUE, createDeck(20), model);
+    List<PawnsBoardStrategy> strategies = new ArrayList<>();
+    strategies.add(new ControlBoardStrategy());
+    strategies.add(new ControlBoardStrategy());
+    ChainedStrategy chain = new ChainedStrategy(strategies);
+
+    Player[] players = {red, blue};
+    long expectedSimulations = 0;
+    for (int turn = 0; turn < 4; turn++) {
+      Player player = players[turn % 2];
+      expectedSimulations += countMoves(player);
+      int move = chain.chooseMove(model, player);
+      assertEquals("turn " + turn, new ControlBoardStrategy().chooseMove(model, player), move);
+      assertEquals("turn " + turn, expectedSimulations,
+              chain.getSimulationCache().getSimulationCount());
+      model.makeMove(player, MoveList.row(move), MoveList.col(move), MoveList.cardIndex(move));
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package cs3500.pawnsboard.strategy;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.MoveList;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerColor;
+
+import static cs3500.pawnsboard.model.TestCards.createCrossCard;
+import static cs3500.pawnsboard.model.TestCards.createDeck;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the DeterminizedStrategy class, checking that it votes over sampled games
+ * without changing the real one, that its choice does not depend on the number of threads, and
+ * that it samples quickly enough to be played with.
+ */
+public class DeterminizedStrategyTest {
+
+  /**
+   * Asserts that the move is one of the player's legal moves.
+   */
+  private void assertLegal(Player player, int move) {
+    MoveList legal = new MoveList();
+    player.getLegalMoves(legal);
+    assertTrue("illegal move " + move, legal.indexOf(move) >= 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_NullFactory() {
+    new DeterminizedStrategy(null, 10);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_InvalidSamples() {
+    new DeterminizedStrategy(FillFirstStrategy::new, 0);
+  }
+
+  @Test
+  public void testVotesForTheOnlyChoiceOfASampleFreeStrategy() {
+    PawnsBoardModel model = new PawnsBoardModel(3, 5, 30, 3);
+    Player red = new Player(PlayerColor.RED, createDeck(15), model);
+    new Player(PlayerColor.BLUE, createDeck(15), model);
+
+    // fill-first never looks at the opponent, so every sample votes for the same move
+    assertEquals(new FillFirstStrategy().chooseMove(model, red),
+            new DeterminizedStrategy(FillFirstStrategy::new, 20).chooseMove(model, red));
+  }
+
+  @Test
+  public void testPassesToEndAWonGame() {
+    PawnsBoardModel model = new PawnsBoardModel(3, 5, 30, 3);
+    Player red = new Player(PlayerColor.RED, createDeck(15), model);
+    new Player(PlayerColor.BLUE, createDeck(15), model);
+    model.getCell(0, 0).placeCard(createCrossCard("Lead", 1, 3), PlayerColor.RED);
+    model.setConsecutivePasses(1);
+
+    // whatever blue holds, passing wins at once
+    assertEquals(MoveList.NO_MOVE, new DeterminizedStrategy(() -> new MiniMaxStrategy(2), 16)
+            .chooseMove(model, red));
+  }
+
+  @Test
+  public void testSamplingLeavesModelUnchanged() {
+    PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 4);
+    Player red = new Player(PlayerColor.RED, createDeck(20), model);
+    Player blue = new Player(PlayerColor.BLUE, createDeck(20), model);
+    long hash = model.getStateHash();
+    List<Card> redHand = new ArrayList<>(red.getHand());
+    List<Card> blueHand = new ArrayList<>(blue.getHand());
+
+    int move = new DeterminizedStrategy(() -> new MiniMaxStrategy(2), 32).chooseMove(model, red);
+
+    assertLegal(red, move);
+    assertEquals(hash, model.getStateHash());
+    assertEquals(redHand, red.getHand());
+    assertEquals(blueHand, blue.getHand());
+    assertSame(red, model.getPlayer(PlayerColor.RED));
+    assertSame(blue, model.getPlayer(PlayerColor.BLUE));
+  }
+
+  @Test
+  public void testParallelVotesMatchSequential() {
+    PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 4);
+    Player red = new Player(PlayerColor.RED, createDeck(20), model);
+    Player blue = new Player(PlayerColor.BLUE, createDeck(20), model);
+    ForkJoinPool pool = new ForkJoinPool(3);
+    DeterminizedStrategy sequential =
+            new DeterminizedStrategy(() -> new MiniMaxStrategy(2), 24, null, 5);
+    DeterminizedStrategy parallel =
+            new DeterminizedStrategy(() -> new MiniMaxStrategy(2), 24, pool, 5);
+
+    Player[] players = {red, blue};
+    for (int turn = 0; turn < 4; turn++) {
+      Player player = players[turn % 2];
+      int move = sequential.chooseMove(model, player);
+      assertEquals("turn " + turn, move, parallel.chooseMove(model, player));
+      if (move == MoveList.NO_MOVE) {
+        model.makePass();
+      }
+      else {
+        model.makeMove(player, MoveList.row(move), MoveList.col(move), MoveList.cardIndex(move));
+      }
+    }
+    pool.shutdown();
+  }
+
+  @Test
+  public void testHundredsOfSamplesPerSecond() {
+    PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 5);
+    Player red = new Player(PlayerColor.RED, createDeck(20), model);
+    new Player(PlayerColor.BLUE, createDeck(20), model);
+    DeterminizedStrategy strategy = new DeterminizedStrategy(() -> new MiniMaxStrategy(2), 200);
+    strategy.chooseMove(model, red); // warm up
+
+    long start = System.nanoTime();
+    int move = strategy.chooseMove(model, red);
+    long millis = (System.nanoTime() - start) / 1_000_000;
+
+    assertLegal(red, move);
+    assertTrue("200 samples took " + millis + " ms", millis < 1000);
+  }
+
+  @Test
+  public void testInterruptedSampleCastsNoVote() {
+    PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 4);
+    Player red = new Player(PlayerColor.RED, createDeck(20), model);
+    new Player(PlayerColor.BLUE, createDeck(20), model);
+
+    // like an untimed minimax interrupted mid-search: it gives up and answers with a pass
+    PawnsBoardStrategy interrupted = (sample, player) -> {
+      Thread.currentThread().interrupt();
+      return MoveList.NO_MOVE;
+    };
+    int move;
+    try {
+      move = new DeterminizedStrategy(() -> interrupted, 16).chooseMove(model, red);
+    } finally {
+      Thread.interrupted();
+    }
+    assertLegal(red, move);
+  }
+}
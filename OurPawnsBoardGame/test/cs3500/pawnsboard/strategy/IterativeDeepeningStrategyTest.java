@@ -0,0 +1,131 @@
+package cs3500.pawnsboard.strategy;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.MoveList;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerColor;
+
+import static cs3500.pawnsboard.model.TestCards.createDeck;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the IterativeDeepeningStrategy class, checking that it deepens as far as its
+ * budget allows, answers within that budget, and leaves the game unchanged.
+ */
+public class IterativeDeepeningStrategyTest {
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_NullSearch() {
+    new IterativeDeepeningStrategy(null, 100);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_InvalidBudget() {
+    new IterativeDeepeningStrategy(new MiniMaxStrategy(), 0);
+  }
+
+  @Test
+  public void testMatchesFixedDepthWithinBudget() {
+    PawnsBoardModel model = new PawnsBoardModel(3, 5, 30, 3);
+    Player red = new Player(PlayerColor.RED, createDeck(15), model);
+    new Player(PlayerColor.BLUE, createDeck(15), model);
+    IterativeDeepeningStrategy strategy =
+            new IterativeDeepeningStrategy(new MiniMaxStrategy(), 10_000, 3);
+
+    assertEquals(new MiniMaxStrategy(3).chooseMove(model, red), strategy.chooseMove(model, red));
+    assertEquals(3, strategy.getLastDepth());
+  }
+
+  /**
+   * A search whose first depth is instant and whose second takes many seconds, so that a test
+   * can interrupt the driver in the middle of a search.
+   */
+  private static class SlowSecondDepth implements DepthLimitedStrategy {
+    private final MiniMaxStrategy minimax = new MiniMaxStrategy(1, null);
+
+    @Override
+    public int chooseMove(PawnsBoardModel model, Player player) {
+      return minimax.chooseMove(model, player);
+    }
+
+    @Override
+    public int chooseMove(PawnsBoardModel model, Player player, int depth, long deadline) {
+      return minimax.chooseMove(model, player, (depth == 1) ? 1 : 14, deadline);
+    }
+  }
+
+  @Test
+  public void testInterruptAbandonsSearchInProgress() throws InterruptedException {
+    PawnsBoardModel model = new PawnsBoardModel(5, 7, 60, 6);
+    Player red = new Player(PlayerColor.RED, createDeck(30), model);
+    new Player(PlayerColor.BLUE, createDeck(30), model);
+    IterativeDeepeningStrategy strategy =
+            new IterativeDeepeningStrategy(new SlowSecondDepth(), 60_000);
+    long hash = model.getStateHash();
+    int[] move = {Integer.MIN_VALUE};
+    Thread search = new Thread(() -> move[0] = strategy.chooseMove(model, red));
+    search.start();
+    Thread.sleep(200);
+    search.interrupt();
+    search.join(2000);
+
+    // the minute-long budget is given up, and the deepest finished search still answers
+    assertTrue("the search ignored the interrupt", !search.isAlive());
+    assertEquals(1, strategy.getLastDepth());
+    assertNotEquals(DepthLimitedStrategy.ABORTED, move[0]);
+    assertNotEquals(MoveList.NO_MOVE, move[0]);
+    assertEquals(hash, model.getStateHash());
+  }
+
+  @Test
+  public void testAnswersWithinBudgetOnLargeBoard() {
+    PawnsBoardModel model = new PawnsBoardModel(101, 1001, 101 * 1001, 5);
+    List<Card> redDeck = createDeck(101 * 1001 / 2);
+    List<Card> blueDeck = createDeck(101 * 1001 / 2 + 1);
+    Player red = new Player(PlayerColor.RED, redDeck, model);
+    Player blue = new Player(PlayerColor.BLUE, blueDeck, model);
+    IterativeDeepeningStrategy strategy =
+            new IterativeDeepeningStrategy(new MiniMaxStrategy(), 50);
+    long hash = model.getStateHash();
+
+    long worst = 0;
+    for (int i = 0; i < 5; i++) {
+      long start = System.nanoTime();
+      int move = strategy.chooseMove(model, red);
+      worst = Math.max(worst, (System.nanoTime() - start) / 1_000_000);
+      assertNotEquals(MoveList.NO_MOVE, move);
+    }
+    assertTrue("slowest move took " + worst + " ms", worst < 150);
+    // abandoned searches undo everything they played
+    assertEquals(hash, model.getStateHash());
+    assertEquals(5, blue.getHand().size());
+  }
+
+  @Test
+  public void testFallsBackToFirstLegalMove() {
+    PawnsBoardModel model = new PawnsBoardModel(3, 5, 30, 3);
+    Player red = new Player(PlayerColor.RED, createDeck(15), model);
+    DepthLimitedStrategy neverFinishes = new DepthLimitedStrategy() {
+      @Override
+      public int chooseMove(PawnsBoardModel model, Player player, int depth, long deadline) {
+        return ABORTED;
+      }
+
+      @Override
+      public int chooseMove(PawnsBoardModel model, Player player) {
+        return ABORTED;
+      }
+    };
+    IterativeDeepeningStrategy strategy = new IterativeDeepeningStrategy(neverFinishes, 10);
+
+    assertEquals(MoveList.pack(0, 0, 0), strategy.chooseMove(model, red));
+    assertEquals(0, strategy.getLastDepth());
+  }
+}
@@ -0,0 +1,120 @@
+package cs3500.pawnsboard.strategy;
+
+import java.util.concurrent.ForkJoinPool;
+
+import cs3500.pawnsboard.model.Board;
+import cs3500.pawnsboard.model.MoveList;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerColor;
+
+import static cs3500.pawnsboard.model.TestCards.createDeck;
+
+/**
+ * Measures the figures of the large-board table in the README on the opening position of a
+ * 301 x 333 game (about 10^5 cells) whose 5-card hands hold cost-1 cards, so that every card can
+ * be played on every cell of the first column. Each operation is timed as the mean of at least a
+ * second of calls, after a second of warm-up; memory is that of one copy of the board. Unlike
+ * the node counts of {@link MoveOrderingBenchmark}, these figures depend on the machine.
+ */
+public final class LargeBoardBenchmark {
+
+  private static final int ROWS = 301;
+  private static final int COLUMNS = 333;
+  private static final int HAND_SIZE = 5;
+  private static final long WARM_UP_NANOS = 1_000_000_000L;
+  private static final long MEASURE_NANOS = 1_000_000_000L;
+  private static final int BOARD_COPIES = 20;
+  private static final long TIME_BUDGET_MILLIS = 150;
+
+  private LargeBoardBenchmark() {
+  }
+
+  /**
+   * Runs the benchmark and prints one line per figure.
+   * @param args ignored.
+   */
+  public static void main(String[] args) {
+    int cells = ROWS * COLUMNS;
+    PawnsBoardModel model = new PawnsBoardModel(ROWS, COLUMNS, cells, HAND_SIZE);
+    Player red = new Player(PlayerColor.RED, createDeck(cells / 2 + 1, 1), model);
+    new Player(PlayerColor.BLUE, createDeck(cells / 2 + 1, 1), model);
+    MoveList moves = new MoveList();
+    red.getLegalMoves(moves);
+    System.out.printf("%d x %d board, %,d cells, %,d legal moves in the opening%n",
+            ROWS, COLUMNS, cells, moves.size());
+
+    print("Legal-move generation plus one make/undo", millisPerCall(() -> {
+      red.getLegalMoves(moves);
+      int move = moves.get(0);
+      model.makeMove(red, MoveList.row(move), MoveList.col(move), MoveList.cardIndex(move));
+      model.undo();
+    }));
+    print("fillfirst move", millisPerMove(new FillFirstStrategy(), model, red));
+    print("maximizerowscore move", millisPerMove(new MaximizeRowScoreStrategy(), model, red));
+    print("controlboard move", millisPerMove(new ControlBoardStrategy(), model, red));
+    print("minimax move (default depth 2, one thread)",
+            millisPerMove(new MiniMaxStrategy(), model, red));
+    // the command-line player: iterative deepening on the common pool, past its time budget
+    MiniMaxStrategy search = new MiniMaxStrategy(MiniMaxStrategy.DEFAULT_DEPTH,
+            new TranspositionTable(MiniMaxStrategy.DEFAULT_TABLE_SIZE), ForkJoinPool.commonPool());
+    print("minimax from the command line, beyond its " + TIME_BUDGET_MILLIS + " ms budget",
+            millisPerMove(new IterativeDeepeningStrategy(search, TIME_BUDGET_MILLIS), model, red)
+                    - TIME_BUDGET_MILLIS);
+    print("Copying the board (cloneBoard)", millisPerCall(model::cloneBoard));
+    System.out.printf("%-58s %8.1f bytes per cell%n", "Board memory (one copy)",
+            bytesPerBoard(model) / cells);
+  }
+
+  private static double millisPerMove(PawnsBoardStrategy strategy, PawnsBoardModel model,
+                                      Player player) {
+    return millisPerCall(() -> strategy.chooseMove(model, player));
+  }
+
+  /**
+   * Returns the mean time of one call of the operation, in milliseconds.
+   */
+  private static double millisPerCall(Runnable op) {
+    long end = System.nanoTime() + WARM_UP_NANOS;
+    while (System.nanoTime() - end < 0) {
+      op.run();
+    }
+    long calls = 0;
+    long start = System.nanoTime();
+    long now;
+    do {
+      op.run();
+      calls++;
+      now = System.nanoTime();
+    } while (now - start < MEASURE_NANOS);
+    return (now - start) / 1e6 / calls;
+  }
+
+  /**
+   * Returns the heap taken by one copy of the model's board, from several copies kept alive.
+   */
+  private static double bytesPerBoard(PawnsBoardModel model) {
+    long before = usedMemory();
+    Board[] copies = new Board[BOARD_COPIES];
+    for (int i = 0; i < copies.length; i++) {
+      copies[i] = model.cloneBoard();
+    }
+    long after = usedMemory();
+    if (copies[copies.length - 1] == null) {
+      throw new IllegalStateException("Copies must stay reachable until measured.");
+    }
+    return (double) (after - before) / copies.length;
+  }
+
+  private static long usedMemory() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 4; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  private static void print(String operation, double millis) {
+    System.out.printf("%-58s %8.3f ms%n", operation, millis);
+  }
+}
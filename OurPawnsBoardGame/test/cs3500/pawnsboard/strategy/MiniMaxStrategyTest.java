@@ -0,0 +1,218 @@
+package cs3500.pawnsboard.strategy;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.MoveList;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerColor;
+
+import static cs3500.pawnsboard.model.TestCards.createCrossCard;
+import static cs3500.pawnsboard.model.TestCards.createDeck;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the MiniMaxStrategy class, checking the alpha-beta search's choices, that it
+ * leaves the game as it found it, and that it is fast enough on the standard board.
+ */
+public class MiniMaxStrategyTest {
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_InvalidDepth() {
+    new MiniMaxStrategy(0);
+  }
+
+  @Test
+  public void testDepthOneMatchesGreedyControl() {
+    PawnsBoardModel model = new PawnsBoardModel(3, 5, 30, 3);
+    Player red = new Player(PlayerColor.RED, createDeck(15), model);
+    new Player(PlayerColor.BLUE, createDeck(15), model);
+
+    // with one ply, the value of a move is the cell difference right after it, so the choice
+    // is the same as the control-board strategy's
+    assertEquals(new ControlBoardStrategy().chooseMove(model, red),
+            new MiniMaxStrategy(1).chooseMove(model, red));
+  }
+
+  @Test
+  public void testPassesToEndAWonGame() {
+    PawnsBoardModel model = new PawnsBoardModel(3, 5, 30, 3);
+    Player red = new Player(PlayerColor.RED, createDeck(15), model);
+    new Player(PlayerColor.BLUE, createDeck(15), model);
+    model.getCell(0, 0).placeCard(createCrossCard("Lead", 1, 3), PlayerColor.RED);
+    model.setConsecutivePasses(1);
+
+    // blue just passed and red is ahead, so passing wins at once
+    assertEquals(MoveList.NO_MOVE, new MiniMaxStrategy(2).chooseMove(model, red));
+  }
+
+  @Test
+  public void testPlaysOnWhenNotAhead() {
+    PawnsBoardModel model = new PawnsBoardModel(3, 5, 30, 3);
+    Player red = new Player(PlayerColor.RED, createDeck(15), model);
+    new Player(PlayerColor.BLUE, createDeck(15), model);
+    model.setConsecutivePasses(1);
+
+    // passing now would end the game in a tie, while playing a card leads the first row
+    assertNotEquals(MoveList.NO_MOVE, new MiniMaxStrategy(2).chooseMove(model, red));
+  }
+
+  @Test
+  public void testPlaysOnWhenPassingDoesNotEndTheGame() {
+    PawnsBoardModel model = new PawnsBoardModel(3, 5, 30, 3);
+    Player red = new Player(PlayerColor.RED, createDeck(15), model);
+    new Player(PlayerColor.BLUE, createDeck(15), model);
+    model.getCell(0, 0).placeCard(createCrossCard("Lead", 1, 3), PlayerColor.RED);
+
+    // red is ahead, but blue has not passed, so passing wins nothing and red keeps playing
+    for (int depth = 1; depth <= 3; depth++) {
+      assertNotEquals(MoveList.NO_MOVE, new MiniMaxStrategy(depth).chooseMove(model, red));
+    }
+  }
+
+  @Test
+  public void testSearchLeavesModelUnchanged() {
+    PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 4);
+    Player red = new Player(PlayerColor.RED, createDeck(20), model);
+    Player blue = new Player(PlayerColor.BLUE, createDeck(20), model);
+    long hash = model.getStateHash();
+    List<Card> redHand = new ArrayList<>(red.getHand());
+    List<Card> blueHand = new ArrayList<>(blue.getHand());
+
+    new MiniMaxStrategy(4).chooseMove(model, red);
+
+    assertEquals(hash, model.getStateHash());
+    assertEquals(redHand, red.getHand());
+    assertEquals(blueHand, blue.getHand());
+    assertEquals(PlayerColor.RED, model.getCurrentPlayerColor());
+  }
+
+  @Test
+  public void testInterruptStopsSearch() throws InterruptedException {
+    assertStopsWhenInterrupted(new MiniMaxStrategy(14, null));
+  }
+
+  @Test
+  public void testInterruptStopsParallelSearch() throws InterruptedException {
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      assertStopsWhenInterrupted(new MiniMaxStrategy(14, null, pool));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Starts a search that would take many seconds, interrupts it, and checks that it stops soon
+   * after with the game as it was.
+   */
+  private void assertStopsWhenInterrupted(MiniMaxStrategy strategy) throws InterruptedException {
+    PawnsBoardModel model = new PawnsBoardModel(5, 7, 60, 6);
+    Player red = new Player(PlayerColor.RED, createDeck(30), model);
+    new Player(PlayerColor.BLUE, createDeck(30), model);
+    long hash = model.getStateHash();
+    int[] move = {Integer.MIN_VALUE};
+    Thread search = new Thread(() -> move[0] = strategy.chooseMove(model, red));
+    search.start();
+    Thread.sleep(100);
+    search.interrupt();
+    search.join(2000);
+
+    assertTrue("the search ignored the interrupt", !search.isAlive());
+    assertEquals(MoveList.NO_MOVE, move[0]);
+    assertEquals(hash, model.getStateHash());
+  }
+
+  @Test
+  public void testDepthFourIsFastOnStandardBoard() {
+    PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 5);
+    Player red = new Player(PlayerColor.RED, createDeck(20), model);
+    new Player(PlayerColor.BLUE, createDeck(20), model);
+    MiniMaxStrategy strategy = new MiniMaxStrategy(4);
+    strategy.chooseMove(model, red); // warm up
+
+    long start = System.nanoTime();
+    int move = strategy.chooseMove(model, red);
+    long millis = (System.nanoTime() - start) / 1_000_000;
+
+    assertNotEquals(MoveList.NO_MOVE, move);
+    assertTrue("depth 4 took " + millis + " ms", millis < 100);
+  }
+
+  @Test
+  public void testTranspositionTableDoesNotChangeChoice() {
+    PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 4);
+    Player red = new Player(PlayerColor.RED, createDeck(20), model);
+    Player blue = new Player(PlayerColor.BLUE, createDeck(20), model);
+    MiniMaxStrategy withTable = new MiniMaxStrategy(4);
+    MiniMaxStrategy withoutTable = new MiniMaxStrategy(4, null);
+
+    Player[] players = {red, blue};
+    for (int turn = 0; turn < 6; turn++) {
+      Player player = players[turn % 2];
+      int move = withoutTable.chooseMove(model, player);
+      assertEquals("turn " + turn, move, withTable.chooseMove(model, player));
+      if (move == MoveList.NO_MOVE) {
+        model.makePass();
+      }
+      else {
+        model.makeMove(player, MoveList.row(move), MoveList.col(move), MoveList.cardIndex(move));
+      }
+    }
+  }
+
+  @Test
+  public void testParallelSearchMatchesSequential() {
+    PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 4);
+    Player red = new Player(PlayerColor.RED, createDeck(20), model);
+    Player blue = new Player(PlayerColor.BLUE, createDeck(20), model);
+    MiniMaxStrategy sequential = new MiniMaxStrategy(3);
+    ForkJoinPool[] pools = {new ForkJoinPool(1), new ForkJoinPool(2), new ForkJoinPool(4)};
+    MiniMaxStrategy[] parallel = new MiniMaxStrategy[pools.length];
+    for (int i = 0; i < pools.length; i++) {
+      parallel[i] = new MiniMaxStrategy(3, new TranspositionTable(1 << 12), pools[i]);
+    }
+
+    Player[] players = {red, blue};
+    for (int turn = 0; turn < 6; turn++) {
+      Player player = players[turn % 2];
+      long hash = model.getStateHash();
+      int move = sequential.chooseMove(model, player);
+      for (int i = 0; i < parallel.length; i++) {
+        assertEquals("turn " + turn + ", pool " + i, move, parallel[i].chooseMove(model, player));
+        assertEquals(hash, model.getStateHash());
+      }
+      if (move == MoveList.NO_MOVE) {
+        model.makePass();
+      }
+      else {
+        model.makeMove(player, MoveList.row(move), MoveList.col(move), MoveList.cardIndex(move));
+      }
+    }
+    for (ForkJoinPool pool : pools) {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testMoveOrderingSearchesFewerNodes() {
+    PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 5);
+    Player red = new Player(PlayerColor.RED, createDeck(20), model);
+    new Player(PlayerColor.BLUE, createDeck(20), model);
+    MiniMaxStrategy ordered = new MiniMaxStrategy(4, new TranspositionTable(1 << 16), null, true);
+    MiniMaxStrategy unordered =
+            new MiniMaxStrategy(4, new TranspositionTable(1 << 16), null, false);
+
+    // the same move is found, visiting well under half the positions on the opening board
+    assertEquals(unordered.chooseMove(model, red), ordered.chooseMove(model, red));
+    assertTrue(ordered.getLastNodeCount() + " vs " + unordered.getLastNodeCount(),
+            ordered.getLastNodeCount() * 2 < unordered.getLastNodeCount());
+  }
+}
@@ -0,0 +1,124 @@
+package cs3500.pawnsboard.strategy;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.MoveList;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerColor;
+
+import static cs3500.pawnsboard.model.TestCards.createCrossCard;
+import static cs3500.pawnsboard.model.TestCards.createDeck;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the MonteCarloStrategy class, checking that its choices are legal and
+ * repeatable, that it leaves the game as it found it, and that it keeps to its time budget.
+ */
+public class MonteCarloStrategyTest {
+
+  /**
+   * Asserts that the move is one of the player's legal moves.
+   */
+  private void assertLegal(Player player, int move) {
+    MoveList legal = new MoveList();
+    player.getLegalMoves(legal);
+    assertTrue("illegal move " + move, legal.indexOf(move) >= 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_InvalidIterations() {
+    new MonteCarloStrategy(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_NegativeBudget() {
+    new MonteCarloStrategy(100, -1, MonteCarloStrategy.Playout.RANDOM, null, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_NullPlayout() {
+    new MonteCarloStrategy(100, 0, null, null, 0);
+  }
+
+  @Test
+  public void testSameSeedSameChoice() {
+    PawnsBoardModel model = new PawnsBoardModel(3, 5, 30, 3);
+    Player red = new Player(PlayerColor.RED, createDeck(15), model);
+    new Player(PlayerColor.BLUE, createDeck(15), model);
+
+    int first = new MonteCarloStrategy(2000).chooseMove(model, red);
+    assertLegal(red, first);
+    assertEquals(first, new MonteCarloStrategy(2000).chooseMove(model, red));
+  }
+
+  @Test
+  public void testPassesToEndAWonGame() {
+    PawnsBoardModel model = new PawnsBoardModel(3, 5, 30, 3);
+    Player red = new Player(PlayerColor.RED, createDeck(15), model);
+    new Player(PlayerColor.BLUE, createDeck(15), model);
+    model.getCell(0, 0).placeCard(createCrossCard("Lead", 1, 3), PlayerColor.RED);
+    model.setConsecutivePasses(1);
+
+    // blue just passed and red is ahead, so passing wins every playout
+    assertEquals(MoveList.NO_MOVE, new MonteCarloStrategy(2000).chooseMove(model, red));
+  }
+
+  @Test
+  public void testSearchLeavesModelUnchanged() {
+    PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 4);
+    Player red = new Player(PlayerColor.RED, createDeck(20), model);
+    Player blue = new Player(PlayerColor.BLUE, createDeck(20), model);
+    long hash = model.getStateHash();
+    List<Card> redHand = new ArrayList<>(red.getHand());
+    List<Card> blueHand = new ArrayList<>(blue.getHand());
+
+    new MonteCarloStrategy(1000, 0, MonteCarloStrategy.Playout.FILL_FIRST, null, 7)
+            .chooseMove(model, red);
+
+    assertEquals(hash, model.getStateHash());
+    assertEquals(redHand, red.getHand());
+    assertEquals(blueHand, blue.getHand());
+    assertEquals(PlayerColor.RED, model.getCurrentPlayerColor());
+  }
+
+  @Test
+  public void testKeepsToTimeBudget() {
+    PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 5);
+    Player red = new Player(PlayerColor.RED, createDeck(20), model);
+    new Player(PlayerColor.BLUE, createDeck(20), model);
+    MonteCarloStrategy strategy = new MonteCarloStrategy(Integer.MAX_VALUE, 50,
+            MonteCarloStrategy.Playout.RANDOM, null, 0);
+
+    long start = System.nanoTime();
+    int move = strategy.chooseMove(model, red);
+    long millis = (System.nanoTime() - start) / 1_000_000;
+
+    assertLegal(red, move);
+    assertTrue("search took " + millis + " ms", millis < 250);
+  }
+
+  @Test
+  public void testRootParallelSearch() {
+    PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 4);
+    Player red = new Player(PlayerColor.RED, createDeck(20), model);
+    new Player(PlayerColor.BLUE, createDeck(20), model);
+    ForkJoinPool pool = new ForkJoinPool(3);
+    long hash = model.getStateHash();
+
+    // each tree's iterations and seed are fixed, so the summed visits are repeatable too
+    int move = new MonteCarloStrategy(900, 0, MonteCarloStrategy.Playout.RANDOM, pool, 3)
+            .chooseMove(model, red);
+    assertLegal(red, move);
+    assertEquals(move, new MonteCarloStrategy(900, 0, MonteCarloStrategy.Playout.RANDOM, pool, 3)
+            .chooseMove(model, red));
+    assertEquals(hash, model.getStateHash());
+    pool.shutdown();
+  }
+}
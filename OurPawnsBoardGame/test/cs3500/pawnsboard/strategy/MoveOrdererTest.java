@@ -0,0 +1,84 @@
+package cs3500.pawnsboard.strategy;
+
+import org.junit.Test;
+
+import cs3500.pawnsboard.model.MoveList;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerColor;
+
+import static cs3500.pawnsboard.model.TestCards.createDeck;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class for the MoveOrderer class, checking that table moves, captures, killers and history
+ * come in that order, and that moves of the same rank keep their generated order.
+ */
+public class MoveOrdererTest {
+
+  /**
+   * Lists a player's moves in generated order.
+   */
+  private MoveList movesOf(Player player) {
+    MoveList moves = new MoveList();
+    player.getLegalMoves(moves);
+    return moves;
+  }
+
+  @Test
+  public void testQuietMovesKeepGeneratedOrder() {
+    PawnsBoardModel model = new PawnsBoardModel(3, 5, 30, 3);
+    Player red = new Player(PlayerColor.RED, createDeck(15, 1), model);
+    MoveList moves = movesOf(red);
+    MoveList expected = movesOf(red);
+
+    new MoveOrderer().order(moves, 0, MoveList.NO_MOVE, model.getBoard(), red.getHand(),
+            PlayerColor.RED);
+
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i), moves.get(i));
+    }
+  }
+
+  @Test
+  public void testTableMoveThenCapturesThenKillers() {
+    PawnsBoardModel model = new PawnsBoardModel(3, 5, 30, 3);
+    Player red = new Player(PlayerColor.RED, createDeck(15, 1), model);
+    new Player(PlayerColor.BLUE, createDeck(15, 1), model);
+    // two blue pawns next to red's (1, 0): playing there captures them
+    model.getBoard().setCellPawns(0, 0, 2, PlayerColor.BLUE);
+    MoveList moves = movesOf(red);
+    int tableMove = moves.get(moves.size() - 1);
+    int capture = MoveList.pack(1, 0, 0);
+    int killer = MoveList.pack(2, 0, 1);
+
+    MoveOrderer orderer = new MoveOrderer();
+    orderer.recordCutoff(killer, 3, 2, model.getBoard(), red.getHand(), PlayerColor.RED);
+    orderer.order(moves, 3, tableMove, model.getBoard(), red.getHand(), PlayerColor.RED);
+
+    assertEquals(tableMove, moves.get(0));
+    assertEquals(capture, moves.get(1));
+    // the other cards on the capturing cell capture too
+    assertEquals(MoveList.pack(1, 0, 1), moves.get(2));
+    assertEquals(MoveList.pack(1, 0, 2), moves.get(3));
+    assertEquals(killer, moves.get(4));
+  }
+
+  @Test
+  public void testKillersBelongToTheirPly() {
+    PawnsBoardModel model = new PawnsBoardModel(3, 5, 30, 3);
+    Player red = new Player(PlayerColor.RED, createDeck(15, 1), model);
+    MoveList moves = movesOf(red);
+    int first = moves.get(0);
+    int killer = moves.get(moves.size() - 1);
+
+    MoveOrderer orderer = new MoveOrderer();
+    orderer.recordCutoff(killer, 5, 3, model.getBoard(), red.getHand(), PlayerColor.RED);
+    orderer.newSearch();
+    // the killer is forgotten, but its (halved) history still lifts it above the other quiet
+    // moves
+    orderer.order(moves, 5, MoveList.NO_MOVE, model.getBoard(), red.getHand(), PlayerColor.RED);
+    assertEquals(killer, moves.get(0));
+    assertEquals(first, moves.get(1));
+  }
+}
@@ -0,0 +1,73 @@
+package cs3500.pawnsboard.strategy;
+
+import cs3500.pawnsboard.model.MoveList;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerColor;
+import cs3500.pawnsboard.model.PlayerI;
+
+import static cs3500.pawnsboard.model.TestCards.createDeck;
+
+/**
+ * Prints the number of positions {@link MiniMaxStrategy} searches on a few reference positions,
+ * with no transposition table and no ordering, with the table only, and with both. These are the
+ * figures of the move-ordering table in the README. The counts do not depend on the machine, so
+ * a run must reproduce them exactly.
+ *
+ * <p>The reference positions are the first turns of a self-play game between two depth-2
+ * minimax players on the standard 5x5 board, with 20-card cross decks and a 5-card hand, after
+ * the player to move has drawn.</p>
+ */
+public final class MoveOrderingBenchmark {
+
+  private static final int TABLE_SIZE = 1 << 16;
+  private static final int POSITIONS = 3;
+  private static final int[] DEPTHS = {4, 5};
+
+  private MoveOrderingBenchmark() {
+  }
+
+  /**
+   * Runs the benchmark and prints the table, one row per position and depth.
+   * @param args ignored.
+   */
+  public static void main(String[] args) {
+    System.out.println("| Position | Depth | No table, no ordering | Table only "
+            + "| Table and ordering |");
+    System.out.println("|---|---|---|---|---|");
+    for (int depth : DEPTHS) {
+      PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 5);
+      new Player(PlayerColor.RED, createDeck(20), model);
+      new Player(PlayerColor.BLUE, createDeck(20), model);
+      MiniMaxStrategy game = new MiniMaxStrategy(2);
+      for (int position = 1; position <= POSITIONS && !model.isGameOver(); position++) {
+        PlayerColor color = model.getCurrentPlayerColor();
+        Player player = (Player) model.getPlayer(color);
+        player.drawCard();
+        System.out.printf("| %s (%s) | %d | %,d | %,d | %,d |%n",
+                position == 1 ? "Opening" : "Move " + position,
+                color, depth,
+                nodes(new MiniMaxStrategy(depth, null, null, false), model, player),
+                nodes(new MiniMaxStrategy(depth, new TranspositionTable(TABLE_SIZE), null, false),
+                        model, player),
+                nodes(new MiniMaxStrategy(depth, new TranspositionTable(TABLE_SIZE), null, true),
+                        model, player));
+        play(model, player, game.chooseMove(model, player));
+      }
+    }
+  }
+
+  private static long nodes(MiniMaxStrategy search, PawnsBoardModel model, Player player) {
+    search.chooseMove(model, player);
+    return search.getLastNodeCount();
+  }
+
+  private static void play(PawnsBoardModel model, PlayerI player, int move) {
+    if (move == MoveList.NO_MOVE) {
+      model.makePass();
+    }
+    else {
+      model.makeMove(player, MoveList.row(move), MoveList.col(move), MoveList.cardIndex(move));
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package cs3500.pawnsboard.strategy;
+
+import org.junit.Test;
+
+import cs3500.pawnsboard.model.MoveList;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.PlayerColor;
+
+import static cs3500.pawnsboard.model.TestCards.createDeck;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class for the SimulationCache class, checking that cached results match playing the move,
+ * that a move is only played once per position, and that results do not outlive their position.
+ */
+public class SimulationCacheTest {
+
+  @Test
+  public void testResultsMatchPlayingTheMove() {
+    PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 5);
+    Player red = new Player(PlayerColor.RED, createDeck(20), model);
+    new Player(PlayerColor.BLUE, createDeck(20), model);
+    MoveList moves = new MoveList();
+    red.getLegalMoves(moves);
+    SimulationCache cache = new SimulationCache();
+    long hash = model.getStateHash();
+
+    for (int i = 0; i < moves.size(); i++) {
+      int move = moves.get(i);
+      int entry = cache.simulate(model, move, red);
+      model.makeMove(red, MoveList.row(move), MoveList.col(move), MoveList.cardIndex(move));
+      for (PlayerColor color : new PlayerColor[] {PlayerColor.RED, PlayerColor.BLUE}) {
+        assertEquals(model.getBoard().countOwned(color), cache.getOwned(entry, color));
+        assertEquals(model.getRowScore(MoveList.row(move), color),
+                cache.getRowScore(entry, color));
+      }
+      model.undo();
+    }
+    assertEquals(hash, model.getStateHash());
+  }
+
+  @Test
+  public void testEachMoveSimulatedOncePerPosition() {
+    PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 5);
+    Player red = new Player(PlayerColor.RED, createDeck(20), model);
+    new Player(PlayerColor.BLUE, createDeck(20), model);
+    MoveList moves = new MoveList();
+    red.getLegalMoves(moves);
+    SimulationCache cache = new SimulationCache();
+
+    // enough lookups to make the table grow, looked up again after it grew
+    for (int pass = 0; pass < 3; pass++) {
+      for (int i = 0; i < moves.size(); i++) {
+        int entry = cache.simulate(model, moves.get(i), red);
+        assertEquals(entry, cache.simulate(model, moves.get(i), red));
+      }
+    }
+    assertEquals(moves.size(), cache.getSimulationCount());
+
+    cache.clear();
+    cache.simulate(model, moves.get(0), red);
+    assertEquals(moves.size() + 1, cache.getSimulationCount());
+  }
+
+  @Test
+  public void testNewPositionDiscardsResults() {
+    PawnsBoardModel model = new PawnsBoardModel(5, 5, 40, 5);
+    Player red = new Player(PlayerColor.RED, createDeck(20), model);
+    Player blue = new Player(PlayerColor.BLUE, createDeck(20), model);
+    SimulationCache cache = new SimulationCache();
+    int redMove = MoveList.pack(1, 0, 0);
+    cache.simulate(model, redMove, red);
+
+    // after a turn each, the same packed move plays another card on a changed board
+    model.makeMove(red, 2, 0, 0);
+    model.makeMove(blue, 2, 4, 0);
+    int after = cache.simulate(model, redMove, red);
+    model.makeMove(red, 1, 0, 0);
+    int expected = model.getBoard().countOwned(PlayerColor.RED);
+    model.undo();
+
+    assertEquals(2, cache.getSimulationCount());
+    assertEquals(expected, cache.getOwned(after, PlayerColor.RED));
+  }
+}
@@ -0,0 +1,75 @@
+package cs3500.pawnsboard.strategy;
+
+import org.junit.Test;
+
+import cs3500.pawnsboard.model.MoveList;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class for the TranspositionTable class, checking that entries round-trip through the
+ * packed array and that both replacement policies keep the right entry.
+ */
+public class TranspositionTableTest {
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_InvalidCapacity() {
+    new TranspositionTable(0);
+  }
+
+  @Test
+  public void testCapacityRoundsDown() {
+    assertEquals(1024, new TranspositionTable(1500).capacity());
+  }
+
+  @Test
+  public void testStoreAndFind() {
+    TranspositionTable table = new TranspositionTable(1024);
+    long key = 0x123456789ABCDEF0L;
+    assertEquals(-1, table.find(key));
+
+    table.store(key, 5, TranspositionTable.LOWER_BOUND, -(1 << 26) - 7,
+            MoveList.pack(4095, 8191, 63));
+    int slot = table.find(key);
+    assertEquals(5, table.getDepth(slot));
+    assertEquals(TranspositionTable.LOWER_BOUND, table.getBound(slot));
+    assertEquals(-(1 << 26) - 7, table.getScore(slot));
+    assertEquals(MoveList.pack(4095, 8191, 63), table.getMove(slot));
+
+    table.store(key, 0, TranspositionTable.EXACT, 3, MoveList.NO_MOVE);
+    slot = table.find(key);
+    assertEquals(0, table.getDepth(slot));
+    assertEquals(MoveList.NO_MOVE, table.getMove(slot));
+
+    // a key with the same slot but different high bits is a different position
+    assertEquals(-1, table.find(key ^ (1L << 40)));
+    table.clear();
+    assertEquals(-1, table.find(key));
+  }
+
+  @Test
+  public void testDepthPreferredReplacement() {
+    TranspositionTable table = new TranspositionTable(16);
+    long deep = 0x1000L;
+    long shallow = 0x2000L; // same slot as deep
+    table.store(deep, 6, TranspositionTable.EXACT, 1, MoveList.NO_MOVE);
+    table.store(shallow, 2, TranspositionTable.EXACT, 2, MoveList.NO_MOVE);
+    assertEquals(-1, table.find(shallow));
+    assertEquals(1, table.getScore(table.find(deep)));
+
+    // entries from an earlier search give way
+    table.newSearch();
+    table.store(shallow, 2, TranspositionTable.EXACT, 2, MoveList.NO_MOVE);
+    assertEquals(-1, table.find(deep));
+    assertEquals(2, table.getScore(table.find(shallow)));
+  }
+
+  @Test
+  public void testAlwaysReplace() {
+    TranspositionTable table = new TranspositionTable(16, TranspositionTable.Replacement.ALWAYS);
+    table.store(0x1000L, 6, TranspositionTable.EXACT, 1, MoveList.NO_MOVE);
+    table.store(0x2000L, 2, TranspositionTable.EXACT, 2, MoveList.NO_MOVE);
+    assertEquals(-1, table.find(0x1000L));
+    assertEquals(2, table.getScore(table.find(0x2000L)));
+  }
+}
@@ -6,6 +6,7 @@ import static org.junit.Assert.assertTrue;
 import cs3500.pawnsboard.model.Board;
 import cs3500.pawnsboard.model.Card;
 import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.PlayerColor;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -130,8 +131,8 @@ public class PawnsBoardTextualViewTest {
     Card blueCard = new Card("Card1", 1, 1, new char[5][5]);
 
     // Place cards manually
-    board.getCell(0, 0).placeCard(redCard, "red");
-    board.getCell(0, 4).placeCard(blueCard, "blue");
+    board.getCell(0, 0).placeCard(redCard, PlayerColor.RED);
+    board.getCell(0, 4).placeCard(blueCard, PlayerColor.BLUE);
 
     view.render(board);
     String output = outContent.toString();
@@ -153,8 +154,8 @@ public class PawnsBoardTextualViewTest {
     Board board = model.getBoard();
 
     // Modify some pawn counts
-    board.setCellPawns(1, 1, 2, "red");
-    board.setCellPawns(1, 3, 3, "blue");
+    board.setCellPawns(1, 1, 2, PlayerColor.RED);
+    board.setCellPawns(1, 3, 3, PlayerColor.BLUE);
 
     view.render(board);
     String output = outContent.toString();
@@ -179,12 +180,12 @@ public class PawnsBoardTextualViewTest {
     Card redCard = new Card("Card1", 1, 1, new char[5][5]);
     Card blueCard = new Card("Card1", 1, 1, new char[5][5]);
 
-    board.getCell(0, 0).placeCard(redCard, "red");
-    board.getCell(2, 4).placeCard(blueCard, "blue");
+    board.getCell(0, 0).placeCard(redCard, PlayerColor.RED);
+    board.getCell(2, 4).placeCard(blueCard, PlayerColor.BLUE);
 
     // Set some pawn configurations
-    board.setCellPawns(1, 1, 2, "red");
-    board.setCellPawns(1, 3, 3, "blue");
+    board.setCellPawns(1, 1, 2, PlayerColor.RED);
+    board.setCellPawns(1, 3, 3, PlayerColor.BLUE);
 
     view.render(board);
     String output = outContent.toString();
@@ -230,9 +231,9 @@ public class PawnsBoardTextualViewTest {
     for (int i = 0; i < board.getRows(); i++) {
       for (int j = 1; j < board.getColumns() - 1; j++) {
         if (j % 2 == 0) {
-          board.setCellPawns(i, j, 1, "red");
+          board.setCellPawns(i, j, 1, PlayerColor.RED);
         } else {
-          board.setCellPawns(i, j, 1, "blue");
+          board.setCellPawns(i, j, 1, PlayerColor.BLUE);
         }
       }
     }
@@ -241,7 +242,7 @@ public class PawnsBoardTextualViewTest {
     for (int i = 0; i < board.getRows(); i++) {
       for (int j = 0; j < board.getColumns(); j++) {
         // Alternate between red and blue cards
-        String owner = (i + j) % 2 == 0 ? "red" : "blue";
+        PlayerColor owner = (i + j) % 2 == 0 ? PlayerColor.RED : PlayerColor.BLUE;
         int value = (i * board.getColumns() + j) % 10 + 1; // Values from 1-10
         Card card = new Card("Card" + value, 1, value, new char[5][5]);
         board.getCell(i, j).placeCard(card, owner);
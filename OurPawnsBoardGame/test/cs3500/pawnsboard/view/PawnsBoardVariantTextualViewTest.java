@@ -16,6 +16,7 @@ import cs3500.pawnsboard.model.Cell;
 import cs3500.pawnsboard.model.PawnsBoardModel;
 import cs3500.pawnsboard.model.PawnsBoardVariantModel;
 import cs3500.pawnsboard.model.ReadOnlyPawnsBoardModelI;
+import cs3500.pawnsboard.model.PlayerColor;
 
 /**
  * Tests for the PawnsBoardVariantTextualView class.
@@ -145,7 +146,7 @@ public class PawnsBoardVariantTextualViewTest {
     // Add some pawns with influence
     Cell cell = board.getCell(1, 1);
     cell.setPawnCount(2);
-    cell.setOwner("red");
+    cell.setOwner(PlayerColor.RED);
     cell.addInfluence(3);
 
     view.render(board);
@@ -174,7 +175,7 @@ public class PawnsBoardVariantTextualViewTest {
     Card card = new Card("TestCard", 2, 5, grid);
 
     Cell cell = board.getCell(1, 1);
-    cell.placeCard(card, "red");
+    cell.placeCard(card, PlayerColor.RED);
     cell.addInfluence(2);
 
     view.render(board);
@@ -203,11 +204,11 @@ public class PawnsBoardVariantTextualViewTest {
     Card card = new Card("TestCard", 2, 5, grid);
 
     // Setup mixed board with card, pawns, and empty cells
-    board.getCell(0, 0).placeCard(card, "red");
+    board.getCell(0, 0).placeCard(card, PlayerColor.RED);
     board.getCell(0, 0).addInfluence(1);
 
     board.getCell(1, 1).setPawnCount(3);
-    board.getCell(1, 1).setOwner("blue");
+    board.getCell(1, 1).setOwner(PlayerColor.BLUE);
     board.getCell(1, 1).addInfluence(-2);
 
     view.render(board);
@@ -240,11 +241,11 @@ public class PawnsBoardVariantTextualViewTest {
 
     // Place red card in row 0
     Card redCard = new Card("RedCard", 1, 3, grid);
-    board.getCell(0, 0).placeCard(redCard, "red");
+    board.getCell(0, 0).placeCard(redCard, PlayerColor.RED);
 
     // Place blue card in row 1
     Card blueCard = new Card("BlueCard", 1, 4, grid);
-    board.getCell(1, 1).placeCard(blueCard, "blue");
+    board.getCell(1, 1).placeCard(blueCard, PlayerColor.BLUE);
 
     view.render(board);
     String output = outContent.toString();
@@ -316,39 +317,39 @@ public class PawnsBoardVariantTextualViewTest {
 
     // Populate board with mixed content
     // Top row: one card with influence, one empty cell, one pawn with influence
-    board.getCell(0, 0).placeCard(cardWithU, "red");
+    board.getCell(0, 0).placeCard(cardWithU, PlayerColor.RED);
     board.getCell(0, 0).addInfluence(2);
 
     // Middle cell is empty
     board.getCell(0, 1).setPawnCount(0);
-    board.getCell(0, 1).setOwner("");
+    board.getCell(0, 1).setOwner(PlayerColor.NONE);
 
     board.getCell(0, 2).setPawnCount(3);
-    board.getCell(0, 2).setOwner("blue");
+    board.getCell(0, 2).setOwner(PlayerColor.BLUE);
     board.getCell(0, 2).addInfluence(-1);
 
     // Middle row: pawn with no influence, card with negative influence, pawn with positive
     // influence
     board.getCell(1, 0).setPawnCount(1);
-    board.getCell(1, 0).setOwner("red");
+    board.getCell(1, 0).setOwner(PlayerColor.RED);
 
-    board.getCell(1, 1).placeCard(cardWithD, "blue");
+    board.getCell(1, 1).placeCard(cardWithD, PlayerColor.BLUE);
     board.getCell(1, 1).addInfluence(-3);
 
     board.getCell(1, 2).setPawnCount(2);
-    board.getCell(1, 2).setOwner("blue");
+    board.getCell(1, 2).setOwner(PlayerColor.BLUE);
     board.getCell(1, 2).addInfluence(4);
 
     // Bottom row: pawn with influence, card with influence, empty cell
     board.getCell(2, 0).setPawnCount(2);
-    board.getCell(2, 0).setOwner("red");
+    board.getCell(2, 0).setOwner(PlayerColor.RED);
     board.getCell(2, 0).addInfluence(1);
 
-    board.getCell(2, 1).placeCard(cardWithMixed, "red");
+    board.getCell(2, 1).placeCard(cardWithMixed, PlayerColor.RED);
     board.getCell(2, 1).addInfluence(3);
 
     board.getCell(2, 2).setPawnCount(0);
-    board.getCell(2, 2).setOwner("");
+    board.getCell(2, 2).setOwner(PlayerColor.NONE);
 
     // Set up new output capture for this test specifically
     ByteArrayOutputStream testOutput = new ByteArrayOutputStream();